@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.benchmark;
+
+import de.featjar.Common;
+import de.featjar.analysis.sat4j.computation.ComputeSolutionsSAT4J;
+import de.featjar.analysis.sat4j.computation.MIGBuilder;
+import de.featjar.analysis.sat4j.solver.ISelectionStrategy;
+import de.featjar.analysis.sat4j.solver.ModalImplicationGraph;
+import de.featjar.base.computation.Computations;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.BooleanSolutionList;
+import de.featjar.formula.assignment.ComputeBooleanClauseList;
+import de.featjar.formula.computation.ComputeCNFFormula;
+import de.featjar.formula.computation.ComputeNNFFormula;
+import de.featjar.formula.structure.Expressions;
+import de.featjar.formula.structure.IFormula;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Provides a feature model for benchmarks. Models are either bundled with the
+ * test fixtures (given by their path) or synthetic (given as
+ * {@code synthetic:<number of variables>}). Synthetic models resemble feature
+ * models: a random feature tree with optional, mandatory, or, and alternative
+ * groups, plus a few requires and excludes constraints between two distinct
+ * features. Cross-tree constraints are only kept if a configuration of the
+ * tree that was chosen beforehand satisfies them, so the models are always
+ * satisfiable.
+ *
+ * @author agent
+ */
+public abstract class AModelState extends Common {
+
+    private static final String SYNTHETIC_PREFIX = "synthetic:";
+
+    public BooleanClauseList clauseList;
+    public ModalImplicationGraph mig;
+    public BooleanSolutionList sample;
+    public int variableCount;
+
+    /**
+     * Returns the path or synthetic specification of the model.
+     *
+     * @return the model
+     */
+    protected abstract String getModel();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final String model = getModel();
+        IFormula formula = model.startsWith(SYNTHETIC_PREFIX)
+                ? createSyntheticFormula(Integer.parseInt(model.substring(SYNTHETIC_PREFIX.length())), 1)
+                : loadFormula(model);
+        clauseList = Computations.of(formula)
+                .map(ComputeNNFFormula::new)
+                .map(ComputeCNFFormula::new)
+                .map(ComputeBooleanClauseList::new)
+                .compute();
+        variableCount = clauseList.getVariableMap().getVariableCount();
+        mig = Computations.of(clauseList).map(MIGBuilder::new).compute();
+        sample = Computations.of(clauseList)
+                .map(ComputeSolutionsSAT4J::new)
+                .set(ComputeSolutionsSAT4J.SELECTION_STRATEGY, ISelectionStrategy.Strategy.FAST_RANDOM)
+                .set(ComputeSolutionsSAT4J.LIMIT, 100)
+                .set(ComputeSolutionsSAT4J.RANDOM_SEED, 1L)
+                .compute();
+    }
+
+    /**
+     * Returns random literals over the variables of the model.
+     *
+     * @param count  the number of literals
+     * @param random the random generator
+     * @return the literals, no variable occurs twice
+     */
+    public int[] getRandomLiterals(int count, Random random) {
+        final int[] literals = new int[Math.min(count, variableCount)];
+        final boolean[] used = new boolean[variableCount + 1];
+        for (int i = 0; i < literals.length; i++) {
+            int variable;
+            do {
+                variable = random.nextInt(variableCount) + 1;
+            } while (used[variable]);
+            used[variable] = true;
+            literals[i] = random.nextBoolean() ? variable : -variable;
+        }
+        return literals;
+    }
+
+    static IFormula createSyntheticFormula(int variableCount, long seed) {
+        final Random random = new Random(seed);
+        final List<IFormula> clauses = new ArrayList<>();
+        final boolean[] configuration = new boolean[variableCount + 1];
+        configuration[1] = true;
+        clauses.add(Expressions.literal(name(1)));
+
+        // feature tree, children of a group have consecutive variables
+        int nextVariable = 2;
+        for (int parent = 1; parent < nextVariable && nextVariable <= variableCount; parent++) {
+            final int groupCount = parent == 1 ? 1 + random.nextInt(2) : random.nextInt(3);
+            for (int g = 0; g < groupCount && nextVariable <= variableCount; g++) {
+                final int first = nextVariable;
+                final int last = Math.min(variableCount, first + random.nextInt(4));
+                nextVariable = last + 1;
+                for (int child = first; child <= last; child++) {
+                    clauses.add(Expressions.or(
+                            Expressions.literal(false, name(child)), Expressions.literal(name(parent))));
+                }
+                final int groupType = first == last ? random.nextInt(2) : random.nextInt(4);
+                switch (groupType) {
+                    case 0: // optional
+                        for (int child = first; child <= last; child++) {
+                            configuration[child] = configuration[parent] && random.nextBoolean();
+                        }
+                        break;
+                    case 1: // mandatory
+                        for (int child = first; child <= last; child++) {
+                            clauses.add(Expressions.or(
+                                    Expressions.literal(false, name(parent)), Expressions.literal(name(child))));
+                            configuration[child] = configuration[parent];
+                        }
+                        break;
+                    case 2: // or
+                        final List<IFormula> orGroup = new ArrayList<>();
+                        orGroup.add(Expressions.literal(false, name(parent)));
+                        final int selectedChild = first + random.nextInt(last - first + 1);
+                        for (int child = first; child <= last; child++) {
+                            orGroup.add(Expressions.literal(name(child)));
+                            configuration[child] =
+                                    configuration[parent] && (child == selectedChild || random.nextBoolean());
+                        }
+                        clauses.add(Expressions.or(orGroup.toArray(new IFormula[0])));
+                        break;
+                    default: // alternative
+                        final List<IFormula> alternativeGroup = new ArrayList<>();
+                        alternativeGroup.add(Expressions.literal(false, name(parent)));
+                        final int chosenChild = first + random.nextInt(last - first + 1);
+                        for (int child = first; child <= last; child++) {
+                            alternativeGroup.add(Expressions.literal(name(child)));
+                            configuration[child] = configuration[parent] && child == chosenChild;
+                            for (int other = child + 1; other <= last; other++) {
+                                clauses.add(Expressions.or(
+                                        Expressions.literal(false, name(child)),
+                                        Expressions.literal(false, name(other))));
+                            }
+                        }
+                        clauses.add(Expressions.or(alternativeGroup.toArray(new IFormula[0])));
+                        break;
+                }
+            }
+        }
+        // features that did not fit into the tree become optional children of the root
+        for (int variable = nextVariable; variable <= variableCount; variable++) {
+            clauses.add(Expressions.or(Expressions.literal(false, name(variable)), Expressions.literal(name(1))));
+        }
+
+        // cross-tree constraints
+        final int constraintCount = variableCount / 10;
+        int constraints = 0;
+        while (constraints < constraintCount && variableCount > 2) {
+            final int a = 2 + random.nextInt(variableCount - 1);
+            final int b = 2 + random.nextInt(variableCount - 1);
+            final boolean requires = random.nextBoolean();
+            if (a != b && (!configuration[a] || configuration[b] == requires)) {
+                clauses.add(Expressions.or(
+                        Expressions.literal(false, name(a)), Expressions.literal(requires, name(b))));
+                constraints++;
+            }
+        }
+        return Expressions.and(clauses.toArray(new IFormula[0]));
+    }
+
+    private static String name(int variable) {
+        return "x" + variable;
+    }
+}
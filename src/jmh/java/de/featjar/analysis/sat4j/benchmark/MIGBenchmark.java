@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.benchmark;
+
+import de.featjar.analysis.RuntimeContradictionException;
+import de.featjar.analysis.sat4j.computation.MIGBuilder;
+import de.featjar.analysis.sat4j.solver.IMIGVisitor;
+import de.featjar.analysis.sat4j.solver.MIGVisitorByte;
+import de.featjar.analysis.sat4j.solver.MIGVisitorInt;
+import de.featjar.analysis.sat4j.solver.MIGVisitorLight;
+import de.featjar.analysis.sat4j.solver.ModalImplicationGraph;
+import de.featjar.base.computation.Computations;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for building and traversing the {@link ModalImplicationGraph}.
+ * Each propagation assigns a few random literals and resets the visitor
+ * afterwards.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MIGBenchmark {
+
+    private static final int LITERAL_SETS = 1024;
+
+    @Param({"graph", "byte", "int", "light"})
+    public String visitorType;
+
+    @Param({"1", "10"})
+    public int literalCount;
+
+    private ModalImplicationGraph.Visitor graphVisitor;
+    private IMIGVisitor visitor;
+    private int[][] literals;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup(ModelState state) {
+        switch (visitorType) {
+            case "graph":
+                graphVisitor = state.mig.getVisitor();
+                break;
+            case "byte":
+                visitor = new MIGVisitorByte(state.mig);
+                break;
+            case "int":
+                visitor = new MIGVisitorInt(state.mig);
+                break;
+            case "light":
+                visitor = new MIGVisitorLight(state.mig);
+                break;
+            default:
+                throw new IllegalArgumentException(visitorType);
+        }
+        final Random random = new Random(0);
+        literals = new int[LITERAL_SETS][];
+        for (int i = 0; i < LITERAL_SETS; i++) {
+            literals[i] = state.getRandomLiterals(literalCount, random);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int propagateAndReset() {
+        next = (next + 1) & (LITERAL_SETS - 1);
+        int addedLiteralCount;
+        if (graphVisitor != null) {
+            try {
+                graphVisitor.propagate(literals[next]);
+            } catch (RuntimeContradictionException e) {
+                // contradicting literals are propagated as well
+            }
+            addedLiteralCount = graphVisitor.getAddedLiteralCount();
+            graphVisitor.reset();
+        } else {
+            try {
+                visitor.propagate(literals[next]);
+            } catch (RuntimeContradictionException e) {
+                // contradicting literals are propagated as well
+            }
+            addedLiteralCount = visitor.getAddedLiteralCount();
+            visitor.reset();
+        }
+        return addedLiteralCount;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public Object build(ModelState state) {
+        return Computations.of(state.clauseList).map(MIGBuilder::new).compute();
+    }
+}
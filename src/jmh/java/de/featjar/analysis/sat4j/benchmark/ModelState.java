@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Provides small and large models for benchmarks of single operations, such as
+ * solver calls and MIG propagations.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+public class ModelState extends AModelState {
+
+    @Param({"GPL/model.xml", "synthetic:200", "synthetic:1000"})
+    public String model;
+
+    @Override
+    protected String getModel() {
+        return model;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.benchmark;
+
+import de.featjar.analysis.sat4j.twise.SampleBitIndex;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for checking whether a sample covers an interaction.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SampleIndexBenchmark {
+
+    private static final int INTERACTIONS = 1024;
+
+    @Param({"2", "3"})
+    public int t;
+
+    private SampleBitIndex sampleIndex;
+    private int[][] interactions;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup(ModelState state) {
+        sampleIndex = new SampleBitIndex(state.sample.getAll(), state.variableCount);
+        final Random random = new Random(0);
+        interactions = new int[INTERACTIONS][];
+        for (int i = 0; i < INTERACTIONS; i++) {
+            interactions[i] = state.getRandomLiterals(t, random);
+        }
+    }
+
+    @Benchmark
+    public boolean test() {
+        next = (next + 1) & (INTERACTIONS - 1);
+        return sampleIndex.test(interactions[next]);
+    }
+}
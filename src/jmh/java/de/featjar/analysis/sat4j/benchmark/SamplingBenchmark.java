@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.benchmark;
+
+import de.featjar.analysis.sat4j.computation.YASA;
+import de.featjar.analysis.sat4j.twise.TWiseCountComputation;
+import de.featjar.base.computation.Computations;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for t-wise sampling and coverage counting. All benchmarks run a
+ * complete computation and are thus measured in single shot mode on
+ * {@link SmallModelState small models}.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class SamplingBenchmark {
+
+    @Param({"2", "3"})
+    public int t;
+
+    @Benchmark
+    public Object yasa(SmallModelState state) {
+        return Computations.of(state.clauseList)
+                .map(YASA::new)
+                .set(YASA.T, t)
+                .compute();
+    }
+
+    @Benchmark
+    public Object countCombinations(SmallModelState state) {
+        return Computations.of(state.sample)
+                .map(TWiseCountComputation::new)
+                .set(TWiseCountComputation.T, t)
+                .compute();
+    }
+}
@@ -21,6 +21,9 @@
 package de.featjar.analysis.sat4j.cli;
 
 import de.featjar.analysis.AAnalysisCommand;
+import de.featjar.analysis.sat4j.computation.ASAT4JAnalysis;
+import de.featjar.analysis.sat4j.solver.SolverStatisticsRecorder;
+import de.featjar.base.FeatJAR;
 import de.featjar.base.cli.Option;
 import de.featjar.base.cli.OptionList;
 import de.featjar.base.computation.Computations;
@@ -34,6 +37,9 @@ import de.featjar.formula.computation.ComputeNNFFormula;
 import de.featjar.formula.io.BooleanAssignmentGroupsFormats;
 import de.featjar.formula.io.FormulaFormats;
 import de.featjar.formula.structure.IFormula;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 
@@ -55,8 +61,71 @@ public abstract class ASAT4JAnalysisCommand<T, U> extends AAnalysisCommand<T> {
             .setValidator(timeout -> !timeout.isNegative())
             .setDefaultValue(Duration.ZERO);
 
+    /**
+     * Option for writing solver statistics to a JSON file.
+     */
+    public static final Option<Path> STATS_OPTION = Option.newOption("stats", Option.PathParser) //
+            .setDescription(
+                    "Path to a JSON file, to which the statistics of all used SAT solvers are written (e.g., number of calls and time spent in SAT4J)");
+
+    private SolverStatisticsRecorder statisticsRecorder = SolverStatisticsRecorder.disabled();
+
+    @Override
+    public int run(OptionList optionParser) {
+        Path statsPath = optionParser.getResult(STATS_OPTION).orElse(null);
+        if (statsPath == null) {
+            return runAnalysis(optionParser);
+        }
+        int exitCode;
+        String statistics;
+        try (SolverStatisticsRecorder recorder = new SolverStatisticsRecorder()) {
+            statisticsRecorder = recorder;
+            exitCode = runAnalysis(optionParser);
+            recorder.close();
+            statistics = recorder.toJSON();
+        } finally {
+            statisticsRecorder = SolverStatisticsRecorder.disabled();
+        }
+        try {
+            Files.writeString(statsPath, statistics + System.lineSeparator(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            FeatJAR.log().error(e);
+            return exitCode == 0 ? FeatJAR.ERROR_WRITING_RESULT : exitCode;
+        }
+        return exitCode;
+    }
+
+    /**
+     * Runs the analysis and writes its result.
+     *
+     * @param optionParser the options
+     * @return the exit code
+     */
+    protected int runAnalysis(OptionList optionParser) {
+        return super.run(optionParser);
+    }
+
+    /**
+     * Returns the recorder of the current run. Solvers that are not created by
+     * an {@link ASAT4JAnalysis} must be attached to it explicitly.
+     *
+     * @return the recorder, which is disabled if no statistics are written
+     */
+    protected SolverStatisticsRecorder getStatisticsRecorder() {
+        return statisticsRecorder;
+    }
+
+    @SuppressWarnings("unchecked")
     @Override
     protected IComputation<T> newComputation(OptionList optionParser) {
+        IComputation<T> computation = newAnalysis(optionParser, newFormulaComputation(optionParser));
+        if (statisticsRecorder.isEnabled() && computation instanceof ASAT4JAnalysis) {
+            computation = ((ASAT4JAnalysis<T>) computation).set(ASAT4JAnalysis.STATISTICS, statisticsRecorder);
+        }
+        return computation;
+    }
+
+    protected IComputation<BooleanClauseList> newFormulaComputation(OptionList optionParser) {
         Path inputPath = optionParser.getResult(INPUT_OPTION).orElseThrow();
         IComputation<BooleanClauseList> computation;
         BooleanAssignmentGroups cnf =
@@ -70,7 +139,7 @@ public abstract class ASAT4JAnalysisCommand<T, U> extends AAnalysisCommand<T> {
                     .map(ComputeCNFFormula::new)
                     .map(ComputeBooleanClauseList::new);
         }
-        return newAnalysis(optionParser, computation);
+        return computation;
     }
 
     protected abstract IComputation<T> newAnalysis(OptionList optionParser, IComputation<BooleanClauseList> formula);
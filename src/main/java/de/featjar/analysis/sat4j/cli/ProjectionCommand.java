@@ -33,6 +33,7 @@ import de.featjar.base.io.IO;
 import de.featjar.formula.VariableMap;
 import de.featjar.formula.assignment.BooleanAssignment;
 import de.featjar.formula.assignment.BooleanAssignmentGroups;
+import de.featjar.formula.assignment.BooleanClause;
 import de.featjar.formula.assignment.BooleanClauseList;
 import de.featjar.formula.assignment.ComputeBooleanClauseList;
 import de.featjar.formula.io.FormulaFormats;
@@ -77,6 +78,15 @@ public class ProjectionCommand extends ACommand {
             .setValidator(timeout -> !timeout.isNegative())
             .setDefaultValue(Duration.ZERO);
 
+    /**
+     * Maximum growth of the clause list.
+     */
+    public static final Option<Double> MAXIMUM_GROWTH_OPTION = Option.newOption("growth-bound", Double::parseDouble)
+            .setDescription(
+                    "Maximum size of the resulting clause list relative to the input clause list. Features are eliminated in order of their predicted clause growth. Features that would exceed the bound are kept as existentially quantified auxiliary variables. If not set, all features are eliminated.")
+            .setValidator(growth -> growth >= 0)
+            .setRequired(false);
+
     @Override
     public int run(OptionList optionParser) {
         Path outputPath = optionParser.getResult(OUTPUT_OPTION).orElse(null);
@@ -85,6 +95,7 @@ public class ProjectionCommand extends ACommand {
         Set<String> sliceLiterals = new LinkedHashSet<>(
                 optionParser.getResult(LITERALS_SLICE_OPTION).orElse(List.of()));
         Duration timeout = optionParser.getResult(TIMEOUT_OPTION).get();
+        Result<Double> maximumGrowth = optionParser.getResult(MAXIMUM_GROWTH_OPTION);
         BooleanAssignmentGroupsCSVFormat format = new BooleanAssignmentGroupsCSVFormat();
 
         IFormula inputFormula = optionParser
@@ -97,8 +108,6 @@ public class ProjectionCommand extends ACommand {
 
         VariableMap variableMap = cnf.getVariableMap();
 
-        VariableMap slicedVariableMap = variableMap.clone();
-
         if (!projectLiterals.isEmpty()) {
             List<String> inverseProjectLiterals = new ArrayList<>(inputFormula.getVariableNames());
             inverseProjectLiterals.removeAll(projectLiterals);
@@ -107,15 +116,11 @@ public class ProjectionCommand extends ACommand {
         }
 
         sliceLiterals.forEach((literal) -> {
-            if (slicedVariableMap.get(literal).isEmpty()) { // check if feature name exists
+            if (variableMap.get(literal).isEmpty()) { // check if feature name exists
                 FeatJAR.log().warning("Feature " + literal + " does not exist in feature model.");
-            } else {
-                slicedVariableMap.remove(literal);
             }
         });
 
-        slicedVariableMap.normalize();
-
         int[] array = sliceLiterals.stream()
                 .map(variableMap::get)
                 .filter(Result::isPresent)
@@ -125,6 +130,9 @@ public class ProjectionCommand extends ACommand {
         AComputation<BooleanClauseList> computation = Computations.of(cnf)
                 .map(CNFSlicer::new)
                 .set(CNFSlicer.VARIABLES_OF_INTEREST, new BooleanAssignment(array));
+        if (maximumGrowth.isPresent()) {
+            computation = computation.set(CNFSlicer.MAXIMUM_GROWTH, maximumGrowth.get());
+        }
 
         Result<BooleanClauseList> result;
 
@@ -138,6 +146,33 @@ public class ProjectionCommand extends ACommand {
         }
 
         if (result.isPresent()) {
+            // features that could not be eliminated within the growth bound remain as auxiliary variables
+            boolean[] remainingVariables = new boolean[variableMap.getVariableCount() + 1];
+            for (BooleanClause clause : result.get()) {
+                for (int literal : clause.get()) {
+                    remainingVariables[Math.abs(literal)] = true;
+                }
+            }
+            VariableMap slicedVariableMap = variableMap.clone();
+            List<String> auxiliaryVariables = new ArrayList<>();
+            for (String literal : sliceLiterals) {
+                Result<Integer> index = variableMap.get(literal);
+                if (index.isPresent()) {
+                    if (remainingVariables[index.get()]) {
+                        auxiliaryVariables.add(literal);
+                    } else {
+                        slicedVariableMap.remove(literal);
+                    }
+                }
+            }
+            slicedVariableMap.normalize();
+            if (!auxiliaryVariables.isEmpty()) {
+                FeatJAR.log()
+                        .info(
+                                "Kept %d features as existentially quantified auxiliary variables: %s",
+                                auxiliaryVariables.size(), auxiliaryVariables);
+            }
+
             BooleanClauseList clauseList = result.get().adapt(slicedVariableMap);
             try {
                 if (outputPath == null || outputPath.toString().equals("results")) {
@@ -21,6 +21,7 @@
 package de.featjar.analysis.sat4j.cli;
 
 import de.featjar.analysis.sat4j.computation.ComputeSolutionCountSAT4J;
+import de.featjar.base.cli.Option;
 import de.featjar.base.cli.OptionList;
 import de.featjar.base.computation.IComputation;
 import de.featjar.formula.assignment.BooleanClauseList;
@@ -36,6 +37,12 @@ import java.util.Optional;
  */
 public class SolutionCountCommand extends ASAT4JAnalysisCommand<BigInteger, BigInteger> {
 
+    /**
+     * Count and block each solution separately instead of whole cubes.
+     */
+    public static final Option<Boolean> NO_CUBES_OPTION = Option.newFlag("no-cubes") //
+            .setDescription("Count and block each solution separately instead of whole cubes of solutions.");
+
     @Override
     public Optional<String> getDescription() {
         return Optional.of("Computes number of solutions for a given formula using SAT4J.");
@@ -43,7 +50,10 @@ public class SolutionCountCommand extends ASAT4JAnalysisCommand<BigInteger, BigI
 
     @Override
     public IComputation<BigInteger> newAnalysis(OptionList optionParser, IComputation<BooleanClauseList> formula) {
-        return formula.map(ComputeSolutionCountSAT4J::new);
+        return formula.map(ComputeSolutionCountSAT4J::new)
+                .set(
+                        ComputeSolutionCountSAT4J.CUBE_BLOCKING,
+                        !optionParser.getResult(NO_CUBES_OPTION).get());
     }
 
     @Override
@@ -20,13 +20,35 @@
  */
 package de.featjar.analysis.sat4j.cli;
 
+import de.featjar.analysis.sat4j.computation.ComputeRandomSolutionsSAT4J;
 import de.featjar.analysis.sat4j.computation.ComputeSolutionsSAT4J;
+import de.featjar.analysis.sat4j.computation.ComputeUniformSolutionsSAT4J;
 import de.featjar.analysis.sat4j.solver.ISelectionStrategy;
+import de.featjar.base.FeatJAR;
 import de.featjar.base.cli.Option;
 import de.featjar.base.cli.OptionList;
+import de.featjar.base.computation.AComputation;
 import de.featjar.base.computation.IComputation;
+import de.featjar.base.data.Result;
+import de.featjar.formula.assignment.BooleanClause;
 import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.BooleanSolution;
 import de.featjar.formula.assignment.BooleanSolutionList;
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -60,6 +82,61 @@ public class SolutionsCommand extends ASAT4JAnalysisCommand<BooleanSolutionList,
     public static final Option<Boolean> FORBID_DUPLICATES_OPTION = Option.newFlag("no-duplicates") //
             .setDescription("Forbid dublicate configurations to be generated.");
 
+    /**
+     * Sample configurations near-uniformly.
+     */
+    public static final Option<Boolean> UNIFORM_OPTION = Option.newFlag("uniform") //
+            .setDescription(
+                    "Sample configurations near-uniformly using random XOR constraints. Configurations may be sampled multiple times.");
+
+    /**
+     * Desired number of configurations per cell for uniform sampling.
+     */
+    public static final Option<Integer> CELL_SIZE_OPTION = Option.newOption("cell-size", Option.IntegerParser) //
+            .setDescription("Desired number of configurations per cell for uniform sampling.") //
+            .setValidator(size -> size > 0) //
+            .setDefaultValue(32);
+
+    /**
+     * Number of solvers generating random configurations in parallel.
+     */
+    public static final Option<Integer> THREADS_OPTION = Option.newOption("threads", Option.IntegerParser) //
+            .setDescription(
+                    "Number of solvers generating random configurations in parallel (0 for one per processor). Only used with strategy FAST_RANDOM, implies no-duplicates.") //
+            .setValidator(threads -> threads >= 0) //
+            .setDefaultValue(1);
+
+    /**
+     * Only block the decision literals of each configuration.
+     */
+    public static final Option<Boolean> COMPACT_BLOCKING_OPTION = Option.newFlag("compact-blocking") //
+            .setDescription(
+                    "Only block the decision literals of each configuration to keep the clause database small. Requires no-duplicates.");
+
+    /**
+     * Write each configuration as soon as it is found.
+     */
+    public static final Option<Boolean> STREAM_OPTION = Option.newFlag("stream") //
+            .setDescription(
+                    "Write each configuration as soon as it is found instead of collecting all configurations first. Cannot be combined with uniform or threads.");
+
+    /**
+     * File for storing the blocking clauses of a streamed enumeration.
+     */
+    public static final Option<Path> CHECKPOINT_OPTION = Option.newOption("checkpoint", Option.PathParser) //
+            .setDescription(
+                    "File for storing the blocking clauses of a streamed enumeration. If the file exists, the enumeration is resumed and the output is cut back to the checkpoint and appended.") //
+            .setRequired(false);
+
+    /**
+     * Number of configurations after which output and checkpoint are flushed.
+     */
+    public static final Option<Integer> CHECKPOINT_INTERVAL_OPTION = Option.newOption(
+                    "checkpoint-interval", Option.IntegerParser) //
+            .setDescription("Number of configurations after which output and checkpoint are flushed.") //
+            .setValidator(interval -> interval > 0) //
+            .setDefaultValue(1000);
+
     @Override
     public Optional<String> getDescription() {
         return Optional.of("Computes solutions for a given formula using SAT4J.");
@@ -68,10 +145,48 @@ public class SolutionsCommand extends ASAT4JAnalysisCommand<BooleanSolutionList,
     @Override
     public IComputation<BooleanSolutionList> newAnalysis(
             OptionList optionParser, IComputation<BooleanClauseList> formula) {
+        if (optionParser.getResult(UNIFORM_OPTION).get()) {
+            return formula.map(ComputeUniformSolutionsSAT4J::new)
+                    .set(
+                            ComputeUniformSolutionsSAT4J.CELL_SIZE,
+                            optionParser.getResult(CELL_SIZE_OPTION).get())
+                    .set(
+                            ComputeUniformSolutionsSAT4J.LIMIT,
+                            optionParser.getResult(LIMIT_OPTION).get())
+                    .set(
+                            ComputeUniformSolutionsSAT4J.RANDOM_SEED,
+                            optionParser.getResult(RANDOM_SEED_OPTION).get())
+                    .set(
+                            ComputeUniformSolutionsSAT4J.SAT_TIMEOUT,
+                            optionParser.getResult(SAT_TIMEOUT_OPTION).get());
+        }
+        int threadCount = optionParser.getResult(THREADS_OPTION).get();
+        if (threadCount != 1
+                && optionParser.getResult(SELECTION_STRATEGY_OPTION).get() == ISelectionStrategy.Strategy.FAST_RANDOM) {
+            return formula.map(ComputeRandomSolutionsSAT4J::new)
+                    .set(ComputeRandomSolutionsSAT4J.THREAD_COUNT, threadCount)
+                    .set(
+                            ComputeRandomSolutionsSAT4J.LIMIT,
+                            optionParser.getResult(LIMIT_OPTION).get())
+                    .set(
+                            ComputeRandomSolutionsSAT4J.RANDOM_SEED,
+                            optionParser.getResult(RANDOM_SEED_OPTION).get())
+                    .set(
+                            ComputeRandomSolutionsSAT4J.SAT_TIMEOUT,
+                            optionParser.getResult(SAT_TIMEOUT_OPTION).get());
+        }
+        return newSolutionsAnalysis(optionParser, formula);
+    }
+
+    private AComputation<BooleanSolutionList> newSolutionsAnalysis(
+            OptionList optionParser, IComputation<BooleanClauseList> formula) {
         return formula.map(ComputeSolutionsSAT4J::new)
                 .set(
                         ComputeSolutionsSAT4J.FORBID_DUPLICATES,
                         optionParser.getResult(FORBID_DUPLICATES_OPTION).get())
+                .set(
+                        ComputeSolutionsSAT4J.COMPACT_BLOCKING,
+                        optionParser.getResult(COMPACT_BLOCKING_OPTION).get())
                 .set(
                         ComputeSolutionsSAT4J.LIMIT,
                         optionParser.getResult(LIMIT_OPTION).get())
@@ -86,6 +201,250 @@ public class SolutionsCommand extends ASAT4JAnalysisCommand<BooleanSolutionList,
                         optionParser.getResult(SAT_TIMEOUT_OPTION).get());
     }
 
+    @Override
+    protected int runAnalysis(OptionList optionParser) {
+        if (!optionParser.get(STREAM_OPTION)) {
+            return super.runAnalysis(optionParser);
+        }
+        if (optionParser.get(UNIFORM_OPTION)) {
+            FeatJAR.log().error("Option stream cannot be combined with option uniform.");
+            return FeatJAR.ERROR_COMPUTING_RESULT;
+        }
+        if (optionParser.get(THREADS_OPTION) != 1) {
+            FeatJAR.log().error("Option stream cannot be combined with option threads.");
+            return FeatJAR.ERROR_COMPUTING_RESULT;
+        }
+        boolean forbid = optionParser.get(FORBID_DUPLICATES_OPTION);
+        Path checkpointPath = optionParser.getResult(CHECKPOINT_OPTION).orElse(null);
+        Path outputPath = optionParser.getResult(OUTPUT_OPTION).orElse(null);
+        int checkpointInterval = optionParser.get(CHECKPOINT_INTERVAL_OPTION);
+        int limit = optionParser.get(LIMIT_OPTION);
+
+        List<BooleanClause> blockingClauses = List.of();
+        boolean resume = false;
+        if (checkpointPath != null) {
+            if (!forbid) {
+                FeatJAR.log().warning("Checkpoint is only written if duplicates are forbidden.");
+                checkpointPath = null;
+            } else if (Files.exists(checkpointPath)) {
+                try {
+                    blockingClauses = readCheckpoint(checkpointPath);
+                    if (outputPath != null) {
+                        restoreOutput(outputPath, blockingClauses.size());
+                    }
+                    FeatJAR.log().info("Resuming enumeration after %d configurations", blockingClauses.size());
+                    resume = true;
+                } catch (IOException | RuntimeException e) {
+                    FeatJAR.log().error(e);
+                    return FeatJAR.ERROR_COMPUTING_RESULT;
+                }
+            }
+        }
+
+        AComputation<BooleanSolutionList> analysis = newSolutionsAnalysis(
+                        optionParser, newFormulaComputation(optionParser))
+                .set(ComputeSolutionsSAT4J.LIMIT, Math.max(0, limit - blockingClauses.size()))
+                .set(ComputeSolutionsSAT4J.STATISTICS, getStatisticsRecorder());
+        if (resume) {
+            BooleanClauseList checkpoint = new BooleanClauseList(null, blockingClauses.size());
+            checkpoint.addAll(blockingClauses);
+            analysis = analysis.set(ComputeSolutionsSAT4J.ASSUMED_CLAUSE_LIST, checkpoint);
+        }
+
+        try (SolutionWriter solutionWriter = new SolutionWriter(
+                outputPath == null
+                        ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                        : Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8, getOpenOptions(resume)),
+                outputPath != null,
+                checkpointPath == null
+                        ? null
+                        : Files.newBufferedWriter(checkpointPath, StandardCharsets.UTF_8, getOpenOptions(resume)),
+                checkpointInterval)) {
+            Result<BooleanSolutionList> result = analysis.set(ComputeSolutionsSAT4J.SOLUTION_CONSUMER, solutionWriter)
+                    .computeResult();
+            solutionWriter.flush();
+            if (result.isEmpty()) {
+                FeatJAR.log().problems(result.getProblems());
+                FeatJAR.log().error("Couldn't compute result.");
+                return FeatJAR.ERROR_COMPUTING_RESULT;
+            }
+            if (result.getProblems().isEmpty()) {
+                FeatJAR.log()
+                        .info(
+                                "Enumeration finished after %d configurations",
+                                blockingClauses.size() + solutionWriter.solutionCount);
+            } else {
+                FeatJAR.log().problems(result.getProblems());
+                FeatJAR.log()
+                        .warning(
+                                "Enumeration stopped after %d configurations",
+                                blockingClauses.size() + solutionWriter.solutionCount);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            FeatJAR.log().error(e);
+            return FeatJAR.ERROR_WRITING_RESULT;
+        }
+        return 0;
+    }
+
+    /**
+     * Writes each solution and its blocking clause. The output is flushed before
+     * the pending blocking clauses are written, so the checkpoint never contains
+     * clauses of configurations that were not written.
+     */
+    private static class SolutionWriter implements ComputeSolutionsSAT4J.ISolutionConsumer, AutoCloseable {
+        private final Writer outputWriter;
+        private final boolean closeOutput;
+        private final Writer checkpointWriter;
+        private final int checkpointInterval;
+        private final StringBuilder pendingClauses = new StringBuilder();
+        private int pendingCount;
+        private int solutionCount;
+
+        private SolutionWriter(
+                Writer outputWriter, boolean closeOutput, Writer checkpointWriter, int checkpointInterval) {
+            this.outputWriter = outputWriter;
+            this.closeOutput = closeOutput;
+            this.checkpointWriter = checkpointWriter;
+            this.checkpointInterval = checkpointInterval;
+        }
+
+        @Override
+        public void accept(BooleanSolution solution, BooleanClause blockingClause) {
+            try {
+                outputWriter.write(solution.print());
+                outputWriter.write(System.lineSeparator());
+                if (checkpointWriter != null) {
+                    appendClause(pendingClauses, blockingClause);
+                }
+                solutionCount++;
+                if (++pendingCount == checkpointInterval) {
+                    flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void flush() throws IOException {
+            outputWriter.flush();
+            if (checkpointWriter != null) {
+                checkpointWriter.write(pendingClauses.toString());
+                checkpointWriter.flush();
+                pendingClauses.setLength(0);
+            }
+            pendingCount = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (closeOutput) {
+                    outputWriter.close();
+                } else {
+                    outputWriter.flush();
+                }
+            } finally {
+                if (checkpointWriter != null) {
+                    checkpointWriter.close();
+                }
+            }
+        }
+    }
+
+    private static StandardOpenOption[] getOpenOptions(boolean append) {
+        return append
+                ? new StandardOpenOption[] {
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND
+                }
+                : new StandardOpenOption[] {
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING
+                };
+    }
+
+    private static void appendClause(StringBuilder builder, BooleanClause clause) {
+        for (int literal : clause.get()) {
+            builder.append(literal);
+            builder.append(' ');
+        }
+        builder.append('0');
+        builder.append(System.lineSeparator());
+    }
+
+    /**
+     * Reads the blocking clauses of a checkpoint. Each line contains one clause in
+     * DIMACS notation, terminated by {@code 0}. A line that only contains
+     * {@code 0} is the empty clause, which blocks all remaining configurations.
+     * An incomplete last line, which may result from an interrupted enumeration,
+     * is removed from the file.
+     *
+     * @param checkpointPath the path of the checkpoint
+     * @return the blocking clauses
+     * @throws IOException if the checkpoint cannot be read
+     */
+    private static List<BooleanClause> readCheckpoint(Path checkpointPath) throws IOException {
+        truncateLines(checkpointPath, Long.MAX_VALUE);
+        List<BooleanClause> clauses = new ArrayList<>();
+        for (String line : Files.readAllLines(checkpointPath, StandardCharsets.UTF_8)) {
+            String[] tokens = line.trim().split("\\s+");
+            if (tokens[tokens.length - 1].equals("0")) {
+                clauses.add(new BooleanClause(Arrays.stream(tokens, 0, tokens.length - 1)
+                        .mapToInt(Integer::parseInt)
+                        .toArray()));
+            }
+        }
+        return clauses;
+    }
+
+    /**
+     * Removes all configurations from the output that are not covered by the
+     * checkpoint. These may have been written after the last checkpoint or may be
+     * cut off by an interruption.
+     *
+     * @param outputPath         the path of the output
+     * @param configurationCount the number of configurations in the checkpoint
+     * @throws IOException if the output cannot be truncated or contains less
+     *                     configurations than the checkpoint
+     */
+    private static void restoreOutput(Path outputPath, int configurationCount) throws IOException {
+        long lineCount = Files.exists(outputPath) ? truncateLines(outputPath, configurationCount) : 0;
+        if (lineCount < configurationCount) {
+            throw new IOException(String.format(
+                    "Output contains %d configurations, but checkpoint contains %d", lineCount, configurationCount));
+        }
+    }
+
+    /**
+     * Truncates a file after the given number of lines. Characters after the last
+     * line separator are always removed.
+     *
+     * @param path         the path of the file
+     * @param maxLineCount the maximum number of lines to keep
+     * @return the number of kept lines
+     * @throws IOException if the file cannot be read or truncated
+     */
+    private static long truncateLines(Path path, long maxLineCount) throws IOException {
+        long lineCount = 0;
+        long length = 0;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            long position = 0;
+            int b;
+            while (lineCount < maxLineCount && (b = in.read()) >= 0) {
+                position++;
+                if (b == '\n') {
+                    lineCount++;
+                    length = position;
+                }
+            }
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            if (channel.size() > length) {
+                channel.truncate(length);
+            }
+        }
+        return lineCount;
+    }
+
     @Override
     public String serializeResult(BooleanSolutionList list) {
         return list.print();
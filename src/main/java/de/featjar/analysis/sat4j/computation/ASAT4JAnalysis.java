@@ -23,6 +23,7 @@ package de.featjar.analysis.sat4j.computation;
 import de.featjar.analysis.sat4j.solver.SAT4JExplanationSolver;
 import de.featjar.analysis.sat4j.solver.SAT4JSolutionSolver;
 import de.featjar.analysis.sat4j.solver.SAT4JSolver;
+import de.featjar.analysis.sat4j.solver.SolverStatisticsRecorder;
 import de.featjar.base.FeatJAR;
 import de.featjar.base.computation.AComputation;
 import de.featjar.base.computation.Computations;
@@ -42,6 +43,12 @@ public abstract class ASAT4JAnalysis<T> extends AComputation<T> {
             Dependency.newDependency(BooleanClauseList.class);
     public static final Dependency<Duration> SAT_TIMEOUT = Dependency.newDependency(Duration.class);
     public static final Dependency<Long> RANDOM_SEED = Dependency.newDependency(Long.class);
+    /**
+     * The recorder to which all solvers of this analysis are attached. By
+     * default, {@link SolverStatisticsRecorder#disabled() nothing is recorded}.
+     */
+    public static final Dependency<SolverStatisticsRecorder> STATISTICS =
+            Dependency.newDependency(SolverStatisticsRecorder.class);
 
     public ASAT4JAnalysis(IComputation<BooleanClauseList> booleanClauseList, Object... computations) {
         super(
@@ -50,6 +57,7 @@ public abstract class ASAT4JAnalysis<T> extends AComputation<T> {
                 Computations.of(new BooleanClauseList(null, 0)),
                 Computations.of(Duration.ZERO),
                 Computations.of(1L),
+                Computations.of(SolverStatisticsRecorder.disabled()),
                 computations);
     }
 
@@ -70,6 +78,7 @@ public abstract class ASAT4JAnalysis<T> extends AComputation<T> {
         FeatJAR.log().debug("assuming %s", assumedAssignment);
         FeatJAR.log().debug("assuming %s", assumedClauseList);
         U solver = (U) newSolver(empty ? new BooleanClauseList(clauseList.getVariableMap()) : clauseList);
+        STATISTICS.get(dependencyList).attach(solver);
         solver.getClauseList().addAll(assumedClauseList);
         solver.getAssignment().addAll(assumedAssignment);
         solver.setTimeout(timeout);
@@ -97,8 +106,12 @@ public abstract class ASAT4JAnalysis<T> extends AComputation<T> {
     }
 
     abstract static class Explanation<T> extends ASAT4JAnalysis<T> {
-        public Explanation(IComputation<BooleanClauseList> booleanClauseList) {
-            super(booleanClauseList);
+        public Explanation(IComputation<BooleanClauseList> booleanClauseList, Object... computations) {
+            super(booleanClauseList, computations);
+        }
+
+        protected Explanation(Explanation<T> other) {
+            super(other);
         }
 
         @Override
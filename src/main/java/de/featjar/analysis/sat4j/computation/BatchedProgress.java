@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.computation;
+
+import de.featjar.base.computation.Progress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports steps to a {@link Progress} in batches. Each thread counts its steps
+ * locally and adds them to a shared counter only every {@link #getBatchSize()}
+ * steps, so incrementing costs no synchronization in the common case. Call
+ * {@link #flush()} after all threads finished to report the remaining steps.
+ * As threads report concurrently, the underlying progress may briefly show a
+ * slightly lower step than already counted.
+ *
+ * @author agent
+ */
+public class BatchedProgress {
+
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private class Counter {
+        private int steps;
+
+        private void flush() {
+            if (steps > 0) {
+                progress.setCurrentStep(currentStep.addAndGet(steps));
+                steps = 0;
+            }
+        }
+    }
+
+    private final Progress progress;
+    private final int batchSize;
+    private final AtomicLong currentStep = new AtomicLong();
+    private final List<Counter> counters = new ArrayList<>();
+    private final ThreadLocal<Counter> counter = ThreadLocal.withInitial(() -> {
+        Counter newCounter = new Counter();
+        synchronized (counters) {
+            counters.add(newCounter);
+        }
+        return newCounter;
+    });
+
+    public BatchedProgress(Progress progress) {
+        this(progress, DEFAULT_BATCH_SIZE);
+    }
+
+    public BatchedProgress(Progress progress, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than 0. Value was " + batchSize);
+        }
+        this.progress = progress;
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the total number of steps of the underlying progress.
+     *
+     * @param totalSteps the total number of steps
+     */
+    public void setTotalSteps(long totalSteps) {
+        progress.setTotalSteps(totalSteps);
+    }
+
+    /**
+     * Counts one step for the calling thread.
+     */
+    public void incrementCurrentStep() {
+        final Counter threadCounter = counter.get();
+        if (++threadCounter.steps >= batchSize) {
+            threadCounter.flush();
+        }
+    }
+
+    /**
+     * Reports all counted steps of all threads. Must only be called when no
+     * thread is counting steps concurrently.
+     */
+    public void flush() {
+        synchronized (counters) {
+            for (Counter threadCounter : counters) {
+                threadCounter.flush();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of steps that were reported to the underlying progress.
+     *
+     * @return the number of reported steps
+     */
+    public long getCurrentStep() {
+        return currentStep.get();
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.computation;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Ranks and unranks t-combinations of {@code n} elements in the combinatorial
+ * number system. A combination is given as its t element indices between
+ * {@code 0} and {@code n - 1} in ascending order. Its rank is
+ * {@code C(c[0], 1) + C(c[1], 2) + ... + C(c[t - 1], t)}, which enumerates all
+ * combinations in colexicographic order between {@code 0} and
+ * {@code C(n, t) - 1}. Thus, the combination space can be split into exact
+ * index ranges, checkpointed and resumed by index, and sampled uniformly.
+ * <p>
+ * Binomial coefficients are precomputed as {@code long}. If {@code C(n, t)}
+ * exceeds the range of {@code long}, only the {@link BigInteger} methods can be
+ * used.
+ *
+ * @author agent
+ */
+public class CombinationRanking {
+
+    private final int n, t;
+
+    /**
+     * {@code binomials[k][x]} holds {@code C(x, k)}, saturated at
+     * {@link Long#MAX_VALUE}.
+     */
+    private final long[][] binomials;
+
+    public CombinationRanking(int n, int t) {
+        if (t < 0 || n < t) {
+            throw new IllegalArgumentException(String.format("Invalid combination space: n = %d, t = %d", n, t));
+        }
+        this.n = n;
+        this.t = t;
+        binomials = new long[t + 1][n + 1];
+        for (int x = 0; x <= n; x++) {
+            binomials[0][x] = 1;
+        }
+        for (int k = 1; k <= t; k++) {
+            final long[] row = binomials[k];
+            final long[] previousRow = binomials[k - 1];
+            for (int x = k; x <= n; x++) {
+                final long sum = row[x - 1] + previousRow[x - 1];
+                row[x] = sum < 0 ? Long.MAX_VALUE : sum;
+            }
+        }
+    }
+
+    /**
+     * Computes a binomial coefficient exactly.
+     *
+     * @param n the number of elements
+     * @param k the number of selected elements
+     * @return {@code C(n, k)}
+     */
+    public static BigInteger binomial(int n, int k) {
+        if (k < 0 || k > n) {
+            return BigInteger.ZERO;
+        }
+        k = Math.min(k, n - k);
+        BigInteger result = BigInteger.ONE;
+        for (int i = 1; i <= k; i++) {
+            result = result.multiply(BigInteger.valueOf(n - k + i)).divide(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+
+    /**
+     * Computes a binomial coefficient, saturated at {@link Long#MAX_VALUE}. In
+     * contrast to the constructor, this accepts any {@code k}.
+     *
+     * @param n the number of elements
+     * @param k the number of selected elements
+     * @return {@code C(n, k)} or {@link Long#MAX_VALUE} if it does not fit into a
+     *         {@code long}
+     */
+    public static long saturatedBinomial(int n, int k) {
+        final BigInteger binomial = binomial(n, k);
+        return binomial.bitLength() < Long.SIZE ? binomial.longValue() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Adds two non-negative numbers, saturating at {@link Long#MAX_VALUE}.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return {@code a + b} or {@link Long#MAX_VALUE} if the sum does not fit into
+     *         a {@code long}
+     */
+    public static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    public int getN() {
+        return n;
+    }
+
+    public int getT() {
+        return t;
+    }
+
+    /**
+     * Returns whether the number of combinations fits into a {@code long}.
+     *
+     * @return {@code true} if {@link #size()} can be used
+     */
+    public boolean isLongRange() {
+        return binomials[t][n] != Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of combinations.
+     *
+     * @return {@code C(n, t)}
+     * @throws ArithmeticException if the number of combinations does not fit into
+     *                             a {@code long}
+     */
+    public long size() {
+        checkLongRange();
+        return binomials[t][n];
+    }
+
+    /**
+     * Returns the number of combinations, saturated at {@link Long#MAX_VALUE}.
+     *
+     * @return {@code C(n, t)} or {@link Long#MAX_VALUE} if it does not fit into a
+     *         {@code long}
+     */
+    public long saturatedSize() {
+        return binomials[t][n];
+    }
+
+    /**
+     * Returns the exact number of combinations.
+     *
+     * @return {@code C(n, t)}
+     */
+    public BigInteger bigSize() {
+        return isLongRange() ? BigInteger.valueOf(binomials[t][n]) : binomial(n, t);
+    }
+
+    /**
+     * Returns the rank of a combination.
+     *
+     * @param combination the element indices in ascending order
+     * @return the rank
+     * @throws ArithmeticException if the number of combinations does not fit into
+     *                             a {@code long}
+     */
+    public long rank(int[] combination) {
+        checkLongRange();
+        long rank = 0;
+        for (int i = 0; i < t; i++) {
+            rank += binomials[i + 1][combination[i]];
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the rank of a combination.
+     *
+     * @param combination the element indices in ascending order
+     * @return the rank
+     */
+    public BigInteger bigRank(int[] combination) {
+        if (isLongRange()) {
+            return BigInteger.valueOf(rank(combination));
+        }
+        BigInteger rank = BigInteger.ZERO;
+        for (int i = 0; i < t; i++) {
+            rank = rank.add(binomial(combination[i], i + 1));
+        }
+        return rank;
+    }
+
+    /**
+     * Computes the combination with the given rank. If the number of
+     * combinations exceeds the range of {@code long}, all ranks up to
+     * {@link Long#MAX_VALUE} can still be used.
+     *
+     * @param rank        the rank, between {@code 0} and {@link #saturatedSize()}
+     * @param combination the array to which the element indices are written in
+     *                    ascending order
+     * @return the given array
+     */
+    public int[] unrank(long rank, int[] combination) {
+        if (rank < 0 || (isLongRange() && rank >= binomials[t][n])) {
+            throw new IndexOutOfBoundsException(String.valueOf(rank));
+        }
+        if (rank == Long.MAX_VALUE) {
+            // saturated binomials cannot be distinguished from this rank
+            return unrank(BigInteger.valueOf(rank), combination);
+        }
+        int upper = n;
+        for (int k = t; k > 0; k--) {
+            // find the largest x < upper with C(x, k) <= rank, saturated binomials are always larger than rank
+            final long[] row = binomials[k];
+            int low = k - 1;
+            int high = upper - 1;
+            while (low < high) {
+                final int middle = (low + high + 1) >>> 1;
+                if (row[middle] <= rank) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            combination[k - 1] = low;
+            rank -= row[low];
+            upper = low;
+        }
+        return combination;
+    }
+
+    /**
+     * Computes the combination with the given rank.
+     *
+     * @param rank        the rank, between {@code 0} and {@link #bigSize()}
+     * @param combination the array to which the element indices are written in
+     *                    ascending order
+     * @return the given array
+     */
+    public int[] unrank(BigInteger rank, int[] combination) {
+        if (isLongRange()) {
+            return unrank(rank.longValueExact(), combination);
+        }
+        if (rank.signum() < 0 || rank.compareTo(bigSize()) >= 0) {
+            throw new IndexOutOfBoundsException(String.valueOf(rank));
+        }
+        int upper = n;
+        for (int k = t; k > 0; k--) {
+            int low = k - 1;
+            int high = upper - 1;
+            while (low < high) {
+                final int middle = (low + high + 1) >>> 1;
+                if (binomial(middle, k).compareTo(rank) <= 0) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            combination[k - 1] = low;
+            rank = rank.subtract(binomial(low, k));
+            upper = low;
+        }
+        return combination;
+    }
+
+    /**
+     * Advances a combination to its successor, i.e., the combination with the
+     * next higher rank.
+     *
+     * @param combination the element indices in ascending order
+     * @return {@code false} if the combination was the last one, in which case it
+     *         is not modified
+     */
+    public boolean next(int[] combination) {
+        for (int i = 0; i < t; i++) {
+            final int limit = i + 1 < t ? combination[i + 1] : n;
+            if (combination[i] + 1 < limit) {
+                combination[i]++;
+                for (int j = 0; j < i; j++) {
+                    combination[j] = j;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Streams all combinations within a range of ranks in ascending order.
+     *
+     * @param fromRank the first rank (inclusive)
+     * @param toRank   the last rank (exclusive), at most {@link #saturatedSize()}
+     * @return a stream of element indices, each combination is a new array
+     */
+    public Stream<int[]> stream(long fromRank, long toRank) {
+        if (fromRank >= toRank) {
+            return Stream.empty();
+        }
+        if (toRank > saturatedSize()) {
+            throw new IndexOutOfBoundsException(String.valueOf(toRank));
+        }
+        return Stream.iterate(unrank(fromRank, new int[t]), combination -> {
+                    final int[] nextCombination = Arrays.copyOf(combination, t);
+                    next(nextCombination);
+                    return nextCombination;
+                })
+                .limit(toRank - fromRank);
+    }
+
+    /**
+     * Returns the first rank of a part, if all ranks are split into parts of
+     * almost equal size. The part {@code i} comprises all ranks from
+     * {@code getPartStart(i, parts)} to {@code getPartStart(i + 1, parts) - 1}.
+     *
+     * @param part  the index of the part, between {@code 0} and {@code parts}
+     * @param parts the number of parts
+     * @return the first rank of the part
+     */
+    public long getPartStart(int part, int parts) {
+        final long size = size();
+        return (size / parts) * part + Math.min(part, size % parts);
+    }
+
+    /**
+     * Draws a rank uniformly at random.
+     *
+     * @param random the random number generator
+     * @return the rank
+     */
+    public long randomRank(Random random) {
+        return randomLong(random, size());
+    }
+
+    /**
+     * Draws a {@code long} uniformly at random.
+     *
+     * @param random the random number generator
+     * @param bound  the exclusive upper bound, must be positive
+     * @return a value between {@code 0} and {@code bound - 1}
+     */
+    static long randomLong(Random random, long bound) {
+        final long mask = bound - 1;
+        if ((bound & mask) == 0) {
+            return random.nextLong() & mask;
+        }
+        long bits, value;
+        do {
+            bits = random.nextLong() >>> 1;
+            value = bits % bound;
+        } while (bits - value + mask < 0);
+        return value;
+    }
+
+    private void checkLongRange() {
+        if (!isLongRange()) {
+            throw new ArithmeticException(String.format("C(%d, %d) exceeds the range of long", n, t));
+        }
+    }
+}
@@ -20,6 +20,7 @@
  */
 package de.featjar.analysis.sat4j.computation;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -37,10 +38,66 @@ public class CombinationSpecificationList implements ICombinationSpecification {
         return specifications.stream().flatMap(ICombinationSpecification::stream);
     }
 
-    public int getTotalSteps() {
+    public long getTotalSteps() {
+        long totalSteps = 0;
+        for (ICombinationSpecification specification : specifications) {
+            totalSteps += specification.getTotalSteps();
+            if (totalSteps < 0) {
+                return Long.MAX_VALUE;
+            }
+        }
+        return totalSteps;
+    }
+
+    @Override
+    public BigInteger getCombinationCount() {
         return specifications.stream()
-                .mapToInt(ICombinationSpecification::getTotalSteps)
-                .sum();
+                .map(ICombinationSpecification::getCombinationCount)
+                .reduce(BigInteger.ZERO, BigInteger::add);
+    }
+
+    /**
+     * {@inheritDoc} The indices of all specifications are concatenated in the
+     * order in which the specifications were added. Combinations with an index
+     * beyond the range of {@code long} cannot be accessed.
+     */
+    @Override
+    public int[] get(long index) {
+        if (index >= 0) {
+            long offset = 0;
+            for (ICombinationSpecification specification : specifications) {
+                long count = getSaturatedCount(specification);
+                if (index - offset < count) {
+                    return specification.get(index - offset);
+                }
+                offset = CombinationRanking.saturatedAdd(offset, count);
+            }
+        }
+        throw new IndexOutOfBoundsException(String.valueOf(index));
+    }
+
+    @Override
+    public Stream<int[]> stream(long fromIndex, long toIndex) {
+        List<Stream<int[]>> streams = new ArrayList<>();
+        long offset = 0;
+        for (ICombinationSpecification specification : specifications) {
+            if (offset >= toIndex) {
+                break;
+            }
+            long count = getSaturatedCount(specification);
+            long from = Math.max(fromIndex - offset, 0);
+            long to = Math.min(toIndex - offset, count);
+            if (from < to) {
+                streams.add(specification.stream(from, to));
+            }
+            offset = CombinationRanking.saturatedAdd(offset, count);
+        }
+        return streams.stream().flatMap(s -> s);
+    }
+
+    private static long getSaturatedCount(ICombinationSpecification specification) {
+        BigInteger count = specification.getCombinationCount();
+        return count.bitLength() < Long.SIZE ? count.longValue() : Long.MAX_VALUE;
     }
 
     @Override
@@ -72,6 +72,7 @@ public class ComputeAtomicSetsSAT4J extends ASAT4JAnalysis.Solution<BooleanAssig
             final byte[] done = new byte[model1.length];
 
             final int[] model1Copy = Arrays.copyOf(model1, model1.length);
+            final int[] solution = new int[model1.length];
 
             BooleanSolution.removeConflictsInplace(model1Copy, model2);
             for (int i = 0; i < model1Copy.length; i++) {
@@ -86,7 +87,7 @@ public class ComputeAtomicSetsSAT4J extends ASAT4JAnalysis.Solution<BooleanAssig
                         solver.getAssignment().replaceLast(varX);
                     } else if (hasSolution.valueEquals(Boolean.TRUE)) {
                         solver.getAssignment().remove();
-                        BooleanSolution.removeConflictsInplace(model1Copy, solver.getInternalSolution());
+                        BooleanSolution.removeConflictsInplace(model1Copy, solver.copySolution(solution));
                         solver.shuffleOrder(random);
                     }
                 }
@@ -116,7 +117,7 @@ public class ComputeAtomicSetsSAT4J extends ASAT4JAnalysis.Solution<BooleanAssig
                             } else if (hasSolution.valueEquals(Boolean.FALSE)) {
                                 done[j] = 1;
                             } else if (hasSolution.valueEquals(Boolean.TRUE)) {
-                                BooleanSolution.removeConflictsInplace(xModel0, solver.getInternalSolution());
+                                BooleanSolution.removeConflictsInplace(xModel0, solver.copySolution(solution));
                                 solver.shuffleOrder(random);
                             }
                             solver.getAssignment().remove();
@@ -154,7 +155,7 @@ public class ComputeAtomicSetsSAT4J extends ASAT4JAnalysis.Solution<BooleanAssig
                                     // or continue?
                                 } else if (hasSolution.valueEquals(Boolean.TRUE)) {
                                     done[j] = 0;
-                                    BooleanSolution.removeConflictsInplace(xModel0, solver.getInternalSolution());
+                                    BooleanSolution.removeConflictsInplace(xModel0, solver.copySolution(solution));
                                     solver.shuffleOrder(random);
                                     solver.getAssignment().remove();
                                 }
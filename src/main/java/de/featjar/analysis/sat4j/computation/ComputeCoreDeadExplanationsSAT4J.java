@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.computation;
+
+import de.featjar.analysis.ISolver;
+import de.featjar.analysis.sat4j.solver.MUSEnumerator;
+import de.featjar.base.computation.Computations;
+import de.featjar.base.computation.Dependency;
+import de.featjar.base.computation.IComputation;
+import de.featjar.base.computation.Progress;
+import de.featjar.base.data.Problem;
+import de.featjar.base.data.Result;
+import de.featjar.formula.assignment.BooleanAssignment;
+import de.featjar.formula.assignment.BooleanClause;
+import de.featjar.formula.assignment.BooleanClauseList;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.sat4j.specs.TimeoutException;
+
+/**
+ * Computes a minimal explanation for each core and dead feature in one pass.
+ * All explanations are computed by the same solver, in which each clause is
+ * guarded by an activation literal. Clauses of previously found explanations
+ * are tried first, as core and dead features often share explanations. The
+ * result maps each core (positive) and dead (negative) literal to its
+ * explanation. The {@link #SAT_TIMEOUT} limits the whole analysis. If it is
+ * exceeded or a literal cannot be explained, the result is partial and contains
+ * a corresponding problem.
+ *
+ * @author agent
+ */
+public class ComputeCoreDeadExplanationsSAT4J
+        extends ASAT4JAnalysis.Explanation<Map<Integer, List<BooleanClause>>> {
+
+    /**
+     * The core and dead literals to explain. By default, the assignment is empty
+     * and all core and dead literals are computed by {@link ComputeCoreSAT4J}
+     * with the same assumptions and timeout as this analysis. Assumed literals
+     * are never explained.
+     */
+    public static final Dependency<BooleanAssignment> CORE_DEAD = Dependency.newDependency(BooleanAssignment.class);
+
+    /**
+     * Whether explanations are computed in parallel. Each thread uses its own
+     * solver, but all threads share their explanations as hints.
+     */
+    public static final Dependency<Boolean> PARALLEL = Dependency.newDependency(Boolean.class);
+
+    public ComputeCoreDeadExplanationsSAT4J(IComputation<BooleanClauseList> booleanClauseList) {
+        super(booleanClauseList, Computations.of(new BooleanAssignment()), Computations.of(Boolean.FALSE));
+    }
+
+    protected ComputeCoreDeadExplanationsSAT4J(ComputeCoreDeadExplanationsSAT4J other) {
+        super(other);
+    }
+
+    @Override
+    public Result<Map<Integer, List<BooleanClause>>> compute(List<Object> dependencyList, Progress progress) {
+        final BooleanClauseList clauseList = BOOLEAN_CLAUSE_LIST.get(dependencyList);
+        final BooleanAssignment assumedAssignment = ASSUMED_ASSIGNMENT.get(dependencyList);
+        final BooleanClauseList assumedClauseList = ASSUMED_CLAUSE_LIST.get(dependencyList);
+        final Duration timeout = SAT_TIMEOUT.get(dependencyList);
+        final boolean parallel = PARALLEL.get(dependencyList);
+        final long deadline = timeout.isZero() ? Long.MAX_VALUE : System.nanoTime() + timeout.toNanos();
+
+        final List<Problem> problems = new ArrayList<>();
+        BooleanAssignment coreDead = CORE_DEAD.get(dependencyList);
+        if (coreDead.isEmpty()) {
+            Result<BooleanAssignment> coreDeadResult = Computations.of(clauseList)
+                    .map(ComputeCoreSAT4J::new)
+                    .set(ASSUMED_ASSIGNMENT, assumedAssignment)
+                    .set(ASSUMED_CLAUSE_LIST, assumedClauseList)
+                    .set(SAT_TIMEOUT, timeout)
+                    .set(STATISTICS, STATISTICS.get(dependencyList))
+                    .computeResult();
+            if (coreDeadResult.isEmpty()) {
+                return Result.empty(coreDeadResult.getProblems());
+            }
+            problems.addAll(coreDeadResult.getProblems());
+            coreDead = coreDeadResult.get();
+        }
+        final int[] literals = coreDead.removeAllVariables(assumedAssignment).get();
+
+        final List<BooleanClause> clauses = new ArrayList<>(clauseList.getAll());
+        clauses.addAll(assumedClauseList.getAll());
+        final int[] assumedLiterals = assumedAssignment.get();
+        final int variableCount = clauseList.getVariableMap().getVariableCount();
+
+        final Map<Integer, List<BooleanClause>> explanations = new ConcurrentHashMap<>();
+        final Set<Integer> hintClauses = ConcurrentHashMap.newKeySet();
+        final AtomicInteger nextIndex = new AtomicInteger();
+        final AtomicBoolean timeoutOccurred = new AtomicBoolean();
+        progress.setTotalSteps(literals.length);
+
+        final Callable<Void> worker = () -> {
+            final MUSEnumerator enumerator = new MUSEnumerator(clauses, assumedLiterals, variableCount);
+            for (int i = nextIndex.getAndIncrement();
+                    i < literals.length && !timeoutOccurred.get();
+                    i = nextIndex.getAndIncrement()) {
+                checkCancel();
+                final int literal = literals[i];
+                final List<Integer> hints = new ArrayList<>(hintClauses);
+                Collections.sort(hints);
+                final List<Integer> mus;
+                try {
+                    final long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        throw new TimeoutException();
+                    }
+                    mus = enumerator.computeMinimalUnsatisfiableSubset(
+                            new int[] {-literal},
+                            hints,
+                            deadline == Long.MAX_VALUE ? Duration.ZERO : Duration.ofNanos(remainingNanos));
+                } catch (TimeoutException e) {
+                    timeoutOccurred.set(true);
+                    break;
+                }
+                if (mus != null) {
+                    hintClauses.addAll(mus);
+                    final List<BooleanClause> explanation = new ArrayList<>(mus.size());
+                    for (final int clauseIndex : mus) {
+                        explanation.add(clauses.get(clauseIndex));
+                    }
+                    explanations.put(literal, explanation);
+                }
+                progress.incrementCurrentStep();
+            }
+            return null;
+        };
+        try {
+            if (parallel) {
+                final int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+                final ExecutorService threadPool = Executors.newFixedThreadPool(threadCount);
+                try {
+                    final List<Future<Void>> futures = new ArrayList<>(threadCount);
+                    for (int i = 0; i < threadCount; i++) {
+                        futures.add(threadPool.submit(worker));
+                    }
+                    for (final Future<Void> future : futures) {
+                        future.get();
+                    }
+                } finally {
+                    threadPool.shutdownNow();
+                }
+            } else {
+                worker.call();
+            }
+        } catch (Exception e) {
+            return Result.empty(e);
+        }
+
+        final LinkedHashMap<Integer, List<BooleanClause>> result = new LinkedHashMap<>();
+        final List<Integer> unexplainedLiterals = new ArrayList<>();
+        for (final int literal : literals) {
+            final List<BooleanClause> explanation = explanations.get(literal);
+            if (explanation != null) {
+                result.put(literal, explanation);
+            } else {
+                unexplainedLiterals.add(literal);
+            }
+        }
+        if (timeoutOccurred.get()) {
+            problems.add(ISolver.getTimeoutProblem("result is a subset"));
+        } else if (!unexplainedLiterals.isEmpty()) {
+            problems.add(new Problem(
+                    "Literals are neither core nor dead and have no explanation: " + unexplainedLiterals,
+                    Problem.Severity.WARNING));
+        }
+        return Result.of(result, problems);
+    }
+}
@@ -91,6 +91,7 @@ public class ComputeCoreDeadMIG extends ASAT4JAnalysis.Solution<BooleanAssignmen
                 model1[Math.abs(visitor.getAddedLiterals()[i]) - 1] = 0;
             }
 
+            final int[] model2 = new int[model1.length];
             for (int i = 0; i < model1.length; i++) {
                 final int varX = model1[i];
                 if (varX != 0) {
@@ -107,7 +108,7 @@ public class ComputeCoreDeadMIG extends ASAT4JAnalysis.Solution<BooleanAssignmen
                         solver.getAssignment().remove();
                     } else if (hasSolution.valueEquals(true)) {
                         solver.getAssignment().remove();
-                        BooleanSolution.removeConflictsInplace(model1, solver.getInternalSolution());
+                        BooleanSolution.removeConflictsInplace(model1, solver.copySolution(model2));
                         solver.shuffleOrder(random);
                     }
                 }
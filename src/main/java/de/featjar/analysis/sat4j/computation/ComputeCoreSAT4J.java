@@ -80,6 +80,7 @@ public class ComputeCoreSAT4J extends ASAT4JAnalysis.Solution<BooleanAssignment>
                 model1[Math.abs(solver.getAssignment().peek(i)) - 1] = 0;
             }
 
+            final int[] model2 = new int[model1.length];
             for (int i = 0; i < model1.length; i++) {
                 final int varX = model1[i];
                 if (varX != 0) {
@@ -92,7 +93,7 @@ public class ComputeCoreSAT4J extends ASAT4JAnalysis.Solution<BooleanAssignment>
                         solver.getAssignment().remove();
                     } else if (hasSolution.valueEquals(true)) {
                         solver.getAssignment().remove();
-                        BooleanSolution.removeConflictsInplace(model1, solver.getInternalSolution());
+                        BooleanSolution.removeConflictsInplace(model1, solver.copySolution(model2));
                         solver.shuffleOrder(random);
                     }
                 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.computation;
+
+import de.featjar.analysis.sat4j.solver.ISelectionStrategy;
+import de.featjar.analysis.sat4j.solver.SAT4JSolutionSolver;
+import de.featjar.base.computation.Computations;
+import de.featjar.base.computation.Dependency;
+import de.featjar.base.computation.IComputation;
+import de.featjar.base.computation.Progress;
+import de.featjar.base.data.Result;
+import de.featjar.formula.VariableMap;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.BooleanSolution;
+import de.featjar.formula.assignment.BooleanSolutionList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates random solutions with multiple solvers in parallel. Each solver uses
+ * the {@link ISelectionStrategy.Strategy#FAST_RANDOM fast random strategy}
+ * with its own seed, which is derived from {@link #RANDOM_SEED}. Each solver
+ * blocks its own solutions, so its sequence of solutions only depends on its
+ * seed. The solvers work in rounds, in which each solver computes a batch of
+ * solutions. After each round, the batches are merged round-robin by solver
+ * index and duplicates found by different solvers are removed. Thus, the
+ * result only depends on {@link #RANDOM_SEED} and {@link #THREAD_COUNT} and not
+ * on the scheduling of the threads.
+ *
+ * @author agent
+ */
+public class ComputeRandomSolutionsSAT4J extends ASAT4JAnalysis.Solution<BooleanSolutionList> {
+
+    /**
+     * Maximum number of solutions.
+     */
+    public static final Dependency<Integer> LIMIT = Dependency.newDependency(Integer.class);
+
+    /**
+     * Number of solvers running in parallel. If {@code 0}, one solver per
+     * available processor is used.
+     */
+    public static final Dependency<Integer> THREAD_COUNT = Dependency.newDependency(Integer.class);
+
+    private static final int MAXIMUM_BATCH_SIZE = 1024;
+
+    public ComputeRandomSolutionsSAT4J(IComputation<BooleanClauseList> booleanClauseList) {
+        super(booleanClauseList, Computations.of(Integer.MAX_VALUE), Computations.of(0));
+    }
+
+    protected ComputeRandomSolutionsSAT4J(ComputeRandomSolutionsSAT4J other) {
+        super(other);
+    }
+
+    private static final class PackedSolution {
+        private final long[] words;
+        private final int hash;
+
+        private PackedSolution(int[] solution) {
+            words = new long[(solution.length + 63) >>> 6];
+            for (final int literal : solution) {
+                if (literal > 0) {
+                    words[(literal - 1) >>> 6] |= 1L << ((literal - 1) & 63);
+                }
+            }
+            hash = Arrays.hashCode(words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof PackedSolution
+                    && hash == ((PackedSolution) obj).hash
+                    && Arrays.equals(words, ((PackedSolution) obj).words);
+        }
+    }
+
+    @Override
+    public Result<BooleanSolutionList> compute(List<Object> dependencyList, Progress progress) {
+        final int limit = LIMIT.get(dependencyList);
+        int threadCount = THREAD_COUNT.get(dependencyList);
+        if (threadCount <= 0) {
+            threadCount = Runtime.getRuntime().availableProcessors();
+        }
+
+        final Random seedGenerator = new Random(RANDOM_SEED.get(dependencyList));
+        final List<SAT4JSolutionSolver> solvers = new ArrayList<>(threadCount);
+        final List<Random> randoms = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            final Random random = new Random(seedGenerator.nextLong());
+            final SAT4JSolutionSolver solver = initializeSolver(dependencyList);
+            solver.setSelectionStrategy(ISelectionStrategy.random(random));
+            solvers.add(solver);
+            randoms.add(random);
+        }
+
+        final Set<PackedSolution> uniqueSolutions = new HashSet<>();
+        final List<BooleanSolution> solutions = new ArrayList<>();
+        if (limit != Integer.MAX_VALUE) {
+            progress.setTotalSteps(limit);
+        }
+
+        final List<List<BooleanSolution>> batches = new ArrayList<>(threadCount);
+        final boolean[] exhausted = new boolean[threadCount];
+        final int[] batchSize = new int[1];
+        final List<Callable<Void>> workers = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            final int solverIndex = i;
+            final SAT4JSolutionSolver solver = solvers.get(i);
+            final Random random = randoms.get(i);
+            final List<BooleanSolution> batch = new ArrayList<>();
+            batches.add(batch);
+            workers.add(() -> {
+                batch.clear();
+                while (!exhausted[solverIndex] && batch.size() < batchSize[0]) {
+                    checkCancel();
+                    final Result<BooleanSolution> solution = solver.findSolution();
+                    if (solution.isEmpty()) {
+                        exhausted[solverIndex] = true;
+                    } else {
+                        final BooleanSolution booleanSolution = solution.get();
+                        solver.getClauseList().add(booleanSolution.toClause().inverse());
+                        solver.shuffleOrder(random);
+                        batch.add(booleanSolution);
+                    }
+                }
+                return null;
+            });
+        }
+
+        final ExecutorService threadPool = threadCount == 1 ? null : Executors.newFixedThreadPool(threadCount);
+        try {
+            int activeCount = threadCount;
+            while (solutions.size() < limit && activeCount > 0) {
+                batchSize[0] = (int) Math.min(
+                        MAXIMUM_BATCH_SIZE, ((long) limit - solutions.size() + threadCount - 1) / threadCount);
+                if (threadPool == null) {
+                    workers.get(0).call();
+                } else {
+                    for (final Future<Void> future : threadPool.invokeAll(workers)) {
+                        future.get();
+                    }
+                }
+                merge(batches, uniqueSolutions, solutions, limit, progress);
+                activeCount = 0;
+                for (final boolean solverExhausted : exhausted) {
+                    if (!solverExhausted) {
+                        activeCount++;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            return Result.empty(e);
+        } finally {
+            if (threadPool != null) {
+                threadPool.shutdownNow();
+            }
+        }
+
+        VariableMap variableMap = BOOLEAN_CLAUSE_LIST.get(dependencyList).getVariableMap();
+        BooleanSolutionList solutionList = new BooleanSolutionList(variableMap);
+        solutions.forEach(solutionList::add);
+        SAT4JSolutionSolver resultSolver = solvers.stream()
+                .filter(SAT4JSolutionSolver::isTimeoutOccurred)
+                .findFirst()
+                .orElse(solvers.get(0));
+        return resultSolver.createResult(solutionList, "result is a subset");
+    }
+
+    /**
+     * Merges the solutions of one round round-robin by solver index, such that
+     * the result does not depend on the scheduling of the solvers.
+     */
+    private static void merge(
+            List<List<BooleanSolution>> batches,
+            Set<PackedSolution> uniqueSolutions,
+            List<BooleanSolution> solutions,
+            int limit,
+            Progress progress) {
+        for (int j = 0; solutions.size() < limit; j++) {
+            boolean hasNext = false;
+            for (final List<BooleanSolution> batch : batches) {
+                if (j < batch.size()) {
+                    hasNext = true;
+                    final BooleanSolution solution = batch.get(j);
+                    if (uniqueSolutions.add(new PackedSolution(solution.get()))) {
+                        solutions.add(solution);
+                        progress.incrementCurrentStep();
+                        if (solutions.size() == limit) {
+                            return;
+                        }
+                    }
+                }
+            }
+            if (!hasNext) {
+                return;
+            }
+        }
+    }
+}
@@ -47,6 +47,7 @@ public class ComputeRandomTWiseSample extends ATWiseSampleComputation {
     }
 
     private SampleBitIndex sampleIndex;
+    private int[] solution;
 
     @Override
     public Result<BooleanAssignmentList> computeSample(List<Object> dependencyList, Progress progress) {
@@ -62,9 +63,11 @@ public class ComputeRandomTWiseSample extends ATWiseSampleComputation {
                     maxT);
         }
 
-        progress.setTotalSteps(variables.getTotalSteps());
+        BatchedProgress batchedProgress = new BatchedProgress(progress);
+        batchedProgress.setTotalSteps(variables.getTotalSteps());
 
-        buildCombinations(progress);
+        buildCombinations(batchedProgress);
+        batchedProgress.flush();
 
         return finalizeResult();
     }
@@ -88,8 +91,9 @@ public class ComputeRandomTWiseSample extends ATWiseSampleComputation {
         return Result.of(result);
     }
 
-    private void buildCombinations(Progress monitor) {
+    private void buildCombinations(BatchedProgress monitor) {
         sampleIndex = new SampleBitIndex(variableCount);
+        solution = new int[variableCount];
         for (BooleanAssignment config : initialSample) {
             sampleIndex.addConfiguration(config);
         }
@@ -123,13 +127,11 @@ public class ComputeRandomTWiseSample extends ATWiseSampleComputation {
         int orgAssignmentSize = solver.getAssignment().size();
         try {
             solver.getAssignment().addAll(fixedLiterals);
-            Result<Boolean> hasSolution = solver.hasSolution();
-            if (hasSolution.isPresent()) {
-                if (hasSolution.get()) {
-                    sampleIndex.addConfiguration(solver.getInternalSolution());
-                    solver.shuffleOrder(random);
-                }
-            } else {
+            if (solver.isSatisfiable()) {
+                solver.copySolution(solution);
+                sampleIndex.addConfiguration(solution);
+                solver.shuffleOrder(random);
+            } else if (solver.isTimeoutOccurred()) {
                 throw new RuntimeTimeoutException();
             }
         } finally {
@@ -20,18 +20,30 @@
  */
 package de.featjar.analysis.sat4j.computation;
 
+import de.featjar.analysis.sat4j.solver.ImplicantShrinker;
 import de.featjar.analysis.sat4j.solver.SAT4JSolver;
+import de.featjar.base.computation.Computations;
+import de.featjar.base.computation.Dependency;
 import de.featjar.base.computation.IComputation;
 import de.featjar.base.computation.Progress;
 import de.featjar.base.data.Result;
+import de.featjar.formula.assignment.BooleanClause;
 import de.featjar.formula.assignment.BooleanClauseList;
 import de.featjar.formula.assignment.BooleanSolution;
 import java.math.BigInteger;
 import java.util.List;
 
 public class ComputeSolutionCountSAT4J extends ASAT4JAnalysis.Solution<BigInteger> {
+
+    /**
+     * Whether each solution is shrunk to a minimal implicant, such that a whole
+     * cube of solutions is counted and blocked at once. Otherwise, each solution
+     * is blocked separately.
+     */
+    public static final Dependency<Boolean> CUBE_BLOCKING = Dependency.newDependency(Boolean.class);
+
     public ComputeSolutionCountSAT4J(IComputation<BooleanClauseList> booleanClauseList) {
-        super(booleanClauseList);
+        super(booleanClauseList, Computations.of(Boolean.TRUE));
     }
 
     protected ComputeSolutionCountSAT4J(ComputeSolutionCountSAT4J other) {
@@ -41,13 +53,31 @@ public class ComputeSolutionCountSAT4J extends ASAT4JAnalysis.Solution<BigIntege
     @Override
     public Result<BigInteger> compute(List<Object> dependencyList, Progress progress) {
         SAT4JSolver solver = initializeSolver(dependencyList);
+        ImplicantShrinker shrinker = null;
+        int[] assumedLiterals = solver.getAssignment().get();
+        int variableCount = solver.getClauseList().getVariableMap().getVariableCount();
+        if (CUBE_BLOCKING.get(dependencyList)) {
+            shrinker = new ImplicantShrinker(variableCount);
+            shrinker.addClauses(solver.getClauseList().getAll());
+        }
         BigInteger solutionCount = BigInteger.ZERO;
         Result<Boolean> hasSolution = solver.hasSolution();
         while (hasSolution.equals(Result.of(true))) {
-            solutionCount = solutionCount.add(BigInteger.ONE);
             progress.incrementCurrentStep();
             BooleanSolution solution = solver.getSolution();
-            solver.getClauseList().add(solution.toClause().negate());
+            if (shrinker != null) {
+                int[] cube = shrinker.shrink(solution.get(), assumedLiterals);
+                solutionCount = solutionCount.add(BigInteger.ONE.shiftLeft(variableCount - cube.length));
+                int[] blockingClause = new int[cube.length];
+                for (int i = 0; i < cube.length; i++) {
+                    blockingClause[i] = -cube[i];
+                }
+                solver.getClauseList().add(new BooleanClause(blockingClause));
+                shrinker.addClause(blockingClause);
+            } else {
+                solutionCount = solutionCount.add(BigInteger.ONE);
+                solver.getClauseList().add(solution.toClause().negate());
+            }
             hasSolution = solver.hasSolution();
         }
         return solver.createResult(solutionCount, "result is a lower bound");
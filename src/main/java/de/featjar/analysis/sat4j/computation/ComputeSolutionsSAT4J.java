@@ -22,6 +22,8 @@ package de.featjar.analysis.sat4j.computation;
 
 import de.featjar.analysis.sat4j.solver.ISelectionStrategy;
 import de.featjar.analysis.sat4j.solver.ISelectionStrategy.Strategy;
+import de.featjar.analysis.sat4j.solver.ModalImplicationGraph;
+import de.featjar.analysis.sat4j.solver.SAT4JSolutionIterator;
 import de.featjar.analysis.sat4j.solver.SAT4JSolutionSolver;
 import de.featjar.base.computation.Computations;
 import de.featjar.base.computation.Dependency;
@@ -29,6 +31,7 @@ import de.featjar.base.computation.IComputation;
 import de.featjar.base.computation.Progress;
 import de.featjar.base.data.Result;
 import de.featjar.formula.VariableMap;
+import de.featjar.formula.assignment.BooleanClause;
 import de.featjar.formula.assignment.BooleanClauseList;
 import de.featjar.formula.assignment.BooleanSolution;
 import de.featjar.formula.assignment.BooleanSolutionList;
@@ -36,17 +39,59 @@ import java.util.List;
 import java.util.Random;
 
 public class ComputeSolutionsSAT4J extends ASAT4JAnalysis.Solution<BooleanSolutionList> {
+
+    /**
+     * Receives each solution as soon as it is found.
+     */
+    @FunctionalInterface
+    public interface ISolutionConsumer {
+
+        /**
+         * Default consumer, which collects all solutions in the result.
+         */
+        ISolutionConsumer COLLECT = (solution, blockingClause) -> {};
+
+        /**
+         * Receives a solution.
+         *
+         * @param solution       the solution
+         * @param blockingClause the clause that blocks the solution, {@code null} if
+         *                       duplicates are allowed
+         */
+        void accept(BooleanSolution solution, BooleanClause blockingClause);
+    }
+
     public static final Dependency<ISelectionStrategy.Strategy> SELECTION_STRATEGY =
             Dependency.newDependency(ISelectionStrategy.Strategy.class);
     public static final Dependency<Integer> LIMIT = Dependency.newDependency(Integer.class);
     public static final Dependency<Boolean> FORBID_DUPLICATES = Dependency.newDependency(Boolean.class);
 
+    /**
+     * Whether blocking clauses only contain the decision literals of each
+     * solution. The decision literals are derived from the
+     * {@link ModalImplicationGraph} of the formula, which is built once before the
+     * enumeration starts.
+     */
+    public static final Dependency<Boolean> COMPACT_BLOCKING = Dependency.newDependency(Boolean.class);
+
+    /**
+     * Receives each solution as soon as it is found. Unless this is
+     * {@link ISolutionConsumer#COLLECT}, solutions are not collected and the
+     * result is an empty list, such that the memory does not grow with the number
+     * of solutions. The enumeration can be resumed by passing all blocking clauses
+     * as {@link #ASSUMED_CLAUSE_LIST}.
+     */
+    public static final Dependency<ISolutionConsumer> SOLUTION_CONSUMER =
+            Dependency.newDependency(ISolutionConsumer.class);
+
     public ComputeSolutionsSAT4J(IComputation<BooleanClauseList> booleanClauseList) {
         super(
                 booleanClauseList,
                 Computations.of(ISelectionStrategy.Strategy.ORIGINAL),
                 Computations.of(Integer.MAX_VALUE),
-                Computations.of(true));
+                Computations.of(true),
+                Computations.of(false),
+                Computations.of(ISolutionConsumer.COLLECT));
     }
 
     protected ComputeSolutionsSAT4J(ComputeSolutionsSAT4J other) {
@@ -59,36 +104,26 @@ public class ComputeSolutionsSAT4J extends ASAT4JAnalysis.Solution<BooleanSoluti
         int limit = LIMIT.get(dependencyList);
         boolean forbid = FORBID_DUPLICATES.get(dependencyList);
         final Strategy strategy = SELECTION_STRATEGY.get(dependencyList);
-        Random random = null;
-        switch (strategy) {
-            case FAST_RANDOM:
-                random = new Random(RANDOM_SEED.get(dependencyList));
-                solver.setSelectionStrategy(ISelectionStrategy.random(random));
-                break;
-            case NEGATIVE:
-                solver.setSelectionStrategy(ISelectionStrategy.negative());
-                break;
-            case ORIGINAL:
-                break;
-            case POSITIVE:
-                solver.setSelectionStrategy(ISelectionStrategy.positive());
-                break;
-            default:
-                break;
+        Random random = new Random(RANDOM_SEED.get(dependencyList));
+        BooleanClauseList clauseList = BOOLEAN_CLAUSE_LIST.get(dependencyList);
+        ModalImplicationGraph mig = null;
+        if (forbid && COMPACT_BLOCKING.get(dependencyList)) {
+            mig = Computations.of(clauseList).map(MIGBuilder::new).computeResult().orElse(null);
         }
-        VariableMap variableMap = BOOLEAN_CLAUSE_LIST.get(dependencyList).getVariableMap();
+        SAT4JSolutionIterator iterator = new SAT4JSolutionIterator(solver, strategy, random, limit, forbid, mig);
+        VariableMap variableMap = clauseList.getVariableMap();
         BooleanSolutionList solutionList = new BooleanSolutionList(variableMap);
-        while (solutionList.size() < limit) {
-            Result<BooleanSolution> solution = solver.findSolution();
-            if (solution.isEmpty()) {
-                break;
-            }
-            solutionList.add(solution.get());
-            if (forbid) {
-                solver.getClauseList().add(solution.get().toClause().inverse());
+        ISolutionConsumer consumer = SOLUTION_CONSUMER.get(dependencyList);
+        if (consumer == ISolutionConsumer.COLLECT) {
+            while (iterator.hasNext()) {
+                solutionList.add(iterator.next());
             }
-            if (strategy == Strategy.FAST_RANDOM) {
-                solver.shuffleOrder(random);
+        } else {
+            while (iterator.hasNext()) {
+                checkCancel();
+                BooleanSolution solution = iterator.next();
+                List<BooleanClause> blockingClauses = iterator.getBlockingClauses();
+                consumer.accept(solution, forbid ? blockingClauses.get(blockingClauses.size() - 1) : null);
             }
         }
         return solver.createResult(solutionList, "result is a subset");
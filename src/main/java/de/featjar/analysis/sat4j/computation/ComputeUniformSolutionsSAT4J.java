@@ -0,0 +1,261 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.computation;
+
+import de.featjar.analysis.sat4j.solver.ISelectionStrategy;
+import de.featjar.analysis.sat4j.solver.SAT4JSolutionSolver;
+import de.featjar.base.computation.Computations;
+import de.featjar.base.computation.Dependency;
+import de.featjar.base.computation.IComputation;
+import de.featjar.base.computation.Progress;
+import de.featjar.base.data.Result;
+import de.featjar.formula.VariableMap;
+import de.featjar.formula.assignment.BooleanClause;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.BooleanSolution;
+import de.featjar.formula.assignment.BooleanSolutionList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Samples solutions near-uniformly by partitioning the solution space into
+ * cells using random XOR constraints. A cell is selected by fixing the parity
+ * of {@code m} random XORs, where {@code m} is adapted such that the number of
+ * solutions in a cell is close to {@link #CELL_SIZE}. Then, some solutions of
+ * the cell are chosen at random. Solutions may be sampled multiple times.
+ * <p>
+ * Each XOR is encoded once as a chain of auxiliary variables whose last
+ * variable equals the parity of the XOR. Hence, selecting a cell only requires
+ * assumptions and the encoding is reused for all samples.
+ *
+ * @author agent
+ */
+public class ComputeUniformSolutionsSAT4J extends ASAT4JAnalysis.Solution<BooleanSolutionList> {
+
+    /**
+     * Number of solutions to sample.
+     */
+    public static final Dependency<Integer> LIMIT = Dependency.newDependency(Integer.class);
+
+    /**
+     * Desired number of solutions per cell. Larger cells improve uniformity but
+     * require more solver calls per cell.
+     */
+    public static final Dependency<Integer> CELL_SIZE = Dependency.newDependency(Integer.class);
+
+    public ComputeUniformSolutionsSAT4J(IComputation<BooleanClauseList> booleanClauseList) {
+        super(booleanClauseList, Computations.of(1), Computations.of(32));
+    }
+
+    protected ComputeUniformSolutionsSAT4J(ComputeUniformSolutionsSAT4J other) {
+        super(other);
+    }
+
+    private class CellSampler {
+        private final List<Object> dependencyList;
+        private final BooleanClauseList clauseList;
+        private final int variableCount;
+        private final Random random;
+        private final List<int[]> xors = new ArrayList<>();
+
+        private int[] xorOutputs;
+        private SAT4JSolutionSolver solver;
+
+        private CellSampler(List<Object> dependencyList) {
+            this.dependencyList = dependencyList;
+            clauseList = BOOLEAN_CLAUSE_LIST.get(dependencyList);
+            variableCount = clauseList.getVariableMap().getVariableCount();
+            random = new Random(RANDOM_SEED.get(dependencyList));
+        }
+
+        /**
+         * Ensures that at least the given number of XORs is encoded. If new XORs
+         * are required, their number is doubled and the solver is rebuilt.
+         */
+        private void ensureXORCount(int xorCount) {
+            if (solver != null && xors.size() >= xorCount) {
+                return;
+            }
+            final int newXORCount = variableCount == 0 ? 0 : Math.max(Math.max(xorCount, xors.size() << 1), 8);
+            while (xors.size() < newXORCount) {
+                xors.add(createRandomXOR());
+            }
+
+            final VariableMap variableMap = clauseList.getVariableMap().clone();
+            final List<BooleanClause> clauses = new ArrayList<>(clauseList.getAll());
+            xorOutputs = new int[xors.size()];
+            for (int i = 0; i < xorOutputs.length; i++) {
+                xorOutputs[i] = encodeXOR(xors.get(i), variableMap, clauses);
+            }
+
+            solver = new SAT4JSolutionSolver(new BooleanClauseList(variableMap, clauses));
+            solver.getClauseList().addAll(ASSUMED_CLAUSE_LIST.get(dependencyList));
+            solver.getAssignment().addAll(ASSUMED_ASSIGNMENT.get(dependencyList));
+            solver.setTimeout(SAT_TIMEOUT.get(dependencyList));
+            solver.setGlobalTimeout(true);
+            solver.setSelectionStrategy(ISelectionStrategy.random(random));
+        }
+
+        private int[] createRandomXOR() {
+            final int[] variables = new int[variableCount];
+            int size = 0;
+            for (int v = 1; v <= variableCount; v++) {
+                if (random.nextBoolean()) {
+                    variables[size++] = v;
+                }
+            }
+            if (size == 0 && variableCount > 0) {
+                variables[size++] = random.nextInt(variableCount) + 1;
+            }
+            return Arrays.copyOf(variables, size);
+        }
+
+        /**
+         * Encodes a XOR by a chain of auxiliary variables {@code t_i = t_(i-1) xor
+         * x_i}, using four clauses per variable.
+         *
+         * @return the variable that equals the parity of the XOR
+         */
+        private int encodeXOR(int[] variables, VariableMap variableMap, List<BooleanClause> clauses) {
+            int output = variables[0];
+            for (int i = 1; i < variables.length; i++) {
+                final int variable = variables[i];
+                final int auxiliary = variableMap.maxIndex() + 1;
+                variableMap.add(auxiliary, "__xor" + auxiliary);
+                clauses.add(new BooleanClause(new int[] {-auxiliary, output, variable}));
+                clauses.add(new BooleanClause(new int[] {-auxiliary, -output, -variable}));
+                clauses.add(new BooleanClause(new int[] {auxiliary, -output, variable}));
+                clauses.add(new BooleanClause(new int[] {auxiliary, output, -variable}));
+                output = auxiliary;
+            }
+            return output;
+        }
+
+        /**
+         * Selects a random cell of the given number of XORs and enumerates its
+         * solutions.
+         *
+         * @return the solutions of the cell projected to the original variables or
+         *         {@code null} if a timeout occurred
+         */
+        private List<int[]> enumerateCell(int xorCount, int limit) {
+            ensureXORCount(xorCount);
+            final int assignmentSize = solver.getAssignment().size();
+            final int clauseCount = solver.getClauseList().size();
+
+            final int[] xorIndices = new int[xors.size()];
+            for (int i = 0; i < xorIndices.length; i++) {
+                xorIndices[i] = i;
+            }
+            for (int i = 0; i < xorCount; i++) {
+                final int j = i + random.nextInt(xorIndices.length - i);
+                final int xorIndex = xorIndices[j];
+                xorIndices[j] = xorIndices[i];
+                solver.getAssignment().add(random.nextBoolean() ? xorOutputs[xorIndex] : -xorOutputs[xorIndex]);
+            }
+
+            final List<int[]> cell = new ArrayList<>();
+            try {
+                while (cell.size() < limit) {
+                    final Result<Boolean> hasSolution = solver.hasSolution();
+                    if (hasSolution.isEmpty()) {
+                        return null;
+                    }
+                    if (!hasSolution.get()) {
+                        break;
+                    }
+                    final int[] solution = Arrays.copyOf(solver.getSolution().get(), variableCount);
+                    cell.add(solution);
+                    final int[] blockingClause = new int[solution.length];
+                    for (int i = 0; i < solution.length; i++) {
+                        blockingClause[i] = -solution[i];
+                    }
+                    solver.getClauseList().add(new BooleanClause(blockingClause));
+                    solver.shuffleOrder(random);
+                }
+            } finally {
+                while (solver.getClauseList().size() > clauseCount) {
+                    solver.getClauseList().remove();
+                }
+                solver.getAssignment().clear(assignmentSize);
+            }
+            return cell;
+        }
+    }
+
+    @Override
+    public Result<BooleanSolutionList> compute(List<Object> dependencyList, Progress progress) {
+        final int limit = LIMIT.get(dependencyList);
+        final int cellSize = Math.max(1, CELL_SIZE.get(dependencyList));
+        final int lowerThreshold = Math.max(1, cellSize / 2);
+        final int upperThreshold = cellSize * 2;
+        progress.setTotalSteps(limit);
+
+        final CellSampler sampler = new CellSampler(dependencyList);
+        sampler.ensureXORCount(0);
+        final BooleanSolutionList solutionList =
+                new BooleanSolutionList(BOOLEAN_CLAUSE_LIST.get(dependencyList).getVariableMap());
+
+        int xorCount = 0;
+        int tooLargeXORCount = -1;
+        List<int[]> allSolutions = null;
+        while (solutionList.size() < limit) {
+            checkCancel();
+            if (allSolutions != null) {
+                // the whole solution space fits into one cell, so sample it directly
+                final int index = sampler.random.nextInt(allSolutions.size());
+                solutionList.add(new BooleanSolution(allSolutions.get(index), false));
+                progress.incrementCurrentStep();
+                continue;
+            }
+            final List<int[]> cell = sampler.enumerateCell(xorCount, upperThreshold + 1);
+            if (cell == null) {
+                break;
+            }
+            if (cell.size() > upperThreshold) {
+                tooLargeXORCount = xorCount;
+                xorCount++;
+                continue;
+            }
+            if (xorCount == 0) {
+                if (cell.isEmpty()) {
+                    break;
+                }
+                allSolutions = cell;
+                continue;
+            }
+            if (cell.size() < lowerThreshold && tooLargeXORCount != xorCount - 1) {
+                xorCount--;
+                continue;
+            }
+            Collections.shuffle(cell, sampler.random);
+            final int sampleCount = Math.min(limit - solutionList.size(), Math.min(cell.size(), lowerThreshold));
+            for (int i = 0; i < sampleCount; i++) {
+                solutionList.add(new BooleanSolution(cell.get(i), false));
+                progress.incrementCurrentStep();
+            }
+        }
+        return sampler.solver.createResult(solutionList, "result is a subset");
+    }
+}
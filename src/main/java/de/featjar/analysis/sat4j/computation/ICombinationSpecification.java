@@ -22,6 +22,7 @@ package de.featjar.analysis.sat4j.computation;
 
 import de.featjar.analysis.sat4j.solver.ModalImplicationGraph;
 import de.featjar.formula.assignment.BooleanAssignment;
+import java.math.BigInteger;
 import java.util.Random;
 import java.util.stream.Stream;
 
@@ -31,9 +32,58 @@ public interface ICombinationSpecification {
         return variables.removeAllVariables(new BooleanAssignment(mig.getCore()));
     }
 
+    /**
+     * Streams all combinations. The order is given by the lexicographic iterators
+     * and differs from the order of the indices used by {@link #get(long)} and
+     * {@link #stream(long, long)}. Thus, the number of combinations consumed from
+     * this stream must not be used as an index to resume it. A consumer that
+     * needs to resume should use {@link #stream(long, long)} and remember the
+     * index of the next combination instead.
+     *
+     * @return a stream of the literals of the combinations
+     */
     Stream<int[]> stream();
 
     void shuffle(Random random);
 
-    int getTotalSteps();
+    /**
+     * Returns the number of combinations that are visited by {@link #stream()}.
+     * If this number exceeds the range of {@code long}, {@link Long#MAX_VALUE} is
+     * returned (see {@link #getCombinationCount()} for the exact number).
+     *
+     * @return the number of steps
+     */
+    long getTotalSteps();
+
+    /**
+     * Returns the exact number of combinations. Each combination has a unique
+     * index between {@code 0} and this number, which is given by a
+     * {@link CombinationRanking}. The indices depend on the current order of the
+     * variables and thus change with {@link #shuffle(Random)}.
+     *
+     * @return the number of combinations
+     */
+    BigInteger getCombinationCount();
+
+    /**
+     * Returns the combination with the given index. All indices below
+     * {@link #getTotalSteps()} can be accessed, even if the number of
+     * combinations exceeds the range of {@code long}.
+     *
+     * @param index the index
+     * @return the literals of the combination
+     */
+    int[] get(long index);
+
+    /**
+     * Streams all combinations with an index in the given range in ascending
+     * order of the indices. Disjoint ranges can be processed by parallel workers,
+     * and a stream can be resumed at any index. Streaming all indices visits the
+     * same combinations as {@link #stream()}, but in a different order.
+     *
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (exclusive)
+     * @return a stream of the literals of the combinations
+     */
+    Stream<int[]> stream(long fromIndex, long toIndex);
 }
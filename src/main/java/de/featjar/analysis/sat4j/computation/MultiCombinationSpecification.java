@@ -20,9 +20,9 @@
  */
 package de.featjar.analysis.sat4j.computation;
 
-import de.featjar.base.data.BinomialCalculator;
 import de.featjar.base.data.MultiLexicographicIterator;
 import de.featjar.formula.assignment.BooleanAssignment;
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
@@ -31,10 +31,17 @@ import java.util.stream.Stream;
 
 public class MultiCombinationSpecification implements ICombinationSpecification {
 
-    private final int totalSteps;
+    private final long totalSteps;
     private final int[] tValues;
 
     private final int[][] literalSets;
+    private final CombinationRanking[] rankings;
+
+    /**
+     * The index of a combination is a mixed-radix number, in which the digit of
+     * the last variable set changes fastest.
+     */
+    private final BigInteger[] strides;
 
     public MultiCombinationSpecification(List<BooleanAssignment> variables) {
         this(variables, IntStream.generate(() -> 1).limit(variables.size()).toArray());
@@ -54,7 +61,6 @@ public class MultiCombinationSpecification implements ICombinationSpecification
         }
 
         literalSets = new int[tValues.length][];
-        int intermediateTotelSteps = 0;
         for (int i = 0; i < tValues.length; i++) {
             int t = tValues[i];
             int[] literals = variables.get(i).get();
@@ -63,11 +69,18 @@ public class MultiCombinationSpecification implements ICombinationSpecification
                 throw new IllegalArgumentException(
                         String.format("Value for t must be grater than number of variables", t, literals.length));
             }
-            intermediateTotelSteps *= (int) (BinomialCalculator.computeBinomial(literals.length, t));
         }
-        totalSteps = intermediateTotelSteps;
 
         this.tValues = tValues;
+
+        rankings = new CombinationRanking[tValues.length];
+        strides = new BigInteger[tValues.length + 1];
+        strides[tValues.length] = BigInteger.ONE;
+        for (int i = tValues.length - 1; i >= 0; i--) {
+            rankings[i] = new CombinationRanking(literalSets[i].length, tValues[i]);
+            strides[i] = strides[i + 1].multiply(rankings[i].bigSize());
+        }
+        totalSteps = strides[0].bitLength() < Long.SIZE ? strides[0].longValue() : Long.MAX_VALUE;
     }
 
     @Override
@@ -76,10 +89,75 @@ public class MultiCombinationSpecification implements ICombinationSpecification
     }
 
     @Override
-    public int getTotalSteps() {
+    public long getTotalSteps() {
         return totalSteps;
     }
 
+    @Override
+    public BigInteger getCombinationCount() {
+        return strides[0];
+    }
+
+    @Override
+    public int[] get(long index) {
+        return select(unrank(index));
+    }
+
+    @Override
+    public Stream<int[]> stream(long fromIndex, long toIndex) {
+        if (fromIndex >= toIndex) {
+            return Stream.empty();
+        }
+        if (BigInteger.valueOf(toIndex).compareTo(strides[0]) > 0) {
+            throw new IndexOutOfBoundsException(String.valueOf(toIndex));
+        }
+        return Stream.iterate(unrank(fromIndex), this::next)
+                .limit(toIndex - fromIndex)
+                .map(this::select);
+    }
+
+    private int[][] unrank(long index) {
+        if (index < 0 || BigInteger.valueOf(index).compareTo(strides[0]) >= 0) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        final int[][] positions = new int[tValues.length][];
+        BigInteger remainder = BigInteger.valueOf(index);
+        for (int i = 0; i < tValues.length; i++) {
+            final BigInteger[] digit = remainder.divideAndRemainder(strides[i + 1]);
+            positions[i] = rankings[i].unrank(digit[0], new int[tValues[i]]);
+            remainder = digit[1];
+        }
+        return positions;
+    }
+
+    private int[][] next(int[][] positions) {
+        final int[][] nextPositions = new int[positions.length][];
+        for (int i = 0; i < positions.length; i++) {
+            nextPositions[i] = Arrays.copyOf(positions[i], positions[i].length);
+        }
+        for (int i = positions.length - 1; i >= 0; i--) {
+            if (rankings[i].next(nextPositions[i])) {
+                break;
+            }
+            // wrap around to the first combination and carry to the previous set
+            for (int j = 0; j < nextPositions[i].length; j++) {
+                nextPositions[i][j] = j;
+            }
+        }
+        return nextPositions;
+    }
+
+    private int[] select(int[][] positions) {
+        final int[] selection = new int[Arrays.stream(tValues).sum()];
+        int k = 0;
+        for (int i = 0; i < positions.length; i++) {
+            for (final int position : positions[i]) {
+                selection[k++] = literalSets[i][position];
+            }
+        }
+        return selection;
+    }
+
     @Override
     public void shuffle(Random random) {
         final long seed = random.nextLong();
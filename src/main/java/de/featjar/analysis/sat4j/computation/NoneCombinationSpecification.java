@@ -20,6 +20,7 @@
  */
 package de.featjar.analysis.sat4j.computation;
 
+import java.math.BigInteger;
 import java.util.Random;
 import java.util.stream.Stream;
 
@@ -27,16 +28,29 @@ public class NoneCombinationSpecification implements ICombinationSpecification {
 
     @Override
     public Stream<int[]> stream() {
-        throw new UnsupportedOperationException();
+        return Stream.empty();
     }
 
     @Override
-    public int getTotalSteps() {
-        throw new UnsupportedOperationException();
+    public long getTotalSteps() {
+        return 0;
     }
 
     @Override
-    public void shuffle(Random random) {
-        throw new UnsupportedOperationException();
+    public void shuffle(Random random) {}
+
+    @Override
+    public BigInteger getCombinationCount() {
+        return BigInteger.ZERO;
+    }
+
+    @Override
+    public int[] get(long index) {
+        throw new IndexOutOfBoundsException(String.valueOf(index));
+    }
+
+    @Override
+    public Stream<int[]> stream(long fromIndex, long toIndex) {
+        return Stream.empty();
     }
 }
@@ -21,9 +21,9 @@
 package de.featjar.analysis.sat4j.computation;
 
 import de.featjar.analysis.sat4j.twise.SampleBitIndex;
-import de.featjar.base.data.BinomialCalculator;
 import de.featjar.base.data.SingleLexicographicIterator;
 import de.featjar.formula.assignment.BooleanSolution;
+import java.math.BigInteger;
 import java.util.List;
 import java.util.Random;
 import java.util.stream.IntStream;
@@ -31,10 +31,12 @@ import java.util.stream.Stream;
 
 public class SampleCombinationSpecification implements ICombinationSpecification {
 
-    private final int t, totalSteps;
+    private final int t;
+    private final long totalSteps;
 
     private final int[] literals;
     private SampleBitIndex sampleIndex;
+    private final CombinationRanking ranking;
 
     public SampleCombinationSpecification(List<BooleanSolution> sample, int t) {
         if (t < 1) {
@@ -50,7 +52,8 @@ public class SampleCombinationSpecification implements ICombinationSpecification
         sampleIndex = new SampleBitIndex(sample, t);
         literals = IntStream.range(1, numberOfLiterals + 1).toArray();
 
-        totalSteps = (int) (BinomialCalculator.computeBinomial(numberOfLiterals, t));
+        ranking = new CombinationRanking(numberOfLiterals, t);
+        totalSteps = ranking.saturatedSize();
     }
 
     @Override
@@ -61,10 +64,44 @@ public class SampleCombinationSpecification implements ICombinationSpecification
     }
 
     @Override
-    public int getTotalSteps() {
+    public long getTotalSteps() {
         return totalSteps;
     }
 
+    /**
+     * {@inheritDoc} This includes combinations that are not contained in the
+     * sample.
+     */
+    @Override
+    public BigInteger getCombinationCount() {
+        return ranking.bigSize();
+    }
+
+    /**
+     * {@inheritDoc} The combination may not be contained in the sample.
+     */
+    @Override
+    public int[] get(long index) {
+        return select(ranking.unrank(index, new int[t]));
+    }
+
+    /**
+     * {@inheritDoc} Combinations that are not contained in the sample are
+     * skipped.
+     */
+    @Override
+    public Stream<int[]> stream(long fromIndex, long toIndex) {
+        return ranking.stream(fromIndex, toIndex).map(this::select).filter(sampleIndex::test);
+    }
+
+    private int[] select(int[] positions) {
+        final int[] selection = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            selection[i] = literals[positions[i]];
+        }
+        return selection;
+    }
+
     @Override
     public void shuffle(Random random) {
         final long seed = random.nextLong();
@@ -20,17 +20,19 @@
  */
 package de.featjar.analysis.sat4j.computation;
 
-import de.featjar.base.data.BinomialCalculator;
 import de.featjar.base.data.SingleLexicographicIterator;
 import de.featjar.formula.assignment.BooleanAssignment;
+import java.math.BigInteger;
 import java.util.Random;
 import java.util.stream.Stream;
 
 public class SingleCombinationSpecification implements ICombinationSpecification {
 
-    private final int t, totalSteps;
+    private final int t;
+    private final long totalSteps;
 
     private final int[] literals;
+    private final CombinationRanking ranking;
 
     public SingleCombinationSpecification(BooleanAssignment variables, int t) {
         if (t < 1) {
@@ -44,7 +46,8 @@ public class SingleCombinationSpecification implements ICombinationSpecification
         }
         this.t = t;
 
-        totalSteps = (int) (BinomialCalculator.computeBinomial(literals.length, t));
+        ranking = new CombinationRanking(literals.length, t);
+        totalSteps = ranking.saturatedSize();
     }
 
     @Override
@@ -53,10 +56,33 @@ public class SingleCombinationSpecification implements ICombinationSpecification
     }
 
     @Override
-    public int getTotalSteps() {
+    public long getTotalSteps() {
         return totalSteps;
     }
 
+    @Override
+    public BigInteger getCombinationCount() {
+        return ranking.bigSize();
+    }
+
+    @Override
+    public int[] get(long index) {
+        return select(ranking.unrank(index, new int[t]));
+    }
+
+    @Override
+    public Stream<int[]> stream(long fromIndex, long toIndex) {
+        return ranking.stream(fromIndex, toIndex).map(this::select);
+    }
+
+    private int[] select(int[] positions) {
+        final int[] selection = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            selection[i] = literals[positions[i]];
+        }
+        return selection;
+    }
+
     @Override
     public void shuffle(Random random) {
         final long seed = random.nextLong();
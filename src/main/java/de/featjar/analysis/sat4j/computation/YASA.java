@@ -280,13 +280,17 @@ public class YASA extends ASAT4JAnalysis<BooleanSolutionList> {
                     tmax);
         }
 
-        progress.setTotalSteps(iterations * variables.getTotalSteps());
+        BatchedProgress batchedProgress = new BatchedProgress(progress);
+        long stepsPerIteration = variables.getTotalSteps();
+        batchedProgress.setTotalSteps(
+                stepsPerIteration > Long.MAX_VALUE / iterations ? Long.MAX_VALUE : iterations * stepsPerIteration);
 
-        buildCombinations(progress);
+        buildCombinations(batchedProgress);
 
         if (!overLimit && iterations > 1) {
-            rebuildCombinations(progress);
+            rebuildCombinations(batchedProgress);
         }
+        batchedProgress.flush();
 
         return finalizeResult();
     }
@@ -313,7 +317,7 @@ public class YASA extends ASAT4JAnalysis<BooleanSolutionList> {
         }
     }
 
-    private void buildCombinations(Progress monitor) {
+    private void buildCombinations(BatchedProgress monitor) {
         initSample();
 
         t = tmax;
@@ -354,7 +358,7 @@ public class YASA extends ASAT4JAnalysis<BooleanSolutionList> {
         setBestSolutionList();
     }
 
-    private void rebuildCombinations(Progress monitor) {
+    private void rebuildCombinations(BatchedProgress monitor) {
         if (iterations > 1) {
             int solutionCount = bestSample.size();
             bestSampleIndices = new BitSet[2 * n + 1];
@@ -383,6 +387,8 @@ public class YASA extends ASAT4JAnalysis<BooleanSolutionList> {
             initSample();
             initRun();
             variables.stream().forEach(combinationLiterals -> {
+                checkCancel();
+                monitor.incrementCurrentStep();
                 if (isCovered(combinationLiterals, currentSampleIndices)) {
                     return;
                 }
@@ -709,8 +715,7 @@ public class YASA extends ASAT4JAnalysis<BooleanSolutionList> {
                     Result<Boolean> hasSolution = solver.hasSolution();
                     if (hasSolution.isPresent()) {
                         if (hasSolution.get()) {
-                            final int[] internalSolution = solver.getInternalSolution();
-                            System.arraycopy(internalSolution, 0, configuration.get(), 0, configuration.size());
+                            solver.copySolution(configuration.get());
                             configuration.clear();
                         } else {
                             throw new RuntimeContradictionException();
@@ -793,8 +798,7 @@ public class YASA extends ASAT4JAnalysis<BooleanSolutionList> {
         if (randomSample.size() == internalConfigurationLimit) {
             randomSample.removeFirst();
         }
-        final int[] solution = solver.getInternalSolution();
-        final BooleanSolution e = new BooleanSolution(Arrays.copyOf(solution, solution.length), false);
+        final BooleanSolution e = solver.getSolution();
         randomSample.add(e);
         solver.shuffleOrder(random);
         return e;
@@ -31,7 +31,6 @@ import de.featjar.base.computation.Computations;
 import de.featjar.base.computation.Dependency;
 import de.featjar.base.computation.IComputation;
 import de.featjar.base.computation.Progress;
-import de.featjar.base.data.BinomialCalculator;
 import de.featjar.base.data.ExpandableIntegerList;
 import de.featjar.base.data.LexicographicIterator;
 import de.featjar.base.data.Result;
@@ -306,18 +305,24 @@ public class YASAIncremental extends ASAT4JAnalysis<BooleanSolutionList> {
             }
         }
 
-        int totalSteps = 0;
+        long totalSteps = 0;
         for (int j = 1; j < tmax; j++) {
-            totalSteps += (int) (BinomialCalculator.computeBinomial(presenceConditions.size(), j));
+            totalSteps = CombinationRanking.saturatedAdd(
+                    totalSteps, CombinationRanking.saturatedBinomial(presenceConditions.size(), j));
         }
-        totalSteps += iterations * (int) (BinomialCalculator.computeBinomial(presenceConditions.size(), tmax));
-        progress.setTotalSteps(totalSteps);
+        long stepsPerIteration = CombinationRanking.saturatedBinomial(presenceConditions.size(), tmax);
+        totalSteps = CombinationRanking.saturatedAdd(
+                totalSteps,
+                stepsPerIteration > Long.MAX_VALUE / iterations ? Long.MAX_VALUE : iterations * stepsPerIteration);
+        BatchedProgress batchedProgress = new BatchedProgress(progress);
+        batchedProgress.setTotalSteps(totalSteps);
 
-        buildCombinations(progress);
+        buildCombinations(batchedProgress);
 
         if (!overLimit && iterations > 1) {
-            rebuildCombinations(progress);
+            rebuildCombinations(batchedProgress);
         }
+        batchedProgress.flush();
 
         return finalizeResult();
     }
@@ -347,7 +352,7 @@ public class YASAIncremental extends ASAT4JAnalysis<BooleanSolutionList> {
         }
     }
 
-    private void buildCombinations(Progress monitor) {
+    private void buildCombinations(BatchedProgress monitor) {
         initSample();
         final int[] literals = initliterals(false);
 
@@ -392,7 +397,7 @@ public class YASAIncremental extends ASAT4JAnalysis<BooleanSolutionList> {
         setBestSolutionList();
     }
 
-    private void rebuildCombinations(Progress monitor) {
+    private void rebuildCombinations(BatchedProgress monitor) {
         if (iterations > 1) {
             int solutionCount = bestSample.size();
             bestSampleIndices = new BitSet[2 * n + 1];
@@ -421,6 +426,8 @@ public class YASAIncremental extends ASAT4JAnalysis<BooleanSolutionList> {
             initSample();
             initRun();
             LexicographicIterator.stream(tmax, presenceConditions.size()).forEach(combo -> {
+                checkCancel();
+                monitor.incrementCurrentStep();
                 int[] combinationLiterals = combo.getSelection(literals);
 
                 if (isCovered(combinationLiterals, currentSampleIndices)) {
@@ -771,8 +778,7 @@ public class YASAIncremental extends ASAT4JAnalysis<BooleanSolutionList> {
                     Result<Boolean> hasSolution = solver.hasSolution();
                     if (hasSolution.isPresent()) {
                         if (hasSolution.get()) {
-                            final int[] internalSolution = solver.getInternalSolution();
-                            System.arraycopy(internalSolution, 0, configuration.get(), 0, configuration.size());
+                            solver.copySolution(configuration.get());
                             configuration.clear();
                         } else {
                             throw new RuntimeContradictionException();
@@ -855,8 +861,7 @@ public class YASAIncremental extends ASAT4JAnalysis<BooleanSolutionList> {
         if (randomSample.size() == internalConfigurationLimit) {
             randomSample.removeFirst();
         }
-        final int[] solution = solver.getInternalSolution();
-        final BooleanSolution e = new BooleanSolution(Arrays.copyOf(solution, solution.length), false);
+        final BooleanSolution e = solver.getSolution();
         randomSample.add(e);
         solver.shuffleOrder(random);
         return e;
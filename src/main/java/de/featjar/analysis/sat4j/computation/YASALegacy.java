@@ -202,13 +202,17 @@ public class YASALegacy extends ATWiseSampleComputation {
                     maxT);
         }
 
-        progress.setTotalSteps(iterations * variables.getTotalSteps());
+        BatchedProgress batchedProgress = new BatchedProgress(progress);
+        long stepsPerIteration = variables.getTotalSteps();
+        batchedProgress.setTotalSteps(
+                stepsPerIteration > Long.MAX_VALUE / iterations ? Long.MAX_VALUE : iterations * stepsPerIteration);
 
-        buildCombinations(progress);
+        buildCombinations(batchedProgress);
 
         if (!overLimit && iterations > 1) {
-            rebuildCombinations(progress);
+            rebuildCombinations(batchedProgress);
         }
+        batchedProgress.flush();
 
         return finalizeResult();
     }
@@ -230,7 +234,7 @@ public class YASALegacy extends ATWiseSampleComputation {
         }
     }
 
-    private void buildCombinations(Progress monitor) {
+    private void buildCombinations(BatchedProgress monitor) {
         initSample();
 
         int t = maxT;
@@ -271,7 +275,7 @@ public class YASALegacy extends ATWiseSampleComputation {
         setBestSolutionList();
     }
 
-    private void rebuildCombinations(Progress monitor) {
+    private void rebuildCombinations(BatchedProgress monitor) {
         if (iterations > 1) {
             int solutionCount = bestSample.size();
             bestSampleIndices = new BitSet[2 * variableCount + 1];
@@ -628,8 +632,7 @@ public class YASALegacy extends ATWiseSampleComputation {
                     Result<Boolean> hasSolution = solver.hasSolution();
                     if (hasSolution.isPresent()) {
                         if (hasSolution.get()) {
-                            final int[] internalSolution = solver.getInternalSolution();
-                            System.arraycopy(internalSolution, 0, configuration.get(), 0, configuration.size());
+                            solver.copySolution(configuration.get());
                             configuration.clear();
                         } else {
                             throw new RuntimeContradictionException();
@@ -712,8 +715,7 @@ public class YASALegacy extends ATWiseSampleComputation {
         if (randomSample.size() == internalConfigurationLimit) {
             randomSample.removeFirst();
         }
-        final int[] solution = solver.getInternalSolution();
-        final BooleanSolution e = new BooleanSolution(Arrays.copyOf(solution, solution.length), false);
+        final BooleanSolution e = solver.getSolution();
         randomSample.add(e);
         solver.shuffleOrder(random);
         return e;
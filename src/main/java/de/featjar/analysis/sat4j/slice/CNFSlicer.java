@@ -21,6 +21,7 @@
 package de.featjar.analysis.sat4j.slice;
 
 import de.featjar.analysis.sat4j.solver.SAT4JSolutionSolver;
+import de.featjar.base.FeatJAR;
 import de.featjar.base.computation.AComputation;
 import de.featjar.base.computation.ComputeConstant;
 import de.featjar.base.computation.Dependency;
@@ -31,11 +32,10 @@ import de.featjar.formula.assignment.BooleanAssignment;
 import de.featjar.formula.assignment.BooleanClause;
 import de.featjar.formula.assignment.BooleanClauseList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -49,6 +49,15 @@ public class CNFSlicer extends AComputation<BooleanClauseList> {
     public static final Dependency<BooleanAssignment> VARIABLES_OF_INTEREST =
             Dependency.newDependency(BooleanAssignment.class);
 
+    /**
+     * Maximum size of the resulting clause list relative to the size of the
+     * original clause list. Variables are eliminated in order of their predicted
+     * resolvent growth as long as the predicted clause count stays within this
+     * bound. All remaining variables are kept as existentially quantified
+     * auxiliary variables. By default, there is no bound.
+     */
+    public static final Dependency<Double> MAXIMUM_GROWTH = Dependency.newDependency(Double.class);
+
     protected static final Comparator<BooleanAssignment> lengthComparator =
             Comparator.comparing(BooleanAssignment::size);
 
@@ -59,8 +68,8 @@ public class CNFSlicer extends AComputation<BooleanClauseList> {
     protected final List<DirtyClause> newCleanClauseList = new ArrayList<>();
     protected final List<DirtyClause> dirtyClauseList = new ArrayList<>();
     protected final ArrayList<BooleanClause> cleanLiteralListIndexList = new ArrayList<>();
-    protected final Set<DirtyClause> dirtyClauseSet = new HashSet<>();
-    protected final Set<DirtyClause> cleanClauseSet = new HashSet<>();
+    protected final DirtyClauseSet dirtyClauseSet = new DirtyClauseSet();
+    protected final DirtyClauseSet cleanClauseSet = new DirtyClauseSet();
 
     protected BooleanAssignment dirtyVariables;
     private int numberOfDirtyFeatures = 0;
@@ -79,18 +88,27 @@ public class CNFSlicer extends AComputation<BooleanClauseList> {
     protected int newDirtyListDelIndex = 0;
 
     public CNFSlicer(IComputation<BooleanClauseList> booleanClauseList) {
-        super(booleanClauseList, new ComputeConstant<>(new BooleanAssignment()));
+        super(
+                booleanClauseList,
+                new ComputeConstant<>(new BooleanAssignment()),
+                new ComputeConstant<>(Double.POSITIVE_INFINITY));
     }
 
     int cr = 0, cnr = 0, dr = 0, dnr = 0;
+    long resolventCount = 0, subsumedCount = 0, strengthenedCount = 0;
 
     @Override
     public Result<BooleanClauseList> compute(List<Object> dependencyList, Progress progress) {
         orgCNF = CNF.get(dependencyList);
         dirtyVariables = VARIABLES_OF_INTEREST.get(dependencyList);
+        final double maximumGrowth = MAXIMUM_GROWTH.get(dependencyList);
 
         cnfCopy = new BooleanClauseList(orgCNF.getVariableMap());
 
+        resolventCount = 0;
+        subsumedCount = 0;
+        strengthenedCount = 0;
+
         map = new DirtyFeature[orgCNF.getVariableMap().getVariableCount() + 1];
         numberOfDirtyFeatures = 0;
         for (final int curFeature : dirtyVariables.get()) {
@@ -108,12 +126,24 @@ public class CNFSlicer extends AComputation<BooleanClauseList> {
 
         progress.setTotalSteps(heuristic.size());
 
+        final long maximumClauseCount = Double.isInfinite(maximumGrowth)
+                ? Long.MAX_VALUE
+                : (long) Math.ceil(maximumGrowth * getClauseCount());
+        boolean keepDirtyClauses = false;
+
         while (heuristic.hasNext()) {
             final DirtyFeature nextFeature = heuristic.next();
             if (nextFeature == null) {
                 break;
             }
 
+            // Stop if even the cheapest elimination exceeds the growth bound. All
+            // remaining dirty features are kept as auxiliary variables.
+            if (nextFeature.getClauseCount() > maximumClauseCount - getClauseCount()) {
+                keepDirtyClauses = true;
+                break;
+            }
+
             // Remove redundant dirty clauses
             firstRedundancyCheck(nextFeature);
 
@@ -141,6 +171,18 @@ public class CNFSlicer extends AComputation<BooleanClauseList> {
 
         addCleanClauses();
 
+        if (keepDirtyClauses) {
+            cleanLiteralListIndexList.ensureCapacity(cleanLiteralListIndexList.size() + dirtyClauseList.size());
+            for (final DirtyClause dirtyClause : dirtyClauseList) {
+                cleanLiteralListIndexList.add(new BooleanClause(dirtyClause));
+            }
+        }
+
+        FeatJAR.log()
+                .debug(
+                        "resolvents: %d, subsumed: %d, strengthened: %d",
+                        resolventCount, subsumedCount, strengthenedCount);
+
         release();
         //        final HashSet<String> names = new HashSet<>(orgCNF.getVariableNames());
         //        for (final int literal : dirtyVariables.getIntegers()) {
@@ -156,22 +198,31 @@ public class CNFSlicer extends AComputation<BooleanClauseList> {
         return Result.of(new BooleanClauseList(orgCNF.getVariableMap(), slicedLiteralListIndexList));
     }
 
+    private long getClauseCount() {
+        return (long) cleanLiteralListIndexList.size() + newCleanClauseList.size() + dirtyClauseList.size();
+    }
+
     private void addNewClause(final DirtyClause curClause) {
         if (curClause != null) {
             if (curClause.computeRelevance(map)) {
                 globalMixedClauseCount++;
             }
             if (curClause.getRelevance() == 0) {
-                if (cleanClauseSet.add(curClause)) {
-                    newCleanClauseList.add(curClause);
-                } else {
+                if (cleanClauseSet.containsSubsetOf(curClause)) {
+                    subsumedCount++;
                     deleteClause(curClause);
+                } else {
+                    cleanClauseSet.add(curClause);
+                    newCleanClauseList.add(curClause);
                 }
             } else {
-                if (dirtyClauseSet.add(curClause)) {
-                    newDirtyClauseList.add(curClause);
-                } else {
+                // a dirty clause may be subsumed by a clean clause, but not vice versa
+                if (dirtyClauseSet.containsSubsetOf(curClause) || cleanClauseSet.containsSubsetOf(curClause)) {
+                    subsumedCount++;
                     deleteClause(curClause);
+                } else {
+                    dirtyClauseSet.add(curClause);
+                    newDirtyClauseList.add(curClause);
                 }
             }
         }
@@ -233,12 +284,75 @@ public class CNFSlicer extends AComputation<BooleanClauseList> {
                 System.arraycopy(posOrChildren, 0, newChildren, 0, posOrChildren.length);
                 System.arraycopy(negOrChildren, 0, newChildren, posOrChildren.length, negOrChildren.length);
 
-                addNewClause(DirtyClause.createClause(newChildren, curFeatureID, helper));
+                final DirtyClause resolvent = DirtyClause.createClause(newChildren, curFeatureID, helper);
+                if (resolvent != null) {
+                    resolventCount++;
+                    addNewClause(strengthen(resolvent));
+                }
             }
         }
         newDirtyListDelIndex = newDirtyClauseList.size();
     }
 
+    /**
+     * Applies self-subsuming resolution to a new resolvent. If the current clause
+     * set contains a clause {@code D} with {@code -l} in {@code D} and {@code D}
+     * without {@code -l} being a subset of the resolvent, then {@code l} can be
+     * removed from the resolvent.
+     *
+     * @param resolvent the resolvent
+     * @return the strengthened resolvent or the resolvent itself, if it cannot be
+     *         strengthened
+     */
+    private DirtyClause strengthen(DirtyClause resolvent) {
+        int[] literals = resolvent.get();
+        int[] sortedFlipped = Arrays.copyOf(literals, literals.length);
+        boolean strengthened = false;
+        for (int i = 0; i < literals.length; i++) {
+            final int j = flip(sortedFlipped, i);
+            final long signature = DirtyClause.computeSignature(sortedFlipped);
+            if (dirtyClauseSet.containsSubsetOf(sortedFlipped, signature)
+                    || cleanClauseSet.containsSubsetOf(sortedFlipped, signature)) {
+                final int[] newLiterals = new int[literals.length - 1];
+                System.arraycopy(literals, 0, newLiterals, 0, i);
+                System.arraycopy(literals, i + 1, newLiterals, i, newLiterals.length - i);
+                literals = newLiterals;
+                sortedFlipped = Arrays.copyOf(literals, literals.length);
+                strengthened = true;
+                strengthenedCount++;
+                i--;
+            } else {
+                final int from = Math.min(i, j);
+                System.arraycopy(literals, from, sortedFlipped, from, Math.abs(i - j) + 1);
+            }
+        }
+        return strengthened ? new DirtyClause(literals) : resolvent;
+    }
+
+    /**
+     * Negates the literal at the given index of a sorted array and moves it to its
+     * sorted position. All other literals keep their relative order, so only the
+     * range between the old and the new position differs from the input.
+     *
+     * @param sortedLiterals the sorted literals
+     * @param index          the index of the literal to negate
+     * @return the new position of the negated literal
+     */
+    private static int flip(int[] sortedLiterals, int index) {
+        final int flipped = -sortedLiterals[index];
+        int position = index;
+        while (position > 0 && sortedLiterals[position - 1] > flipped) {
+            sortedLiterals[position] = sortedLiterals[position - 1];
+            position--;
+        }
+        while (position < sortedLiterals.length - 1 && sortedLiterals[position + 1] < flipped) {
+            sortedLiterals[position] = sortedLiterals[position + 1];
+            position++;
+        }
+        sortedLiterals[position] = flipped;
+        return position;
+    }
+
     private void partitionDirtyList(DirtyFeature nextFeature) {
         final int curFeatureID = nextFeature.getId();
         for (int i = 0; i < dirtyListNegIndex; i++) {
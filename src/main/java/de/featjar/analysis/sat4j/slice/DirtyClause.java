@@ -21,7 +21,7 @@
 package de.featjar.analysis.sat4j.slice;
 
 import de.featjar.formula.assignment.BooleanClause;
-import java.util.HashSet;
+import java.util.Arrays;
 
 /**
  * Used by {@link CNFSlicer}.
@@ -34,20 +34,20 @@ public class DirtyClause extends BooleanClause {
 
     private int relevance;
 
-    public static DirtyClause createClause(int[] newLiterals, int curFeature) {
-        final HashSet<Integer> literalSet = new HashSet<>(newLiterals.length << 1);
+    private long hash;
+    private long signature;
+
+    transient DirtyClauseSet owner;
 
+    public static DirtyClause createClause(int[] newLiterals, int curFeature) {
+        final int[] literals = new int[newLiterals.length];
+        int k = 0;
         for (final int literal : newLiterals) {
             if (curFeature != Math.abs(literal)) {
-                if (literalSet.contains(-literal)) {
-                    return null;
-                } else {
-                    literalSet.add(literal);
-                }
+                literals[k++] = literal;
             }
         }
-
-        return getClauseFromSet(literalSet);
+        return createSortedClause(literals, k);
     }
 
     public static DirtyClause createClause(int[] newLiterals, int curFeature, int[] helper) {
@@ -89,36 +89,115 @@ public class DirtyClause extends BooleanClause {
     }
 
     public static DirtyClause createClause(int[] newLiterals) {
-        final HashSet<Integer> literalSet = new HashSet<>(newLiterals.length << 1);
+        return createSortedClause(Arrays.copyOf(newLiterals, newLiterals.length), newLiterals.length);
+    }
 
-        for (final int literal : newLiterals) {
-            if (literalSet.contains(-literal)) {
+    /**
+     * Sorts the first {@code length} literals of the given array, removes
+     * duplicates, and creates a new clause.
+     *
+     * @param literals the literals (are modified)
+     * @param length   the number of valid literals in the array
+     * @return the new clause or {@code null} if the clause is tautological
+     */
+    private static DirtyClause createSortedClause(int[] literals, int length) {
+        Arrays.sort(literals, 0, length);
+        int k = 0;
+        for (int i = 0; i < length; i++) {
+            final int literal = literals[i];
+            if (k == 0 || literals[k - 1] != literal) {
+                literals[k++] = literal;
+            }
+        }
+        // complementary literals have the same absolute value and are therefore
+        // mirrored around zero in the sorted array
+        int negativeIndex = 0;
+        int positiveIndex = k - 1;
+        while (negativeIndex < positiveIndex && literals[negativeIndex] < 0 && literals[positiveIndex] > 0) {
+            final int difference = -literals[negativeIndex] - literals[positiveIndex];
+            if (difference == 0) {
                 return null;
+            } else if (difference > 0) {
+                positiveIndex--;
             } else {
-                literalSet.add(literal);
+                negativeIndex++;
             }
         }
-
-        return getClauseFromSet(literalSet);
+        return new DirtyClause(k == literals.length ? literals : Arrays.copyOf(literals, k), true);
     }
 
-    private static DirtyClause getClauseFromSet(final HashSet<Integer> literalSet) {
-        final int[] newLiterals = new int[literalSet.size()];
-        int i = 0;
-        for (final int lit : literalSet) {
-            newLiterals[i++] = lit;
-        }
-        return new DirtyClause(newLiterals);
+    /**
+     * Creates a new clause. The given literal array is sorted in place.
+     *
+     * @param literals the literals
+     */
+    public DirtyClause(int[] literals) {
+        this(literals, false);
     }
 
-    public DirtyClause(int[] literals) {
+    private DirtyClause(int[] literals, boolean sorted) {
         super(literals);
+        if (!sorted) {
+            Arrays.sort(elements);
+        }
         relevance = 0;
+        computeHash();
     }
 
     public DirtyClause(DirtyClause clause) {
         super(clause);
         relevance = clause.relevance;
+        hash = clause.hash;
+        signature = clause.signature;
+    }
+
+    /**
+     * Computes a 64-bit bloom filter of the given literals.
+     *
+     * @param literals the literals
+     * @return the signature
+     * @see #getSignature()
+     */
+    public static long computeSignature(int[] literals) {
+        long s = 0;
+        for (final int literal : literals) {
+            s |= 1L << ((literal * 0x9E3779B9) >>> 26);
+        }
+        return s;
+    }
+
+    private void computeHash() {
+        long h = elements.length;
+        for (final int literal : elements) {
+            h = (h ^ literal) * 0x9E3779B97F4A7C15L;
+            h ^= h >>> 29;
+        }
+        hash = h;
+        signature = computeSignature(elements);
+    }
+
+    /**
+     * Returns the precomputed 64-bit hash of the sorted literals of this clause.
+     *
+     * @return the hash
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Returns a 64-bit bloom filter of the literals of this clause. If the
+     * signature of a clause has a bit set that is not set in the signature of
+     * another clause, it cannot be a subset of the other clause.
+     *
+     * @return the signature
+     */
+    public long getSignature() {
+        return signature;
+    }
+
+    boolean sameLiterals(DirtyClause other) {
+        return hash == other.hash && Arrays.equals(elements, other.elements);
     }
 
     boolean computeRelevance(DirtyFeature[] map) {
@@ -179,6 +258,9 @@ public class DirtyClause extends BooleanClause {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj instanceof DirtyClause) {
+            return sameLiterals((DirtyClause) obj);
+        }
         return super.equals(obj);
     }
 }
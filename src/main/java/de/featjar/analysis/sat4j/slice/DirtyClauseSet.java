@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.slice;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Open-addressing hash set of {@link DirtyClause dirty clauses}. Clauses are
+ * compared by their sorted literal arrays and precomputed 64-bit hashes, so no
+ * boxing is necessary. Additionally, each clause is indexed by its smallest
+ * literal, which allows to check whether a clause is subsumed by any clause in
+ * the set. Used by {@link CNFSlicer}.
+ *
+ * @author agent
+ */
+public class DirtyClauseSet {
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final DirtyClause[] EMPTY_LIST = new DirtyClause[0];
+
+    private DirtyClause[] table = new DirtyClause[INITIAL_CAPACITY];
+    private int mask = INITIAL_CAPACITY - 1;
+    private int size = 0;
+
+    private DirtyClause[][] firstLiteralOccurrences = new DirtyClause[0][];
+    private int[] firstLiteralOccurrenceCounts = new int[0];
+    private int staleOccurrenceCount = 0;
+
+    static boolean isSubset(int[] subset, int[] superset) {
+        if (subset.length > superset.length) {
+            return false;
+        }
+        int j = 0;
+        for (final int literal : subset) {
+            while (j < superset.length && superset[j] < literal) {
+                j++;
+            }
+            if (j == superset.length || superset[j] != literal) {
+                return false;
+            }
+            j++;
+        }
+        return true;
+    }
+
+    private static int getLiteralIndex(int literal) {
+        return literal > 0 ? literal << 1 : ((-literal) << 1) + 1;
+    }
+
+    private int getTableIndex(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(DirtyClause clause) {
+        return find(clause) >= 0;
+    }
+
+    /**
+     * Adds a clause to this set.
+     *
+     * @param clause the clause
+     * @return {@code true} if the clause was added, {@code false} if the set
+     *         already contained an equal clause
+     */
+    public boolean add(DirtyClause clause) {
+        if (((size + 1) << 2) > (table.length * 3)) {
+            resize(table.length << 1);
+        }
+        int i = getTableIndex(clause.getHash());
+        for (DirtyClause other = table[i]; other != null; other = table[i]) {
+            if (clause.sameLiterals(other)) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = clause;
+        size++;
+        clause.owner = this;
+        addOccurrence(clause);
+        return true;
+    }
+
+    /**
+     * Removes a clause from this set.
+     *
+     * @param clause the clause
+     * @return {@code true} if the set contained an equal clause
+     */
+    public boolean remove(DirtyClause clause) {
+        int i = find(clause);
+        if (i < 0) {
+            return false;
+        }
+        table[i].owner = null;
+        staleOccurrenceCount++;
+
+        // backward shift deletion
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            final DirtyClause other = table[j];
+            if (other == null) {
+                break;
+            }
+            final int k = getTableIndex(other.getHash());
+            if ((j > i) ? (k <= i || k > j) : (k <= i && k > j)) {
+                table[i] = other;
+                i = j;
+            }
+        }
+        table[i] = null;
+        size--;
+
+        if (staleOccurrenceCount > size + INITIAL_CAPACITY) {
+            rebuildOccurrences();
+        }
+        return true;
+    }
+
+    public void removeAll(Collection<DirtyClause> clauses) {
+        for (final DirtyClause clause : clauses) {
+            remove(clause);
+        }
+    }
+
+    /**
+     * Checks whether this set contains a clause that is equal to or a subset of
+     * the given clause, i.e., whether the given clause is subsumed.
+     *
+     * @param clause the clause
+     * @return {@code true} if the given clause is subsumed by a clause in this set
+     */
+    public boolean containsSubsetOf(DirtyClause clause) {
+        return find(clause) >= 0 || containsSubsetOf(clause.get(), clause.getSignature());
+    }
+
+    /**
+     * Checks whether this set contains a clause that is equal to or a subset of
+     * the given literals.
+     *
+     * @param literals  the literals, must be sorted
+     * @param signature the signature of the literals as computed by
+     *                  {@link DirtyClause#computeSignature(int[])}
+     * @return {@code true} if the given literals are subsumed by a clause in this
+     *         set
+     */
+    public boolean containsSubsetOf(int[] literals, long signature) {
+        for (final int literal : literals) {
+            final int literalIndex = getLiteralIndex(literal);
+            if (literalIndex >= firstLiteralOccurrences.length) {
+                continue;
+            }
+            final DirtyClause[] occurrences = firstLiteralOccurrences[literalIndex];
+            int count = firstLiteralOccurrenceCounts[literalIndex];
+            for (int i = 0; i < count; i++) {
+                final DirtyClause other = occurrences[i];
+                if (other.owner != this) {
+                    occurrences[i--] = occurrences[--count];
+                    occurrences[count] = null;
+                    staleOccurrenceCount--;
+                } else if ((other.getSignature() & ~signature) == 0 && isSubset(other.get(), literals)) {
+                    firstLiteralOccurrenceCounts[literalIndex] = count;
+                    return true;
+                }
+            }
+            firstLiteralOccurrenceCounts[literalIndex] = count;
+        }
+        return false;
+    }
+
+    public void clear() {
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] != null) {
+                table[i].owner = null;
+                table[i] = null;
+            }
+        }
+        size = 0;
+        firstLiteralOccurrences = new DirtyClause[0][];
+        firstLiteralOccurrenceCounts = new int[0];
+        staleOccurrenceCount = 0;
+    }
+
+    private int find(DirtyClause clause) {
+        int i = getTableIndex(clause.getHash());
+        for (DirtyClause other = table[i]; other != null; other = table[i]) {
+            if (clause.sameLiterals(other)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int newCapacity) {
+        final DirtyClause[] oldTable = table;
+        table = new DirtyClause[newCapacity];
+        mask = newCapacity - 1;
+        for (final DirtyClause clause : oldTable) {
+            if (clause != null) {
+                int i = getTableIndex(clause.getHash());
+                while (table[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = clause;
+            }
+        }
+    }
+
+    private void addOccurrence(DirtyClause clause) {
+        final int[] literals = clause.get();
+        if (literals.length == 0) {
+            return;
+        }
+        final int literalIndex = getLiteralIndex(literals[0]);
+        if (literalIndex >= firstLiteralOccurrences.length) {
+            final int newLength = Math.max(literalIndex + 1, firstLiteralOccurrences.length << 1);
+            final int oldLength = firstLiteralOccurrences.length;
+            firstLiteralOccurrences = Arrays.copyOf(firstLiteralOccurrences, newLength);
+            firstLiteralOccurrenceCounts = Arrays.copyOf(firstLiteralOccurrenceCounts, newLength);
+            Arrays.fill(firstLiteralOccurrences, oldLength, newLength, EMPTY_LIST);
+        }
+        DirtyClause[] occurrences = firstLiteralOccurrences[literalIndex];
+        final int count = firstLiteralOccurrenceCounts[literalIndex];
+        if (count == occurrences.length) {
+            occurrences = Arrays.copyOf(occurrences, Math.max(4, count << 1));
+            firstLiteralOccurrences[literalIndex] = occurrences;
+        }
+        occurrences[count] = clause;
+        firstLiteralOccurrenceCounts[literalIndex] = count + 1;
+    }
+
+    private void rebuildOccurrences() {
+        Arrays.fill(firstLiteralOccurrences, EMPTY_LIST);
+        Arrays.fill(firstLiteralOccurrenceCounts, 0);
+        staleOccurrenceCount = 0;
+        for (final DirtyClause clause : table) {
+            if (clause != null) {
+                addOccurrence(clause);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.solver;
+
+import de.featjar.formula.assignment.BooleanClause;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Shrinks a solution to a minimal implicant, i.e., a partial assignment that
+ * satisfies every clause. Each implicant represents a cube of solutions, since
+ * all of its unassigned variables can be chosen freely. Clauses are indexed by
+ * their literals, such that a literal can be removed from an implicant if every
+ * clause containing it is satisfied by another literal.
+ *
+ * @author agent
+ */
+public class ImplicantShrinker {
+
+    private static final int[] EMPTY_LIST = new int[0];
+
+    private final int[][] occurrences;
+    private final int[] occurrenceCounts;
+
+    private int[][] clauses = new int[16][];
+    private int[] satisfiedCounts = new int[16];
+    private int clauseCount;
+
+    public ImplicantShrinker(int variableCount) {
+        occurrences = new int[2 * (variableCount + 1)][];
+        occurrenceCounts = new int[occurrences.length];
+        Arrays.fill(occurrences, EMPTY_LIST);
+    }
+
+    private static int getLiteralIndex(int literal) {
+        return literal > 0 ? literal << 1 : ((-literal) << 1) + 1;
+    }
+
+    public int getClauseCount() {
+        return clauseCount;
+    }
+
+    public void addClauses(Collection<? extends BooleanClause> clauses) {
+        for (final BooleanClause clause : clauses) {
+            addClause(clause.get());
+        }
+    }
+
+    public void addClause(int... literals) {
+        if (clauseCount == clauses.length) {
+            clauses = Arrays.copyOf(clauses, clauseCount << 1);
+            satisfiedCounts = Arrays.copyOf(satisfiedCounts, clauseCount << 1);
+        }
+        final int clauseIndex = clauseCount++;
+        clauses[clauseIndex] = literals;
+        for (final int literal : literals) {
+            final int literalIndex = getLiteralIndex(literal);
+            int[] literalOccurrences = occurrences[literalIndex];
+            final int count = occurrenceCounts[literalIndex];
+            if (count == literalOccurrences.length) {
+                literalOccurrences = Arrays.copyOf(literalOccurrences, Math.max(4, count << 1));
+                occurrences[literalIndex] = literalOccurrences;
+            }
+            literalOccurrences[count] = clauseIndex;
+            occurrenceCounts[literalIndex] = count + 1;
+        }
+    }
+
+    /**
+     * Computes a minimal implicant contained in the given solution. Literals are
+     * removed greedily in the order of their variables.
+     *
+     * @param solution      the solution, the literal for variable {@code v} is
+     *                      stored at position {@code v - 1}, must satisfy all
+     *                      clauses
+     * @param fixedLiterals literals that are never removed (e.g., assumptions)
+     * @return the literals of the implicant
+     */
+    public int[] shrink(int[] solution, int[] fixedLiterals) {
+        for (int i = 0; i < clauseCount; i++) {
+            int satisfiedCount = 0;
+            for (final int literal : clauses[i]) {
+                if (solution[Math.abs(literal) - 1] == literal) {
+                    satisfiedCount++;
+                }
+            }
+            satisfiedCounts[i] = satisfiedCount;
+        }
+
+        final boolean[] fixed = new boolean[solution.length + 1];
+        for (final int literal : fixedLiterals) {
+            fixed[Math.abs(literal)] = true;
+        }
+
+        final int[] implicant = new int[solution.length];
+        int implicantSize = 0;
+        literalLoop:
+        for (final int literal : solution) {
+            if (literal == 0) {
+                continue;
+            }
+            if (!fixed[Math.abs(literal)]) {
+                final int literalIndex = getLiteralIndex(literal);
+                final int[] literalOccurrences = occurrences[literalIndex];
+                final int count = occurrenceCounts[literalIndex];
+                for (int i = 0; i < count; i++) {
+                    if (satisfiedCounts[literalOccurrences[i]] < 2) {
+                        implicant[implicantSize++] = literal;
+                        continue literalLoop;
+                    }
+                }
+                for (int i = 0; i < count; i++) {
+                    satisfiedCounts[literalOccurrences[i]]--;
+                }
+            } else {
+                implicant[implicantSize++] = literal;
+            }
+        }
+        return Arrays.copyOf(implicant, implicantSize);
+    }
+}
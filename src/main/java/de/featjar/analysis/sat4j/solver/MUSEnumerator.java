@@ -0,0 +1,410 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.solver;
+
+import de.featjar.formula.assignment.BooleanClause;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import org.sat4j.core.VecInt;
+import org.sat4j.minisat.SolverFactory;
+import org.sat4j.minisat.core.Solver;
+import org.sat4j.minisat.orders.PositiveLiteralSelectionStrategy;
+import org.sat4j.minisat.orders.VarOrderHeap;
+import org.sat4j.specs.ContradictionException;
+import org.sat4j.specs.ISolver;
+import org.sat4j.specs.IVecInt;
+import org.sat4j.specs.TimeoutException;
+
+/**
+ * Enumerates minimal unsatisfiable subsets (MUS) of a clause list using the
+ * MARCO algorithm. A map solver keeps track of all subsets of clauses that are
+ * not yet explored. In each iteration, a seed is taken from the map solver and
+ * checked by a subset solver, which contains every clause together with a
+ * selector variable. Unsatisfiable seeds are shrunk to a MUS, satisfiable seeds
+ * are grown to a maximal satisfiable subset. Both are blocked in the map
+ * solver, such that no subset is checked twice. Both solvers are used
+ * incrementally over the whole enumeration.
+ *
+ * @author agent
+ */
+public class MUSEnumerator {
+
+    private final List<BooleanClause> clauses;
+    private final int[] assumptions;
+    private final int selectorOffset;
+
+    private final ISolver subsetSolver;
+    private final ISolver mapSolver;
+    private boolean mapExhausted;
+    private boolean timeoutOccurred;
+    private long deadline = Long.MAX_VALUE;
+
+    /**
+     * Creates a new enumerator.
+     *
+     * @param clauses       the clauses from which the MUSes are selected
+     * @param assumptions   literals that are assumed to be true (i.e., hard
+     *                      constraints that are not part of any MUS)
+     * @param variableCount the number of variables in the clauses
+     */
+    public MUSEnumerator(List<BooleanClause> clauses, int[] assumptions, int variableCount) {
+        this.clauses = clauses;
+        this.assumptions = assumptions;
+        this.selectorOffset = variableCount;
+
+        final int clauseCount = clauses.size();
+        subsetSolver = SolverFactory.newDefault();
+        subsetSolver.setKeepSolverHot(true);
+        subsetSolver.setVerbose(false);
+        subsetSolver.newVar(selectorOffset + clauseCount);
+        mapSolver = SolverFactory.newDefault();
+        mapSolver.setKeepSolverHot(true);
+        mapSolver.setVerbose(false);
+        mapSolver.newVar(clauseCount);
+        // prefer large seeds, which are more likely to be unsatisfiable
+        ((Solver<?>) mapSolver).setOrder(new VarOrderHeap(new PositiveLiteralSelectionStrategy()));
+
+        try {
+            // due to a bug in SAT4J, each variable must be mentioned at least once
+            addPseudoClause(subsetSolver, selectorOffset + clauseCount);
+            addPseudoClause(mapSolver, clauseCount);
+            for (int i = 0; i < clauseCount; i++) {
+                final int[] literals = clauses.get(i).get();
+                final VecInt clause = new VecInt(literals.length + 1);
+                for (final int literal : literals) {
+                    clause.push(literal);
+                }
+                clause.push(-getSelector(i));
+                subsetSolver.addClause(clause);
+            }
+        } catch (ContradictionException e) {
+            mapExhausted = true;
+        }
+    }
+
+    private static void addPseudoClause(ISolver solver, int size) throws ContradictionException {
+        if (size > 0) {
+            final VecInt pseudoClause = new VecInt(size + 1);
+            for (int i = 1; i <= size; i++) {
+                pseudoClause.push(i);
+            }
+            pseudoClause.push(-1);
+            solver.addClause(pseudoClause);
+        }
+    }
+
+    private int getSelector(int clauseIndex) {
+        return selectorOffset + clauseIndex + 1;
+    }
+
+    /**
+     * Returns whether the last enumeration was stopped due to its time budget.
+     *
+     * @return {@code true} if a timeout occurred
+     */
+    public boolean isTimeoutOccurred() {
+        return timeoutOccurred;
+    }
+
+    /**
+     * Enumerates MUSes and passes each MUS to the given consumer as soon as it is
+     * found. Calling this method again continues the enumeration.
+     *
+     * @param limit    the maximum number of MUSes to find in this call
+     * @param timeout  the time budget for this call, {@link Duration#ZERO} for no
+     *                 budget. Each solver call is limited to the remaining budget.
+     *                 If the budget is exceeded, the MUSes found so far have
+     *                 already been passed to the consumer and {@link
+     *                 #isTimeoutOccurred()} is set.
+     * @param consumer the consumer for the found MUSes
+     * @return {@code true} if all MUSes have been enumerated, {@code false}
+     *         otherwise
+     */
+    public boolean enumerate(int limit, Duration timeout, Consumer<List<BooleanClause>> consumer) {
+        timeoutOccurred = false;
+        deadline = timeout.isZero() ? Long.MAX_VALUE : System.nanoTime() + timeout.toNanos();
+        int count = 0;
+        try {
+            while (!mapExhausted && count < limit) {
+                setRemainingTime(mapSolver);
+                if (!mapSolver.isSatisfiable(true)) {
+                    mapExhausted = true;
+                    break;
+                }
+                final List<Integer> seed = getSeed(mapSolver.model());
+                if (isSatisfiable(seed)) {
+                    block(grow(seed), false);
+                } else {
+                    final List<Integer> mus = shrink(assumptions, getCore(seed));
+                    block(mus, true);
+                    final List<BooleanClause> musClauses = new ArrayList<>(mus.size());
+                    for (final int clauseIndex : mus) {
+                        musClauses.add(clauses.get(clauseIndex));
+                    }
+                    consumer.accept(musClauses);
+                    count++;
+                }
+            }
+        } catch (TimeoutException e) {
+            timeoutOccurred = true;
+            return false;
+        } finally {
+            deadline = Long.MAX_VALUE;
+        }
+        return mapExhausted;
+    }
+
+    /**
+     * Limits the next call of the given solver to the time that remains until the
+     * deadline of the current enumeration.
+     *
+     * @param solver the solver
+     * @throws TimeoutException if the deadline has already passed
+     */
+    private void setRemainingTime(ISolver solver) throws TimeoutException {
+        if (deadline == Long.MAX_VALUE) {
+            solver.setTimeout(Integer.MAX_VALUE);
+        } else {
+            final long remainingMillis = (deadline - System.nanoTime()) / 1_000_000L;
+            if (remainingMillis <= 0) {
+                throw new TimeoutException();
+            }
+            solver.setTimeoutMs(remainingMillis);
+        }
+    }
+
+    private List<Integer> getSeed(int[] model) {
+        final List<Integer> seed = new ArrayList<>();
+        for (final int literal : model) {
+            if (literal > 0 && literal <= clauses.size()) {
+                seed.add(literal - 1);
+            }
+        }
+        return seed;
+    }
+
+    /**
+     * Computes a single MUS with respect to additional assumptions, without
+     * affecting the enumeration. The shrinking starts from the given candidate
+     * clauses, if they are unsatisfiable, and from all clauses otherwise.
+     *
+     * @param additionalAssumptions literals that are assumed in addition to the
+     *                              assumptions of this enumerator
+     * @param candidates            indices of clauses that are likely to contain a
+     *                              MUS (e.g., previously found MUSes)
+     * @return the indices of the clauses in the MUS or {@code null} if the
+     *         clauses are satisfiable under the assumptions
+     * @throws TimeoutException if the subset solver times out
+     */
+    public List<Integer> computeMinimalUnsatisfiableSubset(int[] additionalAssumptions, List<Integer> candidates)
+            throws TimeoutException {
+        final int[] allAssumptions = Arrays.copyOf(assumptions, assumptions.length + additionalAssumptions.length);
+        System.arraycopy(
+                additionalAssumptions, 0, allAssumptions, assumptions.length, additionalAssumptions.length);
+        if (!candidates.isEmpty() && !isSatisfiable(allAssumptions, candidates)) {
+            return shrink(allAssumptions, getCore(candidates));
+        }
+        final List<Integer> allClauses = new ArrayList<>(clauses.size());
+        for (int i = 0; i < clauses.size(); i++) {
+            allClauses.add(i);
+        }
+        if (isSatisfiable(allAssumptions, allClauses)) {
+            return null;
+        }
+        return shrink(allAssumptions, getCore(allClauses));
+    }
+
+    /**
+     * Computes a single MUS with respect to additional assumptions within a time
+     * budget, without affecting the enumeration.
+     *
+     * @param additionalAssumptions literals that are assumed in addition to the
+     *                              assumptions of this enumerator
+     * @param candidates            indices of clauses that are likely to contain a
+     *                              MUS (e.g., previously found MUSes)
+     * @param timeout               the time budget for this call,
+     *                              {@link Duration#ZERO} for no budget
+     * @return the indices of the clauses in the MUS or {@code null} if the
+     *         clauses are satisfiable under the assumptions
+     * @throws TimeoutException if the budget is exceeded
+     * @see #computeMinimalUnsatisfiableSubset(int[], List)
+     */
+    public List<Integer> computeMinimalUnsatisfiableSubset(
+            int[] additionalAssumptions, List<Integer> candidates, Duration timeout) throws TimeoutException {
+        deadline = timeout.isZero() ? Long.MAX_VALUE : System.nanoTime() + timeout.toNanos();
+        try {
+            return computeMinimalUnsatisfiableSubset(additionalAssumptions, candidates);
+        } finally {
+            deadline = Long.MAX_VALUE;
+        }
+    }
+
+    private boolean isSatisfiable(List<Integer> subset) throws TimeoutException {
+        return isSatisfiable(assumptions, subset);
+    }
+
+    private boolean isSatisfiable(int[] assumptions, List<Integer> subset) throws TimeoutException {
+        final VecInt assumptionVector = new VecInt(assumptions.length + subset.size());
+        for (final int literal : assumptions) {
+            assumptionVector.push(literal);
+        }
+        for (final int clauseIndex : subset) {
+            assumptionVector.push(getSelector(clauseIndex));
+        }
+        setRemainingTime(subsetSolver);
+        return subsetSolver.isSatisfiable(assumptionVector, true);
+    }
+
+    /**
+     * Extracts the selectors from the conflict of the last unsatisfiable call of
+     * the subset solver.
+     */
+    private List<Integer> getCore(List<Integer> subset) {
+        final IVecInt explanation = subsetSolver.unsatExplanation();
+        if (explanation == null) {
+            return subset;
+        }
+        final boolean[] inExplanation = new boolean[clauses.size()];
+        for (int i = 0; i < explanation.size(); i++) {
+            final int variable = Math.abs(explanation.get(i)) - selectorOffset - 1;
+            if (variable >= 0 && variable < inExplanation.length) {
+                inExplanation[variable] = true;
+            }
+        }
+        final List<Integer> core = new ArrayList<>(subset.size());
+        for (final int clauseIndex : subset) {
+            if (inExplanation[clauseIndex]) {
+                core.add(clauseIndex);
+            }
+        }
+        return core;
+    }
+
+    private List<Integer> shrink(int[] assumptions, List<Integer> core) throws TimeoutException {
+        List<Integer> mus = new ArrayList<>(core);
+        for (int i = 0; i < mus.size(); ) {
+            final List<Integer> candidate = new ArrayList<>(mus);
+            candidate.remove(i);
+            if (isSatisfiable(assumptions, candidate)) {
+                i++;
+            } else {
+                // the conflict may exclude further clauses
+                final List<Integer> newCore = getCore(candidate);
+                final int removedBefore = countRemovedBefore(mus, newCore, i);
+                mus = newCore;
+                i -= removedBefore;
+            }
+        }
+        return mus;
+    }
+
+    private static int countRemovedBefore(List<Integer> oldList, List<Integer> newList, int index) {
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < index; i++) {
+            if (j < newList.size() && newList.get(j).equals(oldList.get(i))) {
+                j++;
+            } else {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private List<Integer> grow(List<Integer> seed) throws TimeoutException {
+        final List<Integer> mss = new ArrayList<>(seed);
+        final boolean[] selected = new boolean[clauses.size()];
+        for (final int clauseIndex : seed) {
+            selected[clauseIndex] = true;
+        }
+        addSatisfiedClauses(mss, selected);
+        for (int i = 0; i < selected.length; i++) {
+            if (!selected[i]) {
+                mss.add(i);
+                if (isSatisfiable(mss)) {
+                    selected[i] = true;
+                    addSatisfiedClauses(mss, selected);
+                } else {
+                    mss.remove(mss.size() - 1);
+                }
+            }
+        }
+        return mss;
+    }
+
+    /**
+     * Adds all clauses that are satisfied by the model of the last satisfiable
+     * call of the subset solver.
+     */
+    private void addSatisfiedClauses(List<Integer> mss, boolean[] selected) {
+        final int[] model = subsetSolver.model();
+        final boolean[] positive = new boolean[selectorOffset + 1];
+        for (final int literal : model) {
+            if (literal > 0 && literal <= selectorOffset) {
+                positive[literal] = true;
+            }
+        }
+        for (int i = 0; i < selected.length; i++) {
+            if (!selected[i]) {
+                for (final int literal : clauses.get(i).get()) {
+                    if (positive[Math.abs(literal)] == (literal > 0)) {
+                        selected[i] = true;
+                        mss.add(i);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void block(List<Integer> subset, boolean up) {
+        final VecInt blockingClause = new VecInt();
+        if (up) {
+            // no superset of a MUS needs to be checked
+            for (final int clauseIndex : subset) {
+                blockingClause.push(-(clauseIndex + 1));
+            }
+        } else {
+            // no subset of a maximal satisfiable subset needs to be checked
+            final boolean[] selected = new boolean[clauses.size()];
+            for (final int clauseIndex : subset) {
+                selected[clauseIndex] = true;
+            }
+            for (int i = 0; i < selected.length; i++) {
+                if (!selected[i]) {
+                    blockingClause.push(i + 1);
+                }
+            }
+        }
+        if (blockingClause.isEmpty()) {
+            mapExhausted = true;
+            return;
+        }
+        try {
+            mapSolver.addClause(blockingClause);
+        } catch (ContradictionException e) {
+            mapExhausted = true;
+        }
+    }
+}
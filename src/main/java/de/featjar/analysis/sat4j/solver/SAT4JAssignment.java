@@ -32,7 +32,11 @@ import java.util.function.Supplier;
 import org.sat4j.core.VecInt;
 
 /**
- * ...
+ * Stack of literals used as assumptions for a {@link SAT4JSolver}. In addition
+ * to the literals, the position of each variable is stored, such that looking
+ * up, changing, and removing the value of a variable takes constant time.
+ * Removing a literal that is not on top of the stack moves the top literal to
+ * its position. The literals must not be modified via {@link #getIntegers()}.
  *
  * @author Sebastian Krieter
  * @author Elias Kuiter
@@ -40,12 +44,26 @@ import org.sat4j.core.VecInt;
 public class SAT4JAssignment implements IAssignment<Integer, Boolean>, Supplier<int[]> {
     protected final VecInt integers;
 
+    /**
+     * Position + 1 of the first occurrence of each variable, 0 if the variable
+     * is not contained.
+     */
+    private int[] positions = new int[0];
+
+    /**
+     * Number of literals whose variable occurs at a smaller position.
+     */
+    private int duplicateCount;
+
     public SAT4JAssignment() {
         this.integers = new VecInt();
     }
 
     public SAT4JAssignment(BooleanAssignment assignment) {
         this.integers = new VecInt(assignment.get());
+        for (int i = 0; i < integers.size(); i++) {
+            index(integers.unsafeGet(i), i);
+        }
     }
 
     public VecInt getIntegers() {
@@ -53,11 +71,21 @@ public class SAT4JAssignment implements IAssignment<Integer, Boolean>, Supplier<
     }
 
     public void clear() {
+        for (int i = 0; i < integers.size(); i++) {
+            final int variable = Math.abs(integers.unsafeGet(i));
+            if (variable < positions.length) {
+                positions[variable] = 0;
+            }
+        }
+        duplicateCount = 0;
         integers.clear();
     }
 
     public void clear(int newSize) {
-        integers.shrinkTo(newSize);
+        for (int i = integers.size() - 1; i >= newSize; i--) {
+            unindex(integers.unsafeGet(i), i);
+            integers.pop();
+        }
     }
 
     public void ensureSize(int size) {
@@ -65,21 +93,35 @@ public class SAT4JAssignment implements IAssignment<Integer, Boolean>, Supplier<
     }
 
     public int remove() {
-        final int topElement = integers.get(integers.size());
+        final int index = integers.size() - 1;
+        final int topElement = integers.get(index);
+        unindex(topElement, index);
         integers.pop();
         return topElement;
     }
 
     public void remove(int i) {
-        integers.delete(i);
+        final int lastIndex = integers.size() - 1;
+        unindex(integers.get(i), i);
+        if (i != lastIndex) {
+            final int last = integers.get(lastIndex);
+            unindex(last, lastIndex);
+            integers.set(i, last);
+            index(last, i);
+        }
+        integers.pop();
     }
 
     public void add(int var) {
+        index(var, integers.size());
         integers.push(var);
     }
 
     public void addAll(int[] vars) {
-        integers.pushAll(new VecInt(vars));
+        integers.ensure(integers.size() + vars.length);
+        for (final int var : vars) {
+            add(var);
+        }
     }
 
     public void addAll(BooleanAssignment assignment) {
@@ -87,11 +129,13 @@ public class SAT4JAssignment implements IAssignment<Integer, Boolean>, Supplier<
     }
 
     public void replaceLast(int var) {
-        integers.pop().unsafePush(var);
+        set(integers.size() - 1, var);
     }
 
     public void set(int index, int var) {
+        unindex(integers.get(index), index);
         integers.set(index, var);
+        index(var, index);
     }
 
     public int[] get() {
@@ -114,14 +158,19 @@ public class SAT4JAssignment implements IAssignment<Integer, Boolean>, Supplier<
         return integers.get(i);
     }
 
+    /**
+     * Returns the position of the first literal of the given variable.
+     *
+     * @param variable the variable
+     * @return the position or {@code -1} if the variable is not contained
+     */
+    public int indexOf(int variable) {
+        return variable < positions.length ? positions[variable] - 1 : -1;
+    }
+
     public Result<Boolean> getValue(int variable) {
-        for (int i = 0; i < integers.size(); i++) {
-            final int l = integers.unsafeGet(i);
-            if (Math.abs(l) == variable) {
-                return Result.of(l > 0);
-            }
-        }
-        return Result.empty();
+        final int index = indexOf(variable);
+        return index >= 0 ? Result.of(integers.unsafeGet(index) > 0) : Result.empty();
     }
 
     @Override
@@ -130,22 +179,52 @@ public class SAT4JAssignment implements IAssignment<Integer, Boolean>, Supplier<
     }
 
     public void setValue(int variable, boolean value) {
-        for (int i = 0; i < integers.size(); i++) {
-            final int l = integers.unsafeGet(i);
-            if (Math.abs(l) == variable) {
-                integers.set(i, value ? l : -l);
-                return;
-            }
+        final int index = indexOf(variable);
+        if (index >= 0) {
+            integers.set(index, value ? variable : -variable);
+        } else {
+            add(value ? variable : -variable);
         }
-        integers.push(value ? variable : -variable);
     }
 
     public void removeValue(int variable) {
-        for (int i = 0; i < integers.size(); i++) {
-            final int l = integers.unsafeGet(i);
-            if (Math.abs(l) == variable) {
-                integers.delete(i);
-                return;
+        final int index = indexOf(variable);
+        if (index >= 0) {
+            remove(index);
+        }
+    }
+
+    private void index(int literal, int index) {
+        final int variable = Math.abs(literal);
+        if (variable >= positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(variable + 1, positions.length << 1));
+        }
+        final int position = positions[variable];
+        if (position == 0) {
+            positions[variable] = index + 1;
+        } else if (position > index + 1) {
+            // literal was moved below the current first occurrence
+            positions[variable] = index + 1;
+            duplicateCount++;
+        } else {
+            duplicateCount++;
+        }
+    }
+
+    private void unindex(int literal, int index) {
+        final int variable = Math.abs(literal);
+        if (positions[variable] != index + 1) {
+            duplicateCount--;
+            return;
+        }
+        positions[variable] = 0;
+        if (duplicateCount > 0) {
+            for (int i = index + 1; i < integers.size(); i++) {
+                if (Math.abs(integers.unsafeGet(i)) == variable) {
+                    positions[variable] = i + 1;
+                    duplicateCount--;
+                    return;
+                }
             }
         }
     }
@@ -23,8 +23,10 @@ package de.featjar.analysis.sat4j.solver;
 import de.featjar.base.data.Result;
 import de.featjar.formula.assignment.BooleanClause;
 import de.featjar.formula.assignment.BooleanClauseList;
-import java.util.Collections;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.sat4j.minisat.SolverFactory;
@@ -37,8 +39,9 @@ import org.sat4j.tools.xplain.Xplain;
  *
  * <br>
  * <br>
- * Sat4J only support the extraction of one minimal unsatisfiable subset, thus
- * {@link #getAllMinimalUnsatisfiableSubsets()} only returns one solution.
+ * Sat4J only supports the extraction of one minimal unsatisfiable subset. For
+ * {@link #getAllMinimalUnsatisfiableSubsets()}, all minimal unsatisfiable
+ * subsets are enumerated by a {@link MUSEnumerator}.
  *
  * <br>
  * <br>
@@ -75,7 +78,44 @@ public class SAT4JExplanationSolver extends SAT4JSolver {
     }
 
     public Result<List<List<BooleanClause>>> getAllMinimalUnsatisfiableSubsets() {
-        return Result.of(
-                Collections.singletonList(getMinimalUnsatisfiableSubset().get()));
+        return getAllMinimalUnsatisfiableSubsets(Integer.MAX_VALUE, Duration.ZERO);
+    }
+
+    /**
+     * Enumerates up to {@code limit} minimal unsatisfiable subsets of the clause
+     * list with respect to the current assignment.
+     *
+     * @param limit   the maximum number of minimal unsatisfiable subsets
+     * @param timeout the time budget, {@link Duration#ZERO} for no budget
+     * @return the minimal unsatisfiable subsets found
+     */
+    public Result<List<List<BooleanClause>>> getAllMinimalUnsatisfiableSubsets(int limit, Duration timeout) {
+        final List<List<BooleanClause>> subsets = new ArrayList<>();
+        return enumerateMinimalUnsatisfiableSubsets(limit, timeout, subsets::add)
+                .map(complete -> subsets);
+    }
+
+    /**
+     * Enumerates up to {@code limit} minimal unsatisfiable subsets of the clause
+     * list with respect to the current assignment. Each subset is passed to the
+     * given consumer as soon as it is found.
+     *
+     * @param limit    the maximum number of minimal unsatisfiable subsets
+     * @param timeout  the time budget, {@link Duration#ZERO} for no budget
+     * @param consumer the consumer for the minimal unsatisfiable subsets
+     * @return whether all minimal unsatisfiable subsets have been enumerated
+     */
+    public Result<Boolean> enumerateMinimalUnsatisfiableSubsets(
+            int limit, Duration timeout, Consumer<List<BooleanClause>> consumer) {
+        if (hasSolution().equals(Result.of(true))) {
+            return Result.empty(new IllegalStateException("Problem is satisfiable"));
+        }
+        final MUSEnumerator enumerator = new MUSEnumerator(
+                getClauseList().getAll(),
+                assignment.get(),
+                getClauseList().getVariableMap().getVariableCount());
+        final boolean complete = enumerator.enumerate(limit, timeout, consumer);
+        isTimeoutOccurred = enumerator.isTimeoutOccurred();
+        return createResult(complete, "result is a subset");
     }
 }
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.solver;
+
+import de.featjar.analysis.RuntimeContradictionException;
+import de.featjar.base.data.Result;
+import de.featjar.formula.assignment.BooleanClause;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.BooleanSolution;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Lazily enumerates solutions of a {@link SAT4JSolutionSolver}. A new solution
+ * is only computed when the previous one has been consumed, so callers control
+ * the pace of the enumeration and no solutions are kept in memory. If
+ * duplicates are forbidden, each solution is excluded by a blocking clause,
+ * which are available via {@link #getBlockingClauses()}. Adding these clauses to
+ * a new solver resumes the enumeration. If a {@link ModalImplicationGraph} is
+ * given, each blocking clause only contains the negated decision literals of
+ * its solution, i.e., a subset of literals from which unit propagation derives
+ * the whole solution.
+ *
+ * @author agent
+ */
+public class SAT4JSolutionIterator implements Iterator<BooleanSolution> {
+
+    private final SAT4JSolutionSolver solver;
+    private final ISelectionStrategy.Strategy strategy;
+    private final Random random;
+    private final int limit;
+    private final boolean forbidDuplicates;
+    private final int initialClauseCount;
+    private final ModalImplicationGraph.Visitor visitor;
+
+    private BooleanSolution nextSolution;
+    private Result<BooleanSolution> lastResult;
+    private int solutionCount;
+    private boolean done;
+
+    /**
+     * Creates a new iterator and sets the selection strategy of the given solver.
+     *
+     * @param solver           the solver
+     * @param strategy         the selection strategy
+     * @param random           the random generator used by
+     *                         {@link ISelectionStrategy.Strategy#FAST_RANDOM}
+     * @param limit            the maximum number of solutions
+     * @param forbidDuplicates whether each solution is blocked after it was found
+     */
+    public SAT4JSolutionIterator(
+            SAT4JSolutionSolver solver,
+            ISelectionStrategy.Strategy strategy,
+            Random random,
+            int limit,
+            boolean forbidDuplicates) {
+        this(solver, strategy, random, limit, forbidDuplicates, null);
+    }
+
+    /**
+     * Creates a new iterator and sets the selection strategy of the given solver.
+     *
+     * @param solver           the solver
+     * @param strategy         the selection strategy
+     * @param random           the random generator used by
+     *                         {@link ISelectionStrategy.Strategy#FAST_RANDOM}
+     * @param limit            the maximum number of solutions
+     * @param forbidDuplicates whether each solution is blocked after it was found
+     * @param mig              the implication graph of the solver's formula used
+     *                         to compact blocking clauses, may be {@code null}
+     */
+    public SAT4JSolutionIterator(
+            SAT4JSolutionSolver solver,
+            ISelectionStrategy.Strategy strategy,
+            Random random,
+            int limit,
+            boolean forbidDuplicates,
+            ModalImplicationGraph mig) {
+        this.solver = solver;
+        this.strategy = strategy;
+        this.random = random;
+        this.limit = limit;
+        this.forbidDuplicates = forbidDuplicates;
+        initialClauseCount = solver.getClauseList().size();
+        visitor = mig != null ? mig.getVisitor() : null;
+        switch (strategy) {
+            case FAST_RANDOM:
+                solver.setSelectionStrategy(ISelectionStrategy.random(random));
+                break;
+            case NEGATIVE:
+                solver.setSelectionStrategy(ISelectionStrategy.negative());
+                break;
+            case ORIGINAL:
+                break;
+            case POSITIVE:
+                solver.setSelectionStrategy(ISelectionStrategy.positive());
+                break;
+            default:
+                break;
+        }
+    }
+
+    public SAT4JSolutionSolver getSolver() {
+        return solver;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextSolution == null && !done) {
+            if (solutionCount >= limit) {
+                done = true;
+            } else {
+                lastResult = solver.findSolution();
+                if (lastResult.isEmpty()) {
+                    done = true;
+                } else {
+                    nextSolution = lastResult.get();
+                    solutionCount++;
+                    if (forbidDuplicates) {
+                        solver.getClauseList().add(createBlockingClause(nextSolution));
+                    }
+                    if (strategy == ISelectionStrategy.Strategy.FAST_RANDOM) {
+                        solver.shuffleOrder(random);
+                    }
+                }
+            }
+        }
+        return nextSolution != null;
+    }
+
+    @Override
+    public BooleanSolution next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final BooleanSolution solution = nextSolution;
+        nextSolution = null;
+        return solution;
+    }
+
+    private BooleanClause createBlockingClause(BooleanSolution solution) {
+        if (visitor != null) {
+            final int[] literals = solution.get();
+            final int[] model = visitor.getModel();
+            final int[] blockingClause = new int[literals.length];
+            int blockingClauseSize = 0;
+            visitor.reset();
+            try {
+                for (final int literal : literals) {
+                    if (literal != 0 && model[Math.abs(literal) - 1] == 0) {
+                        blockingClause[blockingClauseSize++] = -literal;
+                        visitor.propagate(literal);
+                    }
+                }
+                return new BooleanClause(Arrays.copyOf(blockingClause, blockingClauseSize));
+            } catch (RuntimeContradictionException e) {
+                // the graph does not belong to the solver's formula, block the full solution
+            }
+        }
+        return solution.toClause().inverse();
+    }
+
+    /**
+     * Returns the number of solutions found so far.
+     *
+     * @return the number of solutions
+     */
+    public int getSolutionCount() {
+        return solutionCount;
+    }
+
+    /**
+     * Returns whether the enumeration stopped because of a solver timeout.
+     *
+     * @return {@code true} if a timeout occurred
+     */
+    public boolean isTimeoutOccurred() {
+        return done && lastResult != null && lastResult.isEmpty() && solver.isTimeoutOccurred();
+    }
+
+    /**
+     * Returns whether all solutions have been enumerated, i.e., the solver
+     * proved that there are no further solutions.
+     *
+     * @return {@code true} if the enumeration is complete
+     */
+    public boolean isComplete() {
+        return done && lastResult != null && lastResult.isEmpty() && !solver.isTimeoutOccurred();
+    }
+
+    /**
+     * Returns the blocking clauses added by this iterator. The returned list is
+     * a view of the solver's clause list and must not be modified.
+     *
+     * @return the blocking clauses
+     */
+    public List<BooleanClause> getBlockingClauses() {
+        final List<BooleanClause> clauses = solver.getClauseList().getAll();
+        return clauses.subList(initialClauseCount, clauses.size());
+    }
+
+    /**
+     * Returns the blocking clauses added by this iterator as a new clause list,
+     * which can be used as checkpoint to resume the enumeration.
+     *
+     * @return the blocking clauses
+     */
+    public BooleanClauseList getCheckpoint() {
+        final BooleanClauseList checkpoint =
+                new BooleanClauseList(solver.getClauseList().getVariableMap());
+        checkpoint.addAll(getBlockingClauses());
+        return checkpoint;
+    }
+}
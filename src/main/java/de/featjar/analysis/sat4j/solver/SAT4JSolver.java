@@ -27,6 +27,7 @@ import de.featjar.formula.assignment.BooleanClauseList;
 import de.featjar.formula.assignment.BooleanSolution;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 import org.sat4j.core.VecInt;
 import org.sat4j.specs.ContradictionException;
@@ -40,6 +41,24 @@ import org.sat4j.specs.TimeoutException;
  * @author Elias Kuiter
  */
 public abstract class SAT4JSolver implements de.featjar.analysis.ISolver {
+
+    /**
+     * Whether solver calls are traced. Set via the system property
+     * {@code featjar.sat4j.trace}. If disabled, the tracing code is removed by the
+     * JIT compiler.
+     */
+    private static final boolean TRACE = Boolean.getBoolean("featjar.sat4j.trace");
+
+    /**
+     * Only every n-th solver call is traced. Set via the system property
+     * {@code featjar.sat4j.trace.interval}.
+     */
+    private static final long TRACE_INTERVAL = Math.max(1, Long.getLong("featjar.sat4j.trace.interval", 1000));
+
+    private static final int SATISFIABLE = 1;
+    private static final int UNSATISFIABLE = 0;
+    private static final int TIMEOUT = -1;
+
     protected final ISolver internalSolver = newInternalSolver();
     protected final SAT4JClauseList clauseList;
     protected final SAT4JAssignment assignment = new SAT4JAssignment();
@@ -47,6 +66,7 @@ public abstract class SAT4JSolver implements de.featjar.analysis.ISolver {
     protected boolean globalTimeout;
 
     protected boolean isTimeoutOccurred;
+    protected final SolverStatistics statistics = new SolverStatistics();
     protected boolean trivialContradictionFound;
 
     /**
@@ -147,29 +167,98 @@ public abstract class SAT4JSolver implements de.featjar.analysis.ISolver {
     }
 
     protected Result<Boolean> hasSolution(VecInt integers) {
-        if (trivialContradictionFound) {
-            return Result.of(Boolean.FALSE);
+        switch (solve(integers)) {
+            case SATISFIABLE:
+                return Result.of(Boolean.TRUE);
+            case UNSATISFIABLE:
+                return Result.of(Boolean.FALSE);
+            default:
+                return Result.empty(de.featjar.analysis.ISolver.getTimeoutProblem(null));
         }
+    }
+
+    public Result<Boolean> hasSolution() {
+        return hasSolution(assignment.getIntegers());
+    }
 
+    /**
+     * Checks whether there is a solution for the current assignment. In contrast
+     * to {@link #hasSolution()}, no objects are allocated. If a timeout occurs,
+     * {@code false} is returned and {@link #isTimeoutOccurred()} is set.
+     *
+     * @return {@code true} if there is a solution, {@code false} if there is no
+     *         solution or a timeout occurred
+     */
+    public boolean isSatisfiable() {
+        return isSatisfiable(assignment.getIntegers());
+    }
+
+    protected boolean isSatisfiable(VecInt integers) {
+        return solve(integers) == SATISFIABLE;
+    }
+
+    private int solve(VecInt integers) {
+        if (trivialContradictionFound) {
+            statistics.recordUnsatisfiable(0, integers.size());
+            return UNSATISFIABLE;
+        }
+        final long start = System.nanoTime();
+        int result;
         try {
-            FeatJAR.log().debug("calling SAT4J");
-            if (internalSolver.isSatisfiable(integers, globalTimeout)) {
-                FeatJAR.log().debug("has solution");
-                return Result.of(Boolean.TRUE);
-            } else {
-                FeatJAR.log().debug("no solution");
-                FeatJAR.log().message(internalSolver.unsatExplanation());
-                return Result.of(Boolean.FALSE);
-            }
+            result = internalSolver.isSatisfiable(integers, globalTimeout) ? SATISFIABLE : UNSATISFIABLE;
         } catch (final TimeoutException e) {
-            FeatJAR.log().debug("solver timeout occurred");
             isTimeoutOccurred = true;
-            return Result.empty(de.featjar.analysis.ISolver.getTimeoutProblem(null));
+            result = TIMEOUT;
         }
+        final long nanos = System.nanoTime() - start;
+        switch (result) {
+            case SATISFIABLE:
+                statistics.recordSatisfiable(nanos, integers.size());
+                break;
+            case UNSATISFIABLE:
+                statistics.recordUnsatisfiable(nanos, integers.size());
+                break;
+            default:
+                statistics.recordTimeout(nanos, integers.size());
+                break;
+        }
+        if (TRACE && statistics.getCallCount() % TRACE_INTERVAL == 0) {
+            trace(integers, result, nanos);
+        }
+        return result;
     }
 
-    public Result<Boolean> hasSolution() {
-        return hasSolution(assignment.getIntegers());
+    private void trace(VecInt integers, int result, long nanos) {
+        FeatJAR.log()
+                .debug(
+                        "SAT4J call %d: %s after %d ns with %d assumptions",
+                        statistics.getCallCount(),
+                        result == SATISFIABLE ? "satisfiable" : result == UNSATISFIABLE ? "unsatisfiable" : "timeout",
+                        nanos,
+                        integers.size());
+        if (result == UNSATISFIABLE) {
+            FeatJAR.log().debug("explanation %s", internalSolver.unsatExplanation());
+        }
+    }
+
+    /**
+     * Returns the counters of this solver.
+     *
+     * @return the statistics
+     */
+    public SolverStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the counters reported by SAT4J, such as conflicts, decisions, and
+     * propagations. In contrast to {@link #getStatistics()}, this creates a new map
+     * on each call.
+     *
+     * @return the SAT4J statistics
+     */
+    public Map<String, Number> getSAT4JStatistics() {
+        return internalSolver.getStat();
     }
 
     /**
@@ -181,12 +270,56 @@ public abstract class SAT4JSolver implements de.featjar.analysis.ISolver {
     }
 
     public BooleanSolution getSolution() {
-        int[] internalSolution = getInternalSolution();
-        final int[] sortedIntegers = new int[internalSolution.length];
-        Arrays.stream(internalSolution)
-                .filter(integer -> integer != 0)
-                .forEach(integer -> sortedIntegers[Math.abs(integer) - 1] = integer);
-        return new BooleanSolution(sortedIntegers, false);
+        return new BooleanSolution(copySolution(new int[getVariableCount()]), false);
+    }
+
+    /**
+     * Copies the last solution into the given array without allocating any
+     * objects. The literal for variable {@code v} is stored at position
+     * {@code v - 1}.
+     *
+     * @param target the array, should have one element per variable
+     * @return the given array
+     */
+    public int[] copySolution(int[] target) {
+        final int variableCount = Math.min(target.length, getVariableCount());
+        for (int v = 1; v <= variableCount; v++) {
+            target[v - 1] = internalSolver.model(v) ? v : -v;
+        }
+        return target;
+    }
+
+    /**
+     * Copies the last solution into the given bit set without allocating any
+     * objects. Variable {@code v} is selected, if bit {@code (v - 1) % 64} of
+     * word {@code (v - 1) / 64} is set.
+     *
+     * @param target the bit set, should have one bit per variable
+     * @return the given bit set
+     */
+    public long[] copySolution(long[] target) {
+        Arrays.fill(target, 0L);
+        final int variableCount = Math.min(target.length << 6, getVariableCount());
+        for (int v = 1; v <= variableCount; v++) {
+            if (internalSolver.model(v)) {
+                target[(v - 1) >>> 6] |= 1L << ((v - 1) & 63);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Returns whether a variable is selected in the last solution.
+     *
+     * @param variable the variable
+     * @return {@code true} if the variable is selected
+     */
+    public boolean isSelected(int variable) {
+        return internalSolver.model(variable);
+    }
+
+    private int getVariableCount() {
+        return clauseList.getVariableMap().getVariableCount();
     }
 
     public int[] getInternalSolution() {
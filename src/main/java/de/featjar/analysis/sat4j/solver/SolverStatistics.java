@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.solver;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the calls of a {@link SAT4JSolver}. The counters are plain fields
+ * that are updated by the solver after each call, so they add no measurable
+ * overhead. Instances are not thread-safe, as each solver is used by one
+ * thread at a time.
+ *
+ * @author agent
+ */
+public class SolverStatistics {
+
+    long satisfiableCount;
+    long unsatisfiableCount;
+    long timeoutCount;
+    long solveNanos;
+    long assumptionCount;
+    int maximumAssumptionCount;
+
+    private LinkedHashMap<String, Long> sat4jStatistics;
+
+    void recordSatisfiable(long nanos, int assumptions) {
+        satisfiableCount++;
+        record(nanos, assumptions);
+    }
+
+    void recordUnsatisfiable(long nanos, int assumptions) {
+        unsatisfiableCount++;
+        record(nanos, assumptions);
+    }
+
+    void recordTimeout(long nanos, int assumptions) {
+        timeoutCount++;
+        record(nanos, assumptions);
+    }
+
+    private void record(long nanos, int assumptions) {
+        solveNanos += nanos;
+        assumptionCount += assumptions;
+        if (assumptions > maximumAssumptionCount) {
+            maximumAssumptionCount = assumptions;
+        }
+    }
+
+    public long getCallCount() {
+        return satisfiableCount + unsatisfiableCount + timeoutCount;
+    }
+
+    public long getSatisfiableCount() {
+        return satisfiableCount;
+    }
+
+    public long getUnsatisfiableCount() {
+        return unsatisfiableCount;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    /**
+     * Returns the accumulated time spent in SAT4J.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getSolveNanos() {
+        return solveNanos;
+    }
+
+    /**
+     * Returns the total number of assumed literals over all calls.
+     *
+     * @return the number of assumptions
+     */
+    public long getAssumptionCount() {
+        return assumptionCount;
+    }
+
+    public int getMaximumAssumptionCount() {
+        return maximumAssumptionCount;
+    }
+
+    public double getAverageAssumptionCount() {
+        final long callCount = getCallCount();
+        return callCount == 0 ? 0 : (double) assumptionCount / callCount;
+    }
+
+    /**
+     * Returns the counters reported by SAT4J (e.g., conflicts, decisions, and
+     * propagations). These are only available in statistics that were collected by
+     * a {@link SolverStatisticsRecorder}.
+     *
+     * @return an unmodifiable map of counter names to values
+     */
+    public Map<String, Long> getSAT4JStatistics() {
+        return sat4jStatistics == null ? Map.of() : Collections.unmodifiableMap(sat4jStatistics);
+    }
+
+    /**
+     * Adds counters reported by SAT4J to this statistic.
+     *
+     * @param statistics the counters as returned by
+     *                   {@link org.sat4j.specs.ISolver#getStat()}
+     */
+    public void addSAT4JStatistics(Map<String, Number> statistics) {
+        if (sat4jStatistics == null) {
+            sat4jStatistics = new LinkedHashMap<>();
+        }
+        for (final Map.Entry<String, Number> entry : statistics.entrySet()) {
+            sat4jStatistics.merge(entry.getKey(), entry.getValue().longValue(), Long::sum);
+        }
+    }
+
+    /**
+     * Adds the counters of another statistic to this statistic.
+     *
+     * @param other the other statistic
+     */
+    public void add(SolverStatistics other) {
+        satisfiableCount += other.satisfiableCount;
+        unsatisfiableCount += other.unsatisfiableCount;
+        timeoutCount += other.timeoutCount;
+        solveNanos += other.solveNanos;
+        assumptionCount += other.assumptionCount;
+        maximumAssumptionCount = Math.max(maximumAssumptionCount, other.maximumAssumptionCount);
+        if (other.sat4jStatistics != null) {
+            for (final Map.Entry<String, Long> entry : other.sat4jStatistics.entrySet()) {
+                if (sat4jStatistics == null) {
+                    sat4jStatistics = new LinkedHashMap<>();
+                }
+                sat4jStatistics.merge(entry.getKey(), entry.getValue(), Long::sum);
+            }
+        }
+    }
+
+    public void reset() {
+        satisfiableCount = 0;
+        unsatisfiableCount = 0;
+        timeoutCount = 0;
+        solveNanos = 0;
+        assumptionCount = 0;
+        maximumAssumptionCount = 0;
+        sat4jStatistics = null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "SolverStatistics [sat=%d, unsat=%d, timeout=%d, solveNanos=%d, assumptions=%d, maxAssumptions=%d]",
+                satisfiableCount,
+                unsatisfiableCount,
+                timeoutCount,
+                solveNanos,
+                assumptionCount,
+                maximumAssumptionCount);
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates the statistics of all {@link SAT4JSolver solvers} of one analysis.
+ * A recorder is passed to an analysis via the dependency
+ * {@link de.featjar.analysis.sat4j.computation.ASAT4JAnalysis#STATISTICS}, which
+ * attaches each solver it creates. Solver calls only update the plain counters
+ * of their solver, so recording adds no overhead to a call. The counters of
+ * SAT4J (e.g., conflicts, decisions, and propagations) are read once per solver
+ * when the statistics are requested or the recording ends. Attached solvers are
+ * referenced until then, so a recording should end together with its analysis.
+ * As each analysis has
+ * its own recorder, analyses that run in parallel do not affect each other's
+ * statistics. In addition, coverage computations count MIG propagations and
+ * hits of their validity cache.
+ *
+ * <pre>
+ * try (SolverStatisticsRecorder recorder = new SolverStatisticsRecorder()) {
+ *     computation.set(ASAT4JAnalysis.STATISTICS, recorder).compute();
+ *     recorder.close();
+ *     System.out.println(recorder.toJSON());
+ * }
+ * </pre>
+ *
+ * @author agent
+ */
+public class SolverStatisticsRecorder implements AutoCloseable {
+
+    private static final SolverStatisticsRecorder DISABLED = new SolverStatisticsRecorder(false);
+
+    /**
+     * Returns a recorder that ignores all solvers and counters. It is used by
+     * analyses for which no recorder is set.
+     *
+     * @return the disabled recorder
+     */
+    public static SolverStatisticsRecorder disabled() {
+        return DISABLED;
+    }
+
+    private final boolean enabled;
+    private final long startNanos = System.nanoTime();
+    private volatile long stopNanos = -1;
+
+    private final List<SAT4JSolver> solvers = new ArrayList<>();
+    private final SolverStatistics closedStatistics = new SolverStatistics();
+    private final Map<String, Number> closedSAT4JStatistics = new TreeMap<>();
+    private long closedSolverCount;
+    private final LongAdder migPropagationCount = new LongAdder();
+    private final LongAdder validityCacheHitCount = new LongAdder();
+
+    /**
+     * Starts a new recording.
+     */
+    public SolverStatisticsRecorder() {
+        this(true);
+    }
+
+    private SolverStatisticsRecorder(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Attaches a solver to this recording. Its statistics are aggregated until
+     * the recording ends. Must be called before the solver is used.
+     *
+     * @param solver the solver
+     */
+    public void attach(SAT4JSolver solver) {
+        if (enabled) {
+            synchronized (solvers) {
+                if (stopNanos < 0) {
+                    solvers.add(solver);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds propagations in a modal implication graph.
+     *
+     * @param count the number of propagations
+     */
+    public void addMIGPropagations(long count) {
+        if (enabled && count > 0) {
+            migPropagationCount.add(count);
+        }
+    }
+
+    /**
+     * Adds hits of a validity cache.
+     *
+     * @param count the number of hits
+     */
+    public void addValidityCacheHits(long count) {
+        if (enabled && count > 0) {
+            validityCacheHitCount.add(count);
+        }
+    }
+
+    /**
+     * Ends this recording. The statistics of all attached solvers are read once
+     * and the solvers are released. Solvers that are attached or used afterwards
+     * are not recorded.
+     */
+    @Override
+    public void close() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (solvers) {
+            if (stopNanos < 0) {
+                stopNanos = System.nanoTime();
+                for (final SAT4JSolver solver : solvers) {
+                    addSolverStatistics(closedStatistics, closedSAT4JStatistics, solver);
+                }
+                closedSolverCount = solvers.size();
+                solvers.clear();
+            }
+        }
+    }
+
+    private static void addSolverStatistics(
+            SolverStatistics statistics, Map<String, Number> sat4jStatistics, SAT4JSolver solver) {
+        statistics.add(solver.getStatistics());
+        for (final Map.Entry<String, Number> entry :
+                solver.getSAT4JStatistics().entrySet()) {
+            sat4jStatistics.merge(
+                    entry.getKey(), entry.getValue().longValue(), (a, b) -> a.longValue() + b.longValue());
+        }
+    }
+
+    /**
+     * Returns the accumulated statistics of all attached solvers. While the
+     * recording is active, the counters of SAT4J are read from each solver, so
+     * this should only be called when the solvers are idle.
+     *
+     * @return the statistics
+     */
+    public SolverStatistics getStatistics() {
+        final SolverStatistics statistics = new SolverStatistics();
+        final Map<String, Number> sortedSAT4JStatistics = new TreeMap<>();
+        synchronized (solvers) {
+            statistics.add(closedStatistics);
+            sortedSAT4JStatistics.putAll(closedSAT4JStatistics);
+            for (final SAT4JSolver solver : solvers) {
+                addSolverStatistics(statistics, sortedSAT4JStatistics, solver);
+            }
+        }
+        if (!sortedSAT4JStatistics.isEmpty()) {
+            statistics.addSAT4JStatistics(sortedSAT4JStatistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the number of solvers that were attached during the recording.
+     *
+     * @return the number of solvers
+     */
+    public long getSolverCount() {
+        synchronized (solvers) {
+            return closedSolverCount + solvers.size();
+        }
+    }
+
+    /**
+     * Returns the number of propagations in a modal implication graph.
+     *
+     * @return the number of propagations
+     */
+    public long getMIGPropagationCount() {
+        return migPropagationCount.sum();
+    }
+
+    /**
+     * Returns the number of hits of a validity cache.
+     *
+     * @return the number of hits
+     */
+    public long getValidityCacheHitCount() {
+        return validityCacheHitCount.sum();
+    }
+
+    /**
+     * Returns the time since the start of the recording, or the duration of the
+     * recording if it is already closed.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getWallNanos() {
+        return (stopNanos < 0 ? System.nanoTime() : stopNanos) - startNanos;
+    }
+
+    /**
+     * Returns the recorded statistics as JSON object. The time outside of SAT4J is
+     * estimated as the wall time minus the time spent in SAT4J, and is thus
+     * meaningless if solvers were used in parallel.
+     *
+     * @return the JSON string
+     */
+    public String toJSON() {
+        final SolverStatistics statistics = getStatistics();
+        final long wallNanos = getWallNanos();
+        final StringBuilder sb = new StringBuilder();
+        sb.append('{');
+        appendEntry(sb, "wallNanos", wallNanos).append(',');
+        appendEntry(sb, "solveNanos", statistics.getSolveNanos()).append(',');
+        appendEntry(sb, "outsideSolveNanos", Math.max(0, wallNanos - statistics.getSolveNanos()))
+                .append(',');
+        appendEntry(sb, "solvers", getSolverCount()).append(',');
+        appendEntry(sb, "calls", statistics.getCallCount()).append(',');
+        appendEntry(sb, "satisfiable", statistics.getSatisfiableCount()).append(',');
+        appendEntry(sb, "unsatisfiable", statistics.getUnsatisfiableCount()).append(',');
+        appendEntry(sb, "timeouts", statistics.getTimeoutCount()).append(',');
+        appendEntry(sb, "assumptions", statistics.getAssumptionCount()).append(',');
+        appendEntry(sb, "maximumAssumptions", statistics.getMaximumAssumptionCount())
+                .append(',');
+        appendEntry(sb, "migPropagations", getMIGPropagationCount()).append(',');
+        appendEntry(sb, "validityCacheHits", getValidityCacheHitCount()).append(',');
+        sb.append("\"sat4j\":{");
+        boolean first = true;
+        for (final Map.Entry<String, Long> entry :
+                statistics.getSAT4JStatistics().entrySet()) {
+            if (!first) {
+                sb.append(',');
+            }
+            appendEntry(sb, entry.getKey(), entry.getValue());
+            first = false;
+        }
+        sb.append("}}");
+        return sb.toString();
+    }
+
+    private static StringBuilder appendEntry(StringBuilder sb, String key, long value) {
+        sb.append('"');
+        for (final char c : key.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.append("\":").append(value);
+    }
+}
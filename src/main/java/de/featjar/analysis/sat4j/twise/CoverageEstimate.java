@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+/**
+ * Holds an estimate of the t-wise coverage of a configuration sample, which is
+ * based on a uniform random sample of interactions. The confidence interval is
+ * the Wilson score interval of the covered proportion of the sampled valid
+ * interactions.
+ *
+ * @author agent
+ */
+public class CoverageEstimate {
+    private final double confidence;
+    private final long numberOfCoveredConditions;
+    private final long numberOfUncoveredConditions;
+    private final long numberOfInvalidConditions;
+    private final long numberOfUnknownConditions;
+    private final long numberOfAllConditions;
+    private final double lowerBound;
+    private final double upperBound;
+
+    public CoverageEstimate(
+            double confidence,
+            long numberOfCoveredConditions,
+            long numberOfUncoveredConditions,
+            long numberOfInvalidConditions,
+            long numberOfUnknownConditions,
+            long numberOfAllConditions) {
+        this.confidence = confidence;
+        this.numberOfCoveredConditions = numberOfCoveredConditions;
+        this.numberOfUncoveredConditions = numberOfUncoveredConditions;
+        this.numberOfInvalidConditions = numberOfInvalidConditions;
+        this.numberOfUnknownConditions = numberOfUnknownConditions;
+        this.numberOfAllConditions = numberOfAllConditions;
+
+        final long valid = valid();
+        if (valid == 0) {
+            lowerBound = 0;
+            upperBound = 1;
+        } else {
+            final double z = getQuantile(confidence);
+            final double p = (double) numberOfCoveredConditions / valid;
+            final double z2n = z * z / valid;
+            final double center = (p + z2n / 2) / (1 + z2n);
+            final double halfWidth = z * Math.sqrt(p * (1 - p) / valid + z2n / (4 * valid)) / (1 + z2n);
+            lowerBound = Math.max(0, center - halfWidth);
+            upperBound = Math.min(1, center + halfWidth);
+        }
+    }
+
+    /**
+     * Returns the two-sided quantile of the standard normal distribution for the
+     * given confidence, i.e., the value z such that P(-z &lt;= X &lt;= z) equals
+     * the confidence. Uses the rational approximation by Abramowitz and Stegun
+     * (26.2.23), which has an absolute error below 4.5e-4.
+     *
+     * @param confidence the confidence, must be in (0, 1)
+     * @return the quantile
+     */
+    static double getQuantile(double confidence) {
+        final double p = (1 - confidence) / 2;
+        final double t = Math.sqrt(-2 * Math.log(p));
+        return t
+                - (2.515517 + 0.802853 * t + 0.010328 * t * t)
+                        / (1 + 1.432788 * t + 0.189269 * t * t + 0.001308 * t * t * t);
+    }
+
+    public double confidence() {
+        return confidence;
+    }
+
+    /**
+     * Returns the estimated coverage, i.e., the covered proportion of the sampled
+     * valid interactions.
+     *
+     * @return the estimated coverage
+     */
+    public double coverage() {
+        final long valid = valid();
+        return valid != 0 ? (double) numberOfCoveredConditions / valid : 1.0;
+    }
+
+    public double lowerBound() {
+        return lowerBound;
+    }
+
+    public double upperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Returns half of the width of the confidence interval.
+     *
+     * @return the margin of error
+     */
+    public double marginOfError() {
+        return (upperBound - lowerBound) / 2;
+    }
+
+    public long sampled() {
+        return numberOfCoveredConditions
+                + numberOfUncoveredConditions
+                + numberOfInvalidConditions
+                + numberOfUnknownConditions;
+    }
+
+    public long valid() {
+        return numberOfCoveredConditions + numberOfUncoveredConditions;
+    }
+
+    public long covered() {
+        return numberOfCoveredConditions;
+    }
+
+    public long uncovered() {
+        return numberOfUncoveredConditions;
+    }
+
+    public long invalid() {
+        return numberOfInvalidConditions;
+    }
+
+    /**
+     * Returns the number of sampled interactions that could not be classified as
+     * valid or invalid due to a solver timeout. These are not part of the
+     * estimate.
+     *
+     * @return the number of unknown interactions
+     */
+    public long unknown() {
+        return numberOfUnknownConditions;
+    }
+
+    /**
+     * Returns the number of all interactions from which was sampled, regardless
+     * of their validity.
+     *
+     * @return the number of interactions
+     */
+    public long total() {
+        return numberOfAllConditions;
+    }
+
+    /**
+     * Extrapolates the number of valid interactions from the sampled
+     * interactions.
+     *
+     * @return the estimated number of valid interactions
+     */
+    public long estimatedValid() {
+        final long classified = valid() + numberOfInvalidConditions;
+        return classified != 0 ? Math.round((double) numberOfAllConditions * valid() / classified) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "CoverageEstimate [coverage=%.4f, %.0f%% CI=[%.4f, %.4f], sampled=%d, covered=%d, uncovered=%d, invalid=%d, unknown=%d]",
+                coverage(),
+                confidence * 100,
+                lowerBound,
+                upperBound,
+                sampled(),
+                numberOfCoveredConditions,
+                numberOfUncoveredConditions,
+                numberOfInvalidConditions,
+                numberOfUnknownConditions);
+    }
+}
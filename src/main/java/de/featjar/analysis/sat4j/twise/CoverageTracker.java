@@ -0,0 +1,291 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Tracks the t-wise coverage of a sample while configurations are added or
+ * removed. For each interaction over the tracked variables, the number of
+ * configurations that contain it is stored in a 4-bit saturating counter.
+ * Adding or removing a configuration only updates the counters of the
+ * interactions it contains. Only if the counter of an interaction is saturated
+ * when a configuration is removed, the actual number is recounted using a
+ * {@link SampleBitIndex}.
+ * <p>
+ * As the tracker does not know which interactions are invalid, the number of
+ * uncovered interactions includes invalid interactions unless their number is
+ * set via {@link #setInvalidCount(long)}.
+ *
+ * @author agent
+ */
+public class CoverageTracker {
+
+    private static final int SATURATED = 15;
+
+    private final int t;
+    private final int[] variables;
+    private final int[] positions;
+    private final InteractionIndex interactionIndex;
+    private final int[] indexBuffer;
+    private final byte[] counters;
+    private final SampleBitIndex sampleIndex;
+    private final List<int[]> configurations = new ArrayList<>();
+
+    private long coveredCount;
+    private long invalidCount;
+
+    /**
+     * Creates a new tracker for all variables.
+     *
+     * @param variableCount the number of variables
+     * @param t             the interaction size
+     */
+    public CoverageTracker(int variableCount, int t) {
+        this(variableCount, t, null);
+    }
+
+    /**
+     * Creates a new tracker for a subset of variables.
+     *
+     * @param variableCount the number of variables
+     * @param t             the interaction size
+     * @param variables     the variables to track, {@code null} for all variables
+     */
+    public CoverageTracker(int variableCount, int t, int[] variables) {
+        this.t = t;
+        this.variables = variables != null
+                ? Arrays.stream(variables).map(Math::abs).distinct().sorted().toArray()
+                : createRange(variableCount);
+        positions = new int[variableCount + 1];
+        for (int i = 0; i < this.variables.length; i++) {
+            positions[this.variables[i]] = i + 1;
+        }
+        interactionIndex = new InteractionIndex(this.variables.length, t);
+        indexBuffer = new int[t];
+        final long counterBytes = (interactionIndex.size() + 1) >>> 1;
+        if (counterBytes > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many interactions: " + interactionIndex.size());
+        }
+        counters = new byte[(int) counterBytes];
+        sampleIndex = new SampleBitIndex(variableCount);
+    }
+
+    private static int[] createRange(int variableCount) {
+        final int[] range = new int[variableCount];
+        for (int i = 0; i < variableCount; i++) {
+            range[i] = i + 1;
+        }
+        return range;
+    }
+
+    /**
+     * Adds a configuration and updates the coverage.
+     *
+     * @param configuration the literals of the configuration
+     * @return the index of the configuration, which is used to remove it
+     */
+    public int addConfiguration(int[] configuration) {
+        final int index = configurations.size();
+        final int[] literals = toPositionLiterals(configuration);
+        configurations.add(literals);
+        sampleIndex.addConfiguration(configuration);
+        forEachInteraction(literals, true);
+        return index;
+    }
+
+    /**
+     * Removes a configuration and updates the coverage.
+     *
+     * @param index the index of the configuration as returned by
+     *              {@link #addConfiguration(int[])}
+     * @return {@code true} if the configuration was present
+     */
+    public boolean removeConfiguration(int index) {
+        final int[] literals = configurations.get(index);
+        if (literals == null) {
+            return false;
+        }
+        configurations.set(index, null);
+        sampleIndex.clear(index);
+        forEachInteraction(literals, false);
+        return true;
+    }
+
+    /**
+     * Counts the interactions that would become uncovered if the given
+     * configuration were removed, i.e., the interactions that no other
+     * configuration contains.
+     *
+     * @param index the index of the configuration
+     * @return the number of interactions that only this configuration covers
+     */
+    public long countUniquelyCovered(int index) {
+        final int[] literals = configurations.get(index);
+        if (literals == null) {
+            return 0;
+        }
+        final long[] uniquelyCovered = new long[1];
+        forEachCombination(literals, interaction -> {
+            if (getCounter(interactionIndex.getIndex(interaction, indexBuffer)) == 1) {
+                uniquelyCovered[0]++;
+            }
+        });
+        return uniquelyCovered[0];
+    }
+
+    /**
+     * Returns the number of configurations that contain an interaction, up to a
+     * saturation limit.
+     *
+     * @param interaction the literals of the interaction over tracked variables
+     * @return the number of configurations, at most 15
+     */
+    public int getHitCount(int[] interaction) {
+        final int[] positionLiterals = new int[t];
+        for (int i = 0; i < t; i++) {
+            final int literal = interaction[i];
+            final int position = positions[Math.abs(literal)];
+            if (position == 0) {
+                throw new IllegalArgumentException("Variable is not tracked: " + literal);
+            }
+            positionLiterals[i] = literal > 0 ? position : -position;
+        }
+        return getCounter(interactionIndex.getIndex(positionLiterals, indexBuffer));
+    }
+
+    public long getCoveredCount() {
+        return coveredCount;
+    }
+
+    public long getUncoveredCount() {
+        return interactionIndex.size() - invalidCount - coveredCount;
+    }
+
+    /**
+     * Sets the number of invalid interactions over the tracked variables, e.g., as
+     * computed by {@link TWiseCoverageComputation}.
+     *
+     * @param invalidCount the number of invalid interactions
+     */
+    public void setInvalidCount(long invalidCount) {
+        this.invalidCount = invalidCount;
+    }
+
+    public long getInteractionCount() {
+        return interactionIndex.size();
+    }
+
+    public CoverageStatistic getStatistic() {
+        final CoverageStatistic statistic = new CoverageStatistic();
+        statistic.setNumberOfCoveredConditions(coveredCount);
+        statistic.setNumberOfUncoveredConditions(getUncoveredCount());
+        statistic.setNumberOfInvalidConditions(invalidCount);
+        return statistic;
+    }
+
+    private int[] toPositionLiterals(int[] configuration) {
+        final int[] literals = new int[variables.length];
+        int size = 0;
+        for (final int literal : configuration) {
+            if (literal != 0) {
+                final int variable = Math.abs(literal);
+                final int position = variable < positions.length ? positions[variable] : 0;
+                if (position != 0) {
+                    literals[size++] = literal > 0 ? position : -position;
+                }
+            }
+        }
+        return Arrays.copyOf(literals, size);
+    }
+
+    private void forEachInteraction(int[] literals, boolean add) {
+        forEachCombination(literals, interaction -> {
+            final long index = interactionIndex.getIndex(interaction, indexBuffer);
+            final int counter = getCounter(index);
+            if (add) {
+                if (counter == 0) {
+                    coveredCount++;
+                }
+                if (counter < SATURATED) {
+                    setCounter(index, counter + 1);
+                }
+            } else if (counter == SATURATED) {
+                setCounter(index, Math.min(SATURATED, sampleIndex.size(toLiterals(interaction))));
+            } else if (counter > 0) {
+                if (counter == 1) {
+                    coveredCount--;
+                }
+                setCounter(index, counter - 1);
+            }
+        });
+    }
+
+    private int[] toLiterals(int[] positionLiterals) {
+        final int[] literals = new int[positionLiterals.length];
+        for (int i = 0; i < literals.length; i++) {
+            final int variable = variables[Math.abs(positionLiterals[i]) - 1];
+            literals[i] = positionLiterals[i] > 0 ? variable : -variable;
+        }
+        return literals;
+    }
+
+    private void forEachCombination(int[] literals, Consumer<int[]> consumer) {
+        if (literals.length < t) {
+            return;
+        }
+        final int[] selection = new int[t];
+        final int[] interaction = new int[t];
+        for (int i = 0; i < t; i++) {
+            selection[i] = i;
+        }
+        while (true) {
+            for (int i = 0; i < t; i++) {
+                interaction[i] = literals[selection[i]];
+            }
+            consumer.accept(interaction);
+            int i = t - 1;
+            while (i >= 0 && selection[i] == literals.length - t + i) {
+                i--;
+            }
+            if (i < 0) {
+                return;
+            }
+            selection[i]++;
+            for (int j = i + 1; j < t; j++) {
+                selection[j] = selection[j - 1] + 1;
+            }
+        }
+    }
+
+    private int getCounter(long index) {
+        return (counters[(int) (index >>> 1)] >>> ((index & 1) << 2)) & 0xF;
+    }
+
+    private void setCounter(long index, int value) {
+        final int position = (int) (index >>> 1);
+        final int shift = (int) ((index & 1) << 2);
+        counters[position] = (byte) ((counters[position] & ~(0xF << shift)) | (value << shift));
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+import java.util.stream.IntStream;
+
+/**
+ * Counts the t-wise interactions that are covered by a sample without
+ * enumerating all interactions. For each variable, the sample is stored as a
+ * column bitset of the configurations in which it is selected. For a
+ * combination of variables, only the number of configurations in which all
+ * variables are selected is computed by intersecting their columns. The
+ * counts for all other polarities follow by inclusion-exclusion from the
+ * counts of the subsets of the combination. For instance, for two variables
+ * {@code i} and {@code j}, the number of configurations containing
+ * {@code -i, -j} is {@code s - |i| - |j| + |i, j|}.
+ * <p>
+ * Thus, for t = 2, each pair of variables requires only one column
+ * intersection instead of four interaction checks. For t = 3, all pairwise
+ * counts are computed once beforehand, which requires memory quadratic in the
+ * number of variables. As inclusion-exclusion requires the negative literals
+ * to be the complement of the positive literals, only complete samples are
+ * supported (see {@link #isApplicable(PackedSampleList, int)}).
+ *
+ * @author agent
+ */
+public final class CoveredInteractionCounter {
+
+    private CoveredInteractionCounter() {}
+
+    /**
+     * Checks whether covered interactions of a sample can be counted by this
+     * class.
+     *
+     * @param sample the sample
+     * @param t      the interaction size
+     * @return {@code true} if the sample is complete and {@code 1 <= t <= 3}
+     */
+    public static boolean isApplicable(PackedSampleList sample, int t) {
+        return t >= 1 && t <= 3 && sample.isComplete();
+    }
+
+    /**
+     * Returns the number of all t-wise interactions (i.e., combinations of t
+     * literals of distinct variables).
+     *
+     * @param variableCount the number of variables
+     * @param t             the interaction size
+     * @return the number of interactions
+     */
+    public static long countInteractions(int variableCount, int t) {
+        long count = 1;
+        for (int i = 0; i < t; i++) {
+            count = count * (variableCount - i) / (i + 1);
+        }
+        return count << t;
+    }
+
+    /**
+     * Counts the t-wise interactions over the given variables that are covered by
+     * at least one configuration of the sample.
+     *
+     * @param sample    the sample, must be complete
+     * @param variables the variables to consider, literals are treated as their
+     *                  variables
+     * @param t         the interaction size, must be between 1 and 3
+     * @return the number of covered interactions
+     */
+    public static long countCovered(PackedSampleList sample, int[] variables, int t) {
+        if (!isApplicable(sample, t)) {
+            throw new IllegalArgumentException();
+        }
+        if (variables.length < t || sample.isEmpty()) {
+            return 0;
+        }
+        final long[][] columns = createColumns(sample, variables);
+        final int configurationCount = sample.size();
+        final int[] selectedCounts = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            selectedCounts[i] = popCount(columns[i]);
+        }
+        switch (t) {
+            case 1:
+                return countCovered1(configurationCount, selectedCounts);
+            case 2:
+                return countCovered2(configurationCount, selectedCounts, columns);
+            default:
+                return countCovered3(configurationCount, selectedCounts, columns);
+        }
+    }
+
+    private static long countCovered1(int s, int[] selectedCounts) {
+        long covered = 0;
+        for (final int p : selectedCounts) {
+            covered += indicator(p) + indicator(s - p);
+        }
+        return covered;
+    }
+
+    private static long countCovered2(int s, int[] selectedCounts, long[][] columns) {
+        return IntStream.range(0, columns.length)
+                .parallel()
+                .mapToLong(i -> {
+                    final long[] columnI = columns[i];
+                    final int pI = selectedCounts[i];
+                    long covered = 0;
+                    for (int j = i + 1; j < columns.length; j++) {
+                        final int pJ = selectedCounts[j];
+                        final int aIJ = intersectionCount(columnI, columns[j]);
+                        covered += indicator(aIJ) + indicator(pI - aIJ) + indicator(pJ - aIJ) + indicator(s - pI - pJ + aIJ);
+                    }
+                    return covered;
+                })
+                .sum();
+    }
+
+    private static long countCovered3(int s, int[] selectedCounts, long[][] columns) {
+        final int n = columns.length;
+        final int[][] pairCounts = new int[n][];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            final int[] row = new int[n - i - 1];
+            for (int j = i + 1; j < n; j++) {
+                row[j - i - 1] = intersectionCount(columns[i], columns[j]);
+            }
+            pairCounts[i] = row;
+        });
+        final int wordCount = columns[0].length;
+        return IntStream.range(0, n)
+                .parallel()
+                .mapToLong(i -> {
+                    final long[] intersection = new long[wordCount];
+                    final long[] columnI = columns[i];
+                    final int[] rowI = pairCounts[i];
+                    final int pI = selectedCounts[i];
+                    long covered = 0;
+                    for (int j = i + 1; j < n; j++) {
+                        final long[] columnJ = columns[j];
+                        for (int w = 0; w < wordCount; w++) {
+                            intersection[w] = columnI[w] & columnJ[w];
+                        }
+                        final int[] rowJ = pairCounts[j];
+                        final int pJ = selectedCounts[j];
+                        final int aIJ = rowI[j - i - 1];
+                        for (int k = j + 1; k < n; k++) {
+                            final int pK = selectedCounts[k];
+                            final int aIK = rowI[k - i - 1];
+                            final int aJK = rowJ[k - j - 1];
+                            final int aIJK = intersectionCount(intersection, columns[k]);
+                            covered += indicator(aIJK)
+                                    + indicator(aIJ - aIJK)
+                                    + indicator(aIK - aIJK)
+                                    + indicator(aJK - aIJK)
+                                    + indicator(pI - aIJ - aIK + aIJK)
+                                    + indicator(pJ - aIJ - aJK + aIJK)
+                                    + indicator(pK - aIK - aJK + aIJK)
+                                    + indicator(s - pI - pJ - pK + aIJ + aIK + aJK - aIJK);
+                        }
+                    }
+                    return covered;
+                })
+                .sum();
+    }
+
+    private static long[][] createColumns(PackedSampleList sample, int[] variables) {
+        final int wordCount = (sample.size() + 63) >>> 6;
+        final long[][] columns = new long[variables.length][wordCount];
+        for (int c = 0; c < sample.size(); c++) {
+            final int word = c >>> 6;
+            final long bit = 1L << (c & 63);
+            for (int i = 0; i < variables.length; i++) {
+                if (sample.isSelected(c, Math.abs(variables[i]))) {
+                    columns[i][word] |= bit;
+                }
+            }
+        }
+        return columns;
+    }
+
+    private static int intersectionCount(long[] column1, long[] column2) {
+        int count = 0;
+        for (int w = 0; w < column1.length; w++) {
+            count += Long.bitCount(column1[w] & column2[w]);
+        }
+        return count;
+    }
+
+    private static int popCount(long[] column) {
+        int count = 0;
+        for (final long word : column) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int indicator(int configurationCount) {
+        return configurationCount > 0 ? 1 : 0;
+    }
+}
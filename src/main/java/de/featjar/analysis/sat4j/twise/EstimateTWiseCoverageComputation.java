@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+import de.featjar.analysis.RuntimeContradictionException;
+import de.featjar.analysis.sat4j.computation.ASAT4JAnalysis;
+import de.featjar.analysis.sat4j.computation.MIGBuilder;
+import de.featjar.analysis.sat4j.solver.ISelectionStrategy;
+import de.featjar.analysis.sat4j.solver.ModalImplicationGraph;
+import de.featjar.analysis.sat4j.solver.SAT4JSolutionSolver;
+import de.featjar.base.computation.Computations;
+import de.featjar.base.computation.Dependency;
+import de.featjar.base.computation.IComputation;
+import de.featjar.base.computation.Progress;
+import de.featjar.base.data.Ints;
+import de.featjar.base.data.Result;
+import de.featjar.formula.assignment.BooleanAssignment;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.BooleanSolution;
+import de.featjar.formula.assignment.BooleanSolutionList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Estimates the t-wise coverage of a sample by classifying uniformly drawn
+ * interactions instead of all interactions. As in
+ * {@link TWiseCoverageComputation}, an interaction that is not covered by the
+ * sample is classified as invalid by the MIG and the SAT solver. Each valid
+ * interaction found by the solver yields a solution, which is used to classify
+ * later interactions without a solver call.
+ * <p>
+ * Interactions are drawn until the confidence interval of the coverage is at
+ * most {@link #MARGIN} wide on each side, or until {@link #SAMPLE_SIZE}
+ * interactions were drawn.
+ *
+ * @author agent
+ */
+public class EstimateTWiseCoverageComputation extends ASAT4JAnalysis.Solution<CoverageEstimate> {
+    public static final Dependency<Integer> T = Dependency.newDependency(Integer.class);
+    public static final Dependency<BooleanSolutionList> SAMPLE = Dependency.newDependency(BooleanSolutionList.class);
+    public static final Dependency<ModalImplicationGraph> MIG = Dependency.newDependency(ModalImplicationGraph.class);
+    public static final Dependency<BooleanAssignment> FILTER = Dependency.newDependency(BooleanAssignment.class);
+
+    /**
+     * The maximum number of interactions to draw.
+     */
+    public static final Dependency<Integer> SAMPLE_SIZE = Dependency.newDependency(Integer.class);
+
+    /**
+     * The confidence level of the confidence interval.
+     */
+    public static final Dependency<Double> CONFIDENCE = Dependency.newDependency(Double.class);
+
+    /**
+     * The desired margin of error, i.e., half of the width of the confidence
+     * interval. If {@code 0}, exactly {@link #SAMPLE_SIZE} interactions are drawn.
+     */
+    public static final Dependency<Double> MARGIN = Dependency.newDependency(Double.class);
+
+    private static final int MINIMUM_VALID_COUNT = 30;
+
+    public EstimateTWiseCoverageComputation(IComputation<BooleanClauseList> booleanClauseList) {
+        super(
+                booleanClauseList, //
+                Computations.of(2), //
+                Computations.of(new BooleanSolutionList(null, 0)), //
+                new MIGBuilder(booleanClauseList), //
+                Computations.of(new BooleanAssignment()), //
+                Computations.of(100_000), //
+                Computations.of(0.95), //
+                Computations.of(0.01));
+    }
+
+    public EstimateTWiseCoverageComputation(EstimateTWiseCoverageComputation other) {
+        super(other);
+    }
+
+    @Override
+    public Result<CoverageEstimate> compute(List<Object> dependencyList, Progress progress) {
+        final List<BooleanSolution> sample = SAMPLE.get(dependencyList).getAll();
+        final int t = T.get(dependencyList);
+        final int sampleSize = SAMPLE_SIZE.get(dependencyList);
+        final double confidence = CONFIDENCE.get(dependencyList);
+        final double margin = MARGIN.get(dependencyList);
+        if (t < 1 || sampleSize < 0 || !(confidence > 0 && confidence < 1) || margin < 0) {
+            return Result.empty(new IllegalArgumentException());
+        }
+        if (sample.isEmpty()) {
+            return Result.of(new CoverageEstimate(confidence, 0, 0, 0, 0, 0));
+        }
+
+        final int size = sample.get(0).size();
+        final int[] variables = Ints.filteredList(size, FILTER.get(dependencyList));
+        final long total = CoveredInteractionCounter.countInteractions(variables.length, t);
+        if (variables.length < t) {
+            return Result.of(new CoverageEstimate(confidence, 0, 0, 0, 0, total));
+        }
+
+        final SampleBitIndex sampleIndex = new SampleBitIndex(sample, size);
+        final SampleBitIndex solutionIndex = new SampleBitIndex(size);
+        final ModalImplicationGraph.Visitor visitor = MIG.get(dependencyList).getVisitor();
+        final SAT4JSolutionSolver solver = initializeSolver(dependencyList);
+        final Random random = new Random(RANDOM_SEED.get(dependencyList));
+        solver.setSelectionStrategy(ISelectionStrategy.random(random));
+
+        final int[] interaction = new int[t];
+        long covered = 0, uncovered = 0, invalid = 0, unknown = 0;
+        progress.setTotalSteps(sampleSize);
+        for (int drawn = 0; drawn < sampleSize; drawn++) {
+            checkCancel();
+            drawInteraction(variables, interaction, random);
+            if (sampleIndex.test(interaction)) {
+                covered++;
+            } else if (isInvalidMIG(visitor, interaction)) {
+                invalid++;
+            } else if (solutionIndex.test(interaction)) {
+                uncovered++;
+            } else {
+                final int orgAssignmentLength = solver.getAssignment().size();
+                final Result<Boolean> hasSolution;
+                try {
+                    solver.getAssignment().addAll(interaction);
+                    hasSolution = solver.hasSolution();
+                    if (hasSolution.valueEquals(Boolean.TRUE)) {
+                        solutionIndex.addConfiguration(solver.getSolution());
+                        solver.shuffleOrder(random);
+                    }
+                } finally {
+                    solver.getAssignment().clear(orgAssignmentLength);
+                }
+                if (hasSolution.isEmpty()) {
+                    unknown++;
+                } else if (hasSolution.get()) {
+                    uncovered++;
+                } else {
+                    invalid++;
+                }
+            }
+            progress.incrementCurrentStep();
+
+            if (margin > 0 && covered + uncovered >= MINIMUM_VALID_COUNT) {
+                CoverageEstimate estimate =
+                        new CoverageEstimate(confidence, covered, uncovered, invalid, unknown, total);
+                if (estimate.marginOfError() <= margin) {
+                    return Result.of(estimate);
+                }
+            }
+        }
+        return Result.of(new CoverageEstimate(confidence, covered, uncovered, invalid, unknown, total));
+    }
+
+    /**
+     * Draws t distinct variables uniformly at random via a partial Fisher-Yates
+     * shuffle and assigns each a random polarity. Thus, each interaction is
+     * equally likely.
+     */
+    private static void drawInteraction(int[] variables, int[] interaction, Random random) {
+        for (int i = 0; i < interaction.length; i++) {
+            final int j = i + random.nextInt(variables.length - i);
+            final int variable = variables[j];
+            variables[j] = variables[i];
+            variables[i] = variable;
+            interaction[i] = random.nextBoolean() ? variable : -variable;
+        }
+    }
+
+    private static boolean isInvalidMIG(ModalImplicationGraph.Visitor visitor, int[] interaction) {
+        try {
+            visitor.propagate(interaction);
+        } catch (RuntimeContradictionException e) {
+            return true;
+        } finally {
+            visitor.reset();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+/**
+ * Assigns a weight to each interaction, e.g., based on how often the involved
+ * features were changed. Weights must be non-negative. Implementations must be
+ * thread-safe, as weights are requested by multiple threads concurrently.
+ *
+ * @author agent
+ */
+@FunctionalInterface
+public interface IInteractionWeight {
+
+    /**
+     * Returns the weight of an interaction.
+     *
+     * @param literals the literals of the interaction, must not be modified
+     * @return the weight of the interaction
+     */
+    double getWeight(int[] literals);
+
+    /**
+     * Creates a weight function that assigns a weight of {@code 1} to all
+     * interactions.
+     *
+     * @return the weight function
+     */
+    static IInteractionWeight uniform() {
+        return literals -> 1;
+    }
+
+    /**
+     * Creates a weight function that sums up the weights of the features of an
+     * interaction, regardless of whether they are selected or deselected.
+     *
+     * @param featureWeights the weights of all variables, the weight of variable
+     *                       {@code v} is stored at position {@code v - 1}
+     * @return the weight function
+     */
+    static IInteractionWeight sumOfFeatures(double[] featureWeights) {
+        return literals -> {
+            double weight = 0;
+            for (final int literal : literals) {
+                weight += featureWeights[Math.abs(literal) - 1];
+            }
+            return weight;
+        };
+    }
+
+    /**
+     * Creates a weight function that multiplies the weights of the features of an
+     * interaction, regardless of whether they are selected or deselected.
+     *
+     * @param featureWeights the weights of all variables, the weight of variable
+     *                       {@code v} is stored at position {@code v - 1}
+     * @return the weight function
+     */
+    static IInteractionWeight productOfFeatures(double[] featureWeights) {
+        return literals -> {
+            double weight = 1;
+            for (final int literal : literals) {
+                weight *= featureWeights[Math.abs(literal) - 1];
+            }
+            return weight;
+        };
+    }
+}
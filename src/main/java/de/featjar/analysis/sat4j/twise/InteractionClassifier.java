@@ -0,0 +1,308 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+import de.featjar.analysis.RuntimeContradictionException;
+import de.featjar.analysis.sat4j.computation.ASAT4JAnalysis;
+import de.featjar.analysis.sat4j.solver.ISelectionStrategy;
+import de.featjar.analysis.sat4j.solver.ModalImplicationGraph;
+import de.featjar.analysis.sat4j.solver.SAT4JSolutionSolver;
+import de.featjar.analysis.sat4j.solver.SolverStatisticsRecorder;
+import de.featjar.base.FeatJAR;
+import de.featjar.base.data.Result;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.BooleanSolution;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Classifies the interactions of a sample as covered, invalid, or uncovered.
+ * Used by {@link TWiseCoverageComputation} and
+ * {@link WeightedTWiseCoverageComputation}. Uncovered interactions are checked
+ * by an optional {@link InteractionValidityCache}, the MIG, a
+ * {@link SharedSolutionPool}, and finally the SAT solver. Each thread uses its
+ * own {@link Worker}, whereas the sample index, the solution pool, the validity
+ * cache, and the {@link InteractionExporter} are shared. When the classifier is
+ * closed, the MIG propagations and validity cache hits of all workers are added
+ * to the {@link ASAT4JAnalysis#STATISTICS recorder} of the analysis.
+ *
+ * @author agent
+ */
+class InteractionClassifier implements AutoCloseable {
+
+    /**
+     * Holds the mutable state of one thread.
+     */
+    class Worker {
+        private final SAT4JSolutionSolver solver;
+        private final ModalImplicationGraph.Visitor visitor;
+        private final Random random;
+        private final InteractionExporter.Buffer exportBuffer;
+        private final int[] indexBuffer;
+        private long migPropagationCount;
+        private long validityCacheHitCount;
+
+        private Worker(long seed) {
+            random = new Random(seed);
+            solver = analysis.initializeSolver(dependencyList);
+            solver.setSelectionStrategy(ISelectionStrategy.random(random));
+            visitor = mig.getVisitor();
+            exportBuffer = exporter != null ? exporter.newBuffer() : null;
+            indexBuffer = new int[t];
+        }
+
+        boolean isCovered(int[] select) {
+            return sampleIndex.test(select);
+        }
+
+        boolean isInvalid(int[] select) {
+            if (validityCache != null) {
+                switch (validityCache.get(select, indexBuffer)) {
+                    case InteractionValidityCache.INVALID:
+                        validityCacheHitCount++;
+                        return true;
+                    case InteractionValidityCache.VALID:
+                        validityCacheHitCount++;
+                        return false;
+                    default:
+                        break;
+                }
+            }
+            if (isInvalidMIG(select)) {
+                if (validityCache != null) {
+                    validityCache.set(select, true, indexBuffer);
+                }
+                return true;
+            }
+            if (solutionPool.test(select)) {
+                if (validityCache != null) {
+                    validityCache.set(select, false, indexBuffer);
+                }
+                return false;
+            }
+            Result<Boolean> hasSolution = hasSolution(select);
+            if (validityCache != null && hasSolution.isPresent()) {
+                validityCache.set(select, !hasSolution.get(), indexBuffer);
+            }
+            return hasSolution.valueEquals(Boolean.FALSE);
+        }
+
+        void writeInvalid(int[] select) {
+            if (exportBuffer != null) {
+                exportBuffer.writeInvalid(select);
+            }
+        }
+
+        void writeUncovered(int[] select) {
+            if (exportBuffer != null) {
+                exportBuffer.writeUncovered(select);
+            }
+        }
+
+        private boolean isInvalidMIG(int[] select) {
+            migPropagationCount++;
+            try {
+                visitor.propagate(select);
+            } catch (RuntimeContradictionException e) {
+                return true;
+            } finally {
+                visitor.reset();
+            }
+            return false;
+        }
+
+        private Result<Boolean> hasSolution(int[] select) {
+            final int orgAssignmentLength = solver.getAssignment().size();
+            try {
+                solver.getAssignment().addAll(select);
+                Result<Boolean> hasSolution = solver.hasSolution();
+                if (hasSolution.valueEquals(Boolean.TRUE) && !solutionPool.isFull()) {
+                    // publish the model, such that all threads can use it to classify later interactions
+                    solutionPool.add(solver.getInternalSolution());
+                    solver.shuffleOrder(random);
+                }
+                return hasSolution;
+            } finally {
+                solver.getAssignment().clear(orgAssignmentLength);
+            }
+        }
+    }
+
+    private final ASAT4JAnalysis<?> analysis;
+    private final List<Object> dependencyList;
+    private final ModalImplicationGraph mig;
+    private final int t;
+    private final SampleListIndex sampleIndex;
+    private final SharedSolutionPool solutionPool;
+    private final AtomicLong nextSeed;
+    private InteractionValidityCache validityCache;
+    private InteractionExporter exporter;
+    private final List<Worker> workers = new ArrayList<>();
+
+    /**
+     * Creates a new classifier and fills the solution pool with some random
+     * solutions.
+     *
+     * @param analysis       the analysis that creates the solvers
+     * @param dependencyList the dependencies of the analysis
+     * @param sample         the sample, must not be empty
+     * @param mig            the modal implication graph
+     * @param t              the number of literals per interaction
+     */
+    InteractionClassifier(
+            ASAT4JAnalysis<?> analysis,
+            List<Object> dependencyList,
+            List<BooleanSolution> sample,
+            ModalImplicationGraph mig,
+            int t) {
+        this.analysis = analysis;
+        this.dependencyList = dependencyList;
+        this.mig = mig;
+        this.t = t;
+        int size = sample.get(0).size();
+        sampleIndex = new SampleListIndex(sample, size);
+        solutionPool = new SharedSolutionPool(size, TWiseCoverageComputation.SOLUTION_POOL_LIMIT);
+        nextSeed = new AtomicLong(ASAT4JAnalysis.RANDOM_SEED.get(dependencyList));
+        fillSolutionPool(size);
+    }
+
+    private void fillSolutionPool(int size) {
+        SAT4JSolutionSolver solver = analysis.initializeSolver(dependencyList);
+        Random random = new Random(nextSeed.getAndIncrement());
+        int limit = (int) Math.ceil(30 * Math.log(size));
+        solver.setSelectionStrategy(ISelectionStrategy.random(random));
+        for (int j = 0; j < limit; j++) {
+            if (solver.isSatisfiable()) {
+                solutionPool.add(solver.getInternalSolution());
+                solver.shuffleOrder(random);
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Opens the {@link InteractionValidityCache} in the given directory. If the
+     * path is empty or the cache would be too large, no cache is used.
+     *
+     * @param directory the directory of the cache
+     * @throws IOException if the cache cannot be opened
+     */
+    void openValidityCache(Path directory) throws IOException {
+        if (directory.toString().isEmpty()) {
+            return;
+        }
+        BooleanClauseList clauseList = ASAT4JAnalysis.BOOLEAN_CLAUSE_LIST.get(dependencyList);
+        int variableCount = clauseList.getVariableMap().getVariableCount();
+        long dataSize = InteractionValidityCache.getDataSize(variableCount, t);
+        if (dataSize > InteractionValidityCache.MAXIMUM_DATA_SIZE) {
+            FeatJAR.log()
+                    .warning(
+                            "Validity cache disabled, as it would require %d bytes (maximum is %d)",
+                            dataSize, InteractionValidityCache.MAXIMUM_DATA_SIZE);
+            return;
+        }
+        long hash = InteractionValidityCache.computeHash(
+                clauseList,
+                ASAT4JAnalysis.ASSUMED_CLAUSE_LIST.get(dependencyList),
+                ASAT4JAnalysis.ASSUMED_ASSIGNMENT.get(dependencyList));
+        validityCache = InteractionValidityCache.open(directory, hash, variableCount, t);
+    }
+
+    /**
+     * Opens an {@link InteractionExporter} for the given file. If the path is
+     * empty, no interactions are written.
+     *
+     * @param path the path of the file
+     * @throws IOException if the file cannot be created
+     */
+    void openExporter(Path path) throws IOException {
+        if (path.toString().isEmpty()) {
+            return;
+        }
+        exporter = new InteractionExporter(path, InteractionExporter.getFormat(path), t);
+    }
+
+    /**
+     * Creates a new worker for the calling thread. Must be called after the cache
+     * and the exporter are opened.
+     *
+     * @return the worker
+     */
+    Worker newWorker() {
+        Worker worker = new Worker(nextSeed.getAndIncrement());
+        synchronized (workers) {
+            workers.add(worker);
+        }
+        return worker;
+    }
+
+    /**
+     * Writes all remaining interactions to the exported file. Must only be called
+     * after all workers finished.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    void finish() throws IOException {
+        if (exporter != null) {
+            InteractionExporter openExporter = exporter;
+            exporter = null;
+            openExporter.close();
+        }
+    }
+
+    /**
+     * Closes the exporter and the validity cache and records the counters of all
+     * workers. Errors are only logged, use {@link #finish()} to detect errors
+     * while writing the exported file.
+     */
+    @Override
+    public void close() {
+        SolverStatisticsRecorder recorder = ASAT4JAnalysis.STATISTICS.get(dependencyList);
+        synchronized (workers) {
+            for (Worker worker : workers) {
+                recorder.addMIGPropagations(worker.migPropagationCount);
+                recorder.addValidityCacheHits(worker.validityCacheHitCount);
+            }
+            workers.clear();
+        }
+        if (exporter != null) {
+            try {
+                exporter.close();
+            } catch (IOException e) {
+                FeatJAR.log().error(e);
+            }
+            exporter = null;
+        }
+        if (validityCache != null) {
+            try {
+                validityCache.close();
+            } catch (IOException e) {
+                FeatJAR.log().error(e);
+            }
+            validityCache = null;
+        }
+    }
+}
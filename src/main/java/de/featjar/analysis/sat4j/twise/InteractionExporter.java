@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams interactions to a file while they are discovered by multiple
+ * threads. Each thread writes to its own bounded {@link Buffer}. A full buffer
+ * reserves a region at the end of the file with an atomic counter and writes
+ * to it with a positional write, so threads never wait for each other. The
+ * order of the interactions in the file is therefore arbitrary.
+ * <p>
+ * In {@link Format#BINARY binary format}, the file starts with a header of
+ * {@value #HEADER_SIZE} bytes (magic number, version, t, reserved), followed by
+ * one record per interaction, consisting of the kind ({@link #UNCOVERED} or
+ * {@link #INVALID}) as one byte and the t literals as four byte integers. In
+ * {@link Format#CSV CSV format}, the file starts with a header line, followed
+ * by one line per interaction, consisting of the kind ({@code U} or {@code I})
+ * and the t literals.
+ *
+ * @author agent
+ */
+public class InteractionExporter implements AutoCloseable {
+
+    public enum Format {
+        BINARY,
+        CSV
+    }
+
+    public static final byte UNCOVERED = 0;
+    public static final byte INVALID = 1;
+
+    public static final int MAGIC = 0x464A4958;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Buffers the interactions of one thread. A buffer must only be used by one
+     * thread at a time.
+     */
+    public class Buffer {
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private final StringBuilder line = new StringBuilder();
+
+        private Buffer() {}
+
+        public void writeUncovered(int[] literals) {
+            write(UNCOVERED, literals);
+        }
+
+        public void writeInvalid(int[] literals) {
+            write(INVALID, literals);
+        }
+
+        private void write(byte kind, int[] literals) {
+            if (format == Format.BINARY) {
+                if (buffer.remaining() < 1 + 4 * literals.length) {
+                    flush();
+                }
+                buffer.put(kind);
+                for (final int literal : literals) {
+                    buffer.putInt(literal);
+                }
+            } else {
+                line.setLength(0);
+                line.append(kind == UNCOVERED ? 'U' : 'I');
+                for (final int literal : literals) {
+                    line.append(',').append(literal);
+                }
+                line.append('\n');
+                if (buffer.remaining() < line.length()) {
+                    flush();
+                }
+                for (int i = 0; i < line.length(); i++) {
+                    buffer.put((byte) line.charAt(i));
+                }
+            }
+        }
+
+        /**
+         * Writes all buffered interactions to the file.
+         *
+         * @throws UncheckedIOException if the file cannot be written
+         */
+        public void flush() {
+            buffer.flip();
+            try {
+                writeAt(buffer, position.getAndAdd(buffer.remaining()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                buffer.clear();
+            }
+        }
+    }
+
+    private final FileChannel channel;
+    private final Format format;
+    private final AtomicLong position;
+    private final List<Buffer> buffers = new ArrayList<>();
+
+    /**
+     * Creates a new file for interactions. An existing file is overwritten.
+     *
+     * @param path   the path of the file
+     * @param format the format of the file
+     * @param t      the number of literals per interaction
+     * @throws IOException if the file cannot be created
+     */
+    public InteractionExporter(Path path, Format format, int t) throws IOException {
+        this.format = format;
+        channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        final ByteBuffer header;
+        if (format == Format.BINARY) {
+            header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(t).putInt(0);
+            header.flip();
+        } else {
+            final StringBuilder headerLine = new StringBuilder("kind");
+            for (int i = 1; i <= t; i++) {
+                headerLine.append(",literal").append(i);
+            }
+            headerLine.append('\n');
+            header = ByteBuffer.wrap(headerLine.toString().getBytes(StandardCharsets.US_ASCII));
+        }
+        position = new AtomicLong(header.remaining());
+        writeAt(header, 0);
+    }
+
+    /**
+     * Determines the format of a file by its extension. Files ending with
+     * {@code .csv} are written as CSV, all other files in binary format.
+     *
+     * @param path the path of the file
+     * @return the format
+     */
+    public static Format getFormat(Path path) {
+        return path.getFileName().toString().toLowerCase().endsWith(".csv") ? Format.CSV : Format.BINARY;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Creates a new buffer for the calling thread.
+     *
+     * @return the buffer
+     */
+    public Buffer newBuffer() {
+        final Buffer buffer = new Buffer();
+        synchronized (buffers) {
+            buffers.add(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * Flushes all buffers and closes the file. Must only be called after all
+     * threads finished writing.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            synchronized (buffers) {
+                for (final Buffer buffer : buffers) {
+                    buffer.flush();
+                }
+                buffers.clear();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeAt(ByteBuffer buffer, long filePosition) throws IOException {
+        while (buffer.hasRemaining()) {
+            filePosition += channel.write(buffer, filePosition);
+        }
+    }
+}
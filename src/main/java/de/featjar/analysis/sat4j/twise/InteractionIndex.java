@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+/**
+ * Maps each t-wise interaction over a fixed number of variables to a unique
+ * index between {@code 0} and {@link #size()}. The index of an interaction is
+ * the colexicographic rank of its variables times {@code 2^t} plus its
+ * polarities, where bit {@code i} is set if the literal of the {@code i}-th
+ * smallest variable is positive.
+ *
+ * @author agent
+ */
+public class InteractionIndex {
+
+    private final int variableCount;
+    private final int t;
+    private final long[][] binomials;
+
+    public InteractionIndex(int variableCount, int t) {
+        this.variableCount = variableCount;
+        this.t = t;
+        binomials = new long[variableCount + 1][t + 1];
+        for (int n = 0; n <= variableCount; n++) {
+            binomials[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, t); k++) {
+                binomials[n][k] = binomials[n - 1][k - 1] + binomials[n - 1][k];
+            }
+        }
+    }
+
+    public int getVariableCount() {
+        return variableCount;
+    }
+
+    public int getT() {
+        return t;
+    }
+
+    /**
+     * Returns the number of interactions.
+     *
+     * @return the number of interactions
+     */
+    public long size() {
+        return binomials[variableCount][t] << t;
+    }
+
+    /**
+     * Returns the index of an interaction. Allocates a new buffer on each call,
+     * use {@link #getIndex(int[], int[])} in loops.
+     *
+     * @param interaction the literals of the interaction, must contain t literals
+     *                    of distinct variables between {@code 1} and the number of
+     *                    variables
+     * @return the index
+     */
+    public long getIndex(int[] interaction) {
+        return getIndex(interaction, new int[t]);
+    }
+
+    /**
+     * Returns the index of an interaction.
+     *
+     * @param interaction the literals of the interaction, must contain t literals
+     *                    of distinct variables between {@code 1} and the number of
+     *                    variables
+     * @param variables   a buffer of at least t elements owned by the caller, its
+     *                    content is overwritten
+     * @return the index
+     */
+    public long getIndex(int[] interaction, int[] variables) {
+        int signs = 0;
+        for (int i = 0; i < t; i++) {
+            final int literal = interaction[i];
+            final int variable = Math.abs(literal) - 1;
+            int j = i;
+            while (j > 0 && variables[j - 1] > variable) {
+                variables[j] = variables[j - 1];
+                j--;
+            }
+            variables[j] = variable;
+            // insert the polarity bit at position j
+            final int lowerMask = (1 << j) - 1;
+            signs = ((signs & ~lowerMask) << 1) | (signs & lowerMask) | ((literal > 0 ? 1 : 0) << j);
+        }
+        long rank = 0;
+        for (int i = 0; i < t; i++) {
+            rank += binomials[variables[i]][i + 1];
+        }
+        return (rank << t) | signs;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+import de.featjar.analysis.sat4j.computation.CombinationRanking;
+import de.featjar.formula.assignment.BooleanAssignment;
+import de.featjar.formula.assignment.BooleanClause;
+import de.featjar.formula.assignment.BooleanClauseList;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Persistent cache that stores for t-wise interactions whether they are valid
+ * or invalid with respect to a CNF. The cache file is memory-mapped, such that
+ * only the accessed parts are loaded. Each interaction occupies two bits (known
+ * and invalid) at the position given by its {@link InteractionIndex}.
+ * <p>
+ * A cache file is identified by a hash of the CNF (including assumptions) and
+ * t. Opening a cache with a different hash or t discards the old content.
+ * <p>
+ * Concurrent updates of interactions that share a byte may get lost. In this
+ * case, the interaction is only unknown again and will be checked anew, so no
+ * wrong validity is ever reported.
+ * <p>
+ * The file stores all {@code C(n, t) * 2^t} interactions over {@code n}
+ * variables and thus grows quickly with t. Caches whose data would exceed
+ * {@link #MAXIMUM_DATA_SIZE} bytes are refused by
+ * {@link #open(Path, long, int, int)}; callers can check
+ * {@link #getDataSize(int, int)} beforehand to fall back to no cache.
+ *
+ * @author agent
+ */
+public class InteractionValidityCache implements AutoCloseable {
+
+    public static final int UNKNOWN = 0;
+    public static final int VALID = 1;
+    public static final int INVALID = 3;
+
+    /**
+     * Maximum size of the data of a cache file in bytes. Set via the system
+     * property {@code featjar.sat4j.validitycache.maxsize}, defaults to 4 GiB.
+     */
+    public static final long MAXIMUM_DATA_SIZE = Long.getLong("featjar.sat4j.validitycache.maxsize", 1L << 32);
+
+    private static final int MAGIC = 0x464A5643;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final InteractionIndex interactionIndex;
+
+    /**
+     * Computes an order-independent hash of a CNF and the assumptions under which
+     * interactions are checked.
+     *
+     * @param clauseList        the CNF
+     * @param assumedClauseList additional clauses
+     * @param assumedAssignment additional unit clauses
+     * @return the hash
+     */
+    public static long computeHash(
+            BooleanClauseList clauseList, BooleanClauseList assumedClauseList, BooleanAssignment assumedAssignment) {
+        long hash = clauseList.getVariableMap().getVariableCount();
+        for (final BooleanClause clause : clauseList.getAll()) {
+            hash += hashClause(clause.get());
+        }
+        for (final BooleanClause clause : assumedClauseList.getAll()) {
+            hash += hashClause(clause.get());
+        }
+        for (final int literal : assumedAssignment.get()) {
+            hash += hashClause(new int[] {literal});
+        }
+        return mix(hash);
+    }
+
+    private static long hashClause(int[] literals) {
+        final int[] sortedLiterals = Arrays.copyOf(literals, literals.length);
+        Arrays.sort(sortedLiterals);
+        long hash = 0x9E3779B97F4A7C15L;
+        for (final int literal : sortedLiterals) {
+            hash = mix(hash ^ literal);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * Returns the size of the data of a cache file, i.e., two bits per
+     * interaction.
+     *
+     * @param variableCount the number of variables of the CNF
+     * @param t             the interaction size
+     * @return the size in bytes, saturated at {@link Long#MAX_VALUE}
+     */
+    public static long getDataSize(int variableCount, int t) {
+        final BigInteger bits = CombinationRanking.binomial(variableCount, t).shiftLeft(t + 1);
+        final BigInteger bytes = bits.add(BigInteger.valueOf(7)).shiftRight(3);
+        return bytes.bitLength() < Long.SIZE ? bytes.longValue() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Opens the cache file for the given CNF hash and t in a directory. Creates
+     * the file if it does not exist yet.
+     *
+     * @param directory     the cache directory
+     * @param hash          the hash of the CNF, see
+     *                      {@link #computeHash(BooleanClauseList, BooleanClauseList, BooleanAssignment)}
+     * @param variableCount the number of variables of the CNF
+     * @param t             the interaction size
+     * @return the cache
+     * @throws IOException if the file cannot be opened or mapped or would exceed
+     *                     {@link #MAXIMUM_DATA_SIZE}
+     */
+    public static InteractionValidityCache open(Path directory, long hash, int variableCount, int t)
+            throws IOException {
+        final long dataSize = getDataSize(variableCount, t);
+        if (dataSize > MAXIMUM_DATA_SIZE) {
+            throw new IOException(String.format(
+                    "Validity cache for %d variables and t = %d requires %d bytes (maximum is %d)",
+                    variableCount, t, dataSize, MAXIMUM_DATA_SIZE));
+        }
+        Files.createDirectories(directory);
+        return new InteractionValidityCache(
+                directory.resolve(String.format("%016x-t%d.cache", hash, t)), hash, variableCount, t);
+    }
+
+    private InteractionValidityCache(Path path, long hash, int variableCount, int t) throws IOException {
+        interactionIndex = new InteractionIndex(variableCount, t);
+        final long dataSize = getDataSize(variableCount, t);
+
+        channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putLong(hash).putInt(t).putInt(variableCount);
+        header.position(HEADER_SIZE);
+        header.flip();
+        if (!hasHeader(header)) {
+            channel.truncate(0);
+            channel.write(header, 0);
+        }
+        segments = new MappedByteBuffer[(int) ((dataSize + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+        for (int i = 0; i < segments.length; i++) {
+            final long offset = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(
+                    FileChannel.MapMode.READ_WRITE,
+                    HEADER_SIZE + offset,
+                    Math.min(SEGMENT_MASK + 1, dataSize - offset));
+        }
+    }
+
+    private boolean hasHeader(ByteBuffer expectedHeader) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            return false;
+        }
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        return header.equals(expectedHeader);
+    }
+
+    public int getT() {
+        return interactionIndex.getT();
+    }
+
+    public int getVariableCount() {
+        return interactionIndex.getVariableCount();
+    }
+
+    /**
+     * Returns the cached validity of an interaction.
+     *
+     * @param interaction the literals of the interaction, must contain t literals
+     *                    of distinct variables
+     * @return {@link #UNKNOWN}, {@link #VALID}, or {@link #INVALID}
+     */
+    public int get(int[] interaction) {
+        return get(interaction, new int[getT()]);
+    }
+
+    /**
+     * Returns the cached validity of an interaction.
+     *
+     * @param interaction the literals of the interaction, must contain t literals
+     *                    of distinct variables
+     * @param buffer      a buffer of at least t elements owned by the caller, see
+     *                    {@link InteractionIndex#getIndex(int[], int[])}
+     * @return {@link #UNKNOWN}, {@link #VALID}, or {@link #INVALID}
+     */
+    public int get(int[] interaction, int[] buffer) {
+        final long index = interactionIndex.getIndex(interaction, buffer);
+        final MappedByteBuffer segment = segments[(int) (index >>> (SEGMENT_SHIFT + 2))];
+        final int position = (int) ((index >>> 2) & SEGMENT_MASK);
+        return (segment.get(position) >>> ((index & 3) << 1)) & 3;
+    }
+
+    /**
+     * Stores the validity of an interaction.
+     *
+     * @param interaction the literals of the interaction, must contain t literals
+     *                    of distinct variables
+     * @param invalid     whether the interaction is invalid
+     */
+    public void set(int[] interaction, boolean invalid) {
+        set(interaction, invalid, new int[getT()]);
+    }
+
+    /**
+     * Stores the validity of an interaction.
+     *
+     * @param interaction the literals of the interaction, must contain t literals
+     *                    of distinct variables
+     * @param invalid     whether the interaction is invalid
+     * @param buffer      a buffer of at least t elements owned by the caller, see
+     *                    {@link InteractionIndex#getIndex(int[], int[])}
+     */
+    public void set(int[] interaction, boolean invalid, int[] buffer) {
+        final long index = interactionIndex.getIndex(interaction, buffer);
+        final MappedByteBuffer segment = segments[(int) (index >>> (SEGMENT_SHIFT + 2))];
+        final int position = (int) ((index >>> 2) & SEGMENT_MASK);
+        final int shift = (int) ((index & 3) << 1);
+        final int value = (invalid ? INVALID : VALID) << shift;
+        segment.put(position, (byte) ((segment.get(position) & ~(3 << shift)) | value));
+    }
+
+    /**
+     * Writes all changes to the file.
+     */
+    public void flush() {
+        for (final MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+import de.featjar.formula.VariableMap;
+import de.featjar.formula.assignment.BooleanAssignment;
+import de.featjar.formula.assignment.BooleanSolution;
+import de.featjar.formula.assignment.BooleanSolutionList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Stores a list of configurations with one bit per variable. Each
+ * configuration consists of a value plane, which holds the selection of each
+ * variable, and a definition plane, which holds whether a variable is assigned
+ * at all. As long as all configurations are complete, the definition plane is
+ * omitted. Variable {@code v} is stored at bit {@code v - 1}.
+ * <p>
+ * This class serves as internal storage of {@link TWiseStatisticGenerator},
+ * {@link TWiseCountComputation}, {@link RelativeTWiseCoverageComputation}, and
+ * {@link CoveredInteractionCounter}. Samples that are returned or written by
+ * other computations remain {@link BooleanSolutionList}s and can be converted
+ * with {@link #toSolutionList(VariableMap)}.
+ *
+ * @author agent
+ */
+public class PackedSampleList implements Iterable<BooleanSolution> {
+
+    private final int variableCount;
+    private final int wordCount;
+    private final long lastWordMask;
+
+    private long[] values;
+    private long[] definitions;
+    private int size;
+
+    public static PackedSampleList of(List<? extends BooleanAssignment> sample, int variableCount) {
+        final PackedSampleList packedSample = new PackedSampleList(variableCount, sample.size());
+        for (final BooleanAssignment configuration : sample) {
+            packedSample.add(configuration);
+        }
+        return packedSample;
+    }
+
+    public PackedSampleList(int variableCount) {
+        this(variableCount, 16);
+    }
+
+    public PackedSampleList(int variableCount, int initialCapacity) {
+        this.variableCount = variableCount;
+        wordCount = (variableCount + 63) >>> 6;
+        final int remainder = variableCount & 63;
+        lastWordMask = remainder == 0 ? -1L : (1L << remainder) - 1;
+        values = new long[Math.max(1, initialCapacity) * wordCount];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getVariableCount() {
+        return variableCount;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Returns whether all stored configurations are complete. In this case, only
+     * the value plane is stored.
+     *
+     * @return {@code true} if all configurations are complete
+     */
+    public boolean isComplete() {
+        return definitions == null;
+    }
+
+    public void ensureCapacity(int capacity) {
+        final int length = capacity * wordCount;
+        if (values.length < length) {
+            final int newLength = Math.max(length, values.length << 1);
+            values = Arrays.copyOf(values, newLength);
+            if (definitions != null) {
+                definitions = Arrays.copyOf(definitions, newLength);
+            }
+        }
+    }
+
+    public void add(BooleanAssignment configuration) {
+        add(configuration.get());
+    }
+
+    /**
+     * Adds a new configuration. The configuration may be given as a list of
+     * literals or in solution form (i.e., the literal for variable {@code v} is
+     * stored at position {@code v - 1} or is {@code 0}).
+     *
+     * @param literals the literals of the configuration
+     */
+    public void add(int[] literals) {
+        ensureCapacity(size + 1);
+        final int index = size++;
+        int definedCount = 0;
+        for (final int literal : literals) {
+            if (literal != 0) {
+                final int position = getPosition(index, literal);
+                final long bit = getBit(literal);
+                if (literal > 0) {
+                    values[position] |= bit;
+                }
+                if (definitions != null) {
+                    definitions[position] |= bit;
+                }
+                definedCount++;
+            }
+        }
+        if (definitions == null && definedCount < variableCount) {
+            createDefinitions();
+            Arrays.fill(definitions, index * wordCount, size * wordCount, 0L);
+            for (final int literal : literals) {
+                if (literal != 0) {
+                    definitions[getPosition(index, literal)] |= getBit(literal);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the value of a variable in a configuration.
+     *
+     * @param index   the index of the configuration
+     * @param literal the literal
+     */
+    public void set(int index, int literal) {
+        checkIndex(index);
+        final int position = getPosition(index, literal);
+        final long bit = getBit(literal);
+        if (literal > 0) {
+            values[position] |= bit;
+        } else {
+            values[position] &= ~bit;
+        }
+        if (definitions != null) {
+            definitions[position] |= bit;
+        }
+    }
+
+    /**
+     * Removes the value of a variable in a configuration.
+     *
+     * @param index    the index of the configuration
+     * @param variable the variable
+     */
+    public void unset(int index, int variable) {
+        checkIndex(index);
+        if (definitions == null) {
+            createDefinitions();
+        }
+        final int position = getPosition(index, variable);
+        final long bit = getBit(variable);
+        values[position] &= ~bit;
+        definitions[position] &= ~bit;
+    }
+
+    /**
+     * Returns the literal of a variable in a configuration.
+     *
+     * @param index    the index of the configuration
+     * @param variable the variable
+     * @return the literal or {@code 0} if the variable is not assigned
+     */
+    public int getValue(int index, int variable) {
+        checkIndex(index);
+        final int position = getPosition(index, variable);
+        final long bit = getBit(variable);
+        if (definitions != null && (definitions[position] & bit) == 0) {
+            return 0;
+        }
+        return (values[position] & bit) != 0 ? variable : -variable;
+    }
+
+    /**
+     * Returns the value bit of a variable in a configuration without checking
+     * whether the variable is assigned.
+     *
+     * @param index    the index of the configuration
+     * @param variable the variable
+     * @return {@code true} if the variable is selected
+     */
+    public boolean isSelected(int index, int variable) {
+        return (values[getPosition(index, variable)] & getBit(variable)) != 0;
+    }
+
+    /**
+     * Checks whether a configuration contains all given literals.
+     *
+     * @param index    the index of the configuration
+     * @param literals the literals
+     * @return {@code true} if all literals are contained in the configuration
+     */
+    public boolean containsAll(int index, int[] literals) {
+        checkIndex(index);
+        for (final int literal : literals) {
+            final int position = getPosition(index, literal);
+            final long bit = getBit(literal);
+            if (definitions != null && (definitions[position] & bit) == 0) {
+                return false;
+            }
+            if (((values[position] & bit) != 0) != (literal > 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether any configuration contains all given literals.
+     *
+     * @param literals the literals
+     * @return {@code true} if the literals are covered by this sample
+     */
+    public boolean covers(int[] literals) {
+        for (int i = 0; i < size; i++) {
+            if (containsAll(i, literals)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a word of the value plane of a configuration.
+     *
+     * @param index the index of the configuration
+     * @param word  the index of the word
+     * @return the word, bit {@code j} corresponds to variable
+     *         {@code 64 * word + j + 1}
+     */
+    public long getValueWord(int index, int word) {
+        return values[index * wordCount + word];
+    }
+
+    /**
+     * Returns a word of the definition plane of a configuration.
+     *
+     * @param index the index of the configuration
+     * @param word  the index of the word
+     * @return the word, bit {@code j} corresponds to variable
+     *         {@code 64 * word + j + 1}
+     */
+    public long getDefinitionWord(int index, int word) {
+        if (definitions == null) {
+            return word == wordCount - 1 ? lastWordMask : -1L;
+        }
+        return definitions[index * wordCount + word];
+    }
+
+    /**
+     * Returns a configuration in solution form.
+     *
+     * @param index the index of the configuration
+     * @return the literals, the literal for variable {@code v} is stored at
+     *         position {@code v - 1} or is {@code 0}
+     */
+    public int[] get(int index) {
+        checkIndex(index);
+        final int[] literals = new int[variableCount];
+        final int offset = index * wordCount;
+        for (int v = 1; v <= variableCount; v++) {
+            final int word = offset + ((v - 1) >>> 6);
+            final long bit = getBit(v);
+            if (definitions == null || (definitions[word] & bit) != 0) {
+                literals[v - 1] = (values[word] & bit) != 0 ? v : -v;
+            }
+        }
+        return literals;
+    }
+
+    public BooleanSolution getSolution(int index) {
+        return new BooleanSolution(get(index), false);
+    }
+
+    public BooleanSolutionList toSolutionList(VariableMap variableMap) {
+        final BooleanSolutionList solutionList = new BooleanSolutionList(variableMap);
+        for (final BooleanSolution solution : this) {
+            solutionList.add(solution);
+        }
+        return solutionList;
+    }
+
+    @Override
+    public Iterator<BooleanSolution> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public BooleanSolution next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getSolution(index++);
+            }
+        };
+    }
+
+    private void createDefinitions() {
+        definitions = new long[values.length];
+        for (int i = 0; i < size * wordCount; i++) {
+            definitions[i] = ((i % wordCount) == wordCount - 1) ? lastWordMask : -1L;
+        }
+    }
+
+    private int getPosition(int index, int literal) {
+        return index * wordCount + ((Math.abs(literal) - 1) >>> 6);
+    }
+
+    private static long getBit(int literal) {
+        return 1L << ((Math.abs(literal) - 1) & 63);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+    }
+}
@@ -20,6 +20,7 @@
  */
 package de.featjar.analysis.sat4j.twise;
 
+import de.featjar.base.FeatJAR;
 import de.featjar.base.computation.AComputation;
 import de.featjar.base.computation.Computations;
 import de.featjar.base.computation.Dependency;
@@ -30,6 +31,9 @@ import de.featjar.base.data.LexicographicIterator;
 import de.featjar.base.data.Result;
 import de.featjar.formula.assignment.BooleanAssignment;
 import de.featjar.formula.assignment.BooleanSolutionList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -46,8 +50,16 @@ public class RelativeTWiseCoverageComputation extends AComputation<CoverageStati
     public static final Dependency<BooleanSolutionList> SAMPLE = Dependency.newDependency(BooleanSolutionList.class);
     public static final Dependency<BooleanAssignment> FILTER = Dependency.newDependency(BooleanAssignment.class);
 
+    /**
+     * File to which each uncovered and each invalid (i.e., not covered by the
+     * reference sample) interaction is written by an {@link InteractionExporter}.
+     * By default, the path is empty and no interactions are written.
+     */
+    public static final Dependency<Path> INTERACTION_OUTPUT = Dependency.newDependency(Path.class);
+
     public class Environment {
         private final CoverageStatistic statistic = new CoverageStatistic();
+        private final InteractionExporter.Buffer exportBuffer = exporter != null ? exporter.newBuffer() : null;
 
         public CoverageStatistic getStatistic() {
             return statistic;
@@ -59,7 +71,8 @@ public class RelativeTWiseCoverageComputation extends AComputation<CoverageStati
                 reference,
                 Computations.of(2), //
                 Computations.of(new BooleanSolutionList(null, 0)), //
-                Computations.of(new BooleanAssignment()));
+                Computations.of(new BooleanAssignment()), //
+                Computations.of(Path.of("")));
     }
 
     public RelativeTWiseCoverageComputation(RelativeTWiseCoverageComputation other) {
@@ -68,6 +81,7 @@ public class RelativeTWiseCoverageComputation extends AComputation<CoverageStati
 
     private ArrayList<Environment> statisticList = new ArrayList<>();
     private BooleanSolutionList sample;
+    private InteractionExporter exporter;
     private int t, size;
 
     @Override
@@ -87,31 +101,102 @@ public class RelativeTWiseCoverageComputation extends AComputation<CoverageStati
             SampleBitIndex sampleIndex = new SampleBitIndex(sample.getAll(), size);
 
             final int[] literals = Ints.filteredList(size, FILTER.get(dependencyList));
+            final Path interactionOutput = INTERACTION_OUTPUT.get(dependencyList);
+            if (interactionOutput.toString().isEmpty()) {
+                CoverageStatistic statistic = countAlgebraically(referenceSample, literals);
+                if (statistic != null) {
+                    return Result.of(statistic);
+                }
+            }
+
             final int[] gray = Ints.grayCode(t);
 
-            LexicographicIterator.parallelStream(t, literals.length, this::createStatistic)
-                    .forEach(combo -> {
-                        int[] select = combo.getSelection(literals);
-                        for (int i = 0; i < gray.length; i++) {
-                            if (referenceIndex.test(select)) {
-                                if (sampleIndex.test(select)) {
-                                    combo.environment.statistic.incNumberOfCoveredConditions();
+            try {
+                if (!interactionOutput.toString().isEmpty()) {
+                    exporter = new InteractionExporter(
+                            interactionOutput, InteractionExporter.getFormat(interactionOutput), t);
+                }
+                LexicographicIterator.parallelStream(t, literals.length, this::createStatistic)
+                        .forEach(combo -> {
+                            int[] select = combo.getSelection(literals);
+                            InteractionExporter.Buffer exportBuffer = combo.environment.exportBuffer;
+                            for (int i = 0; i < gray.length; i++) {
+                                if (referenceIndex.test(select)) {
+                                    if (sampleIndex.test(select)) {
+                                        combo.environment.statistic.incNumberOfCoveredConditions();
+                                    } else {
+                                        combo.environment.statistic.incNumberOfUncoveredConditions();
+                                        if (exportBuffer != null) {
+                                            exportBuffer.writeUncovered(select);
+                                        }
+                                    }
                                 } else {
-                                    combo.environment.statistic.incNumberOfUncoveredConditions();
+                                    combo.environment.statistic.incNumberOfInvalidConditions();
+                                    if (exportBuffer != null) {
+                                        exportBuffer.writeInvalid(select);
+                                    }
                                 }
-                            } else {
-                                combo.environment.statistic.incNumberOfInvalidConditions();
+                                int g = gray[i];
+                                select[g] = -select[g];
                             }
-                            int g = gray[i];
-                            select[g] = -select[g];
-                        }
-                    });
+                        });
+                if (exporter != null) {
+                    InteractionExporter openExporter = exporter;
+                    exporter = null;
+                    openExporter.close();
+                }
+            } catch (IOException e) {
+                return Result.empty(e);
+            } catch (UncheckedIOException e) {
+                return Result.empty(e.getCause());
+            } finally {
+                if (exporter != null) {
+                    try {
+                        exporter.close();
+                    } catch (IOException e) {
+                        FeatJAR.log().error(e);
+                    }
+                    exporter = null;
+                }
+            }
         }
         return Result.ofOptional(statisticList.stream() //
                 .map(Environment::getStatistic) //
                 .reduce((s1, s2) -> s1.merge(s2)));
     }
 
+    /**
+     * Counts interactions without enumerating them (see
+     * {@link CoveredInteractionCounter}). By inclusion-exclusion, the number of
+     * interactions covered by both samples is the sum of the interactions covered
+     * by each sample minus the interactions covered by their union.
+     */
+    private CoverageStatistic countAlgebraically(BooleanSolutionList referenceSample, int[] literals) {
+        if (referenceSample.isEmpty() || referenceSample.get(0).get().size() != size) {
+            return null;
+        }
+        PackedSampleList packedSample = PackedSampleList.of(sample.getAll(), size);
+        PackedSampleList packedReferenceSample = PackedSampleList.of(referenceSample.getAll(), size);
+        if (!CoveredInteractionCounter.isApplicable(packedSample, t)
+                || !CoveredInteractionCounter.isApplicable(packedReferenceSample, t)) {
+            return null;
+        }
+        PackedSampleList packedUnion = PackedSampleList.of(referenceSample.getAll(), size);
+        sample.getAll().forEach(packedUnion::add);
+
+        long sampleCount = CoveredInteractionCounter.countCovered(packedSample, literals, t);
+        long referenceCount = CoveredInteractionCounter.countCovered(packedReferenceSample, literals, t);
+        long unionCount = CoveredInteractionCounter.countCovered(packedUnion, literals, t);
+        long coveredCount = sampleCount + referenceCount - unionCount;
+
+        CoverageStatistic statistic = new CoverageStatistic();
+        statistic.setNumberOfCoveredConditions(coveredCount);
+        statistic.setNumberOfUncoveredConditions(referenceCount - coveredCount);
+        statistic.setNumberOfInvalidConditions(
+                CoveredInteractionCounter.countInteractions(literals.length, t) - referenceCount);
+        return statistic;
+    }
+
     private Environment createStatistic() {
         Environment env = new Environment();
         synchronized (statisticList) {
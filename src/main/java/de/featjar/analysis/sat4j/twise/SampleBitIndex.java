@@ -63,9 +63,13 @@ public class SampleBitIndex implements Predicate<int[]> {
     }
 
     public void addConfiguration(BooleanAssignment config) {
+        addConfiguration(config.get());
+    }
+
+    public void addConfiguration(int[] literals) {
         int i = sampleSize++;
 
-        for (int l : config.get()) {
+        for (int l : literals) {
             if (l != 0) {
                 bitSetReference[numberOfVariables + l].set(i);
             }
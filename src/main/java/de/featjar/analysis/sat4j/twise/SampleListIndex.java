@@ -37,9 +37,8 @@ import java.util.function.Predicate;
 public class SampleListIndex implements Predicate<int[]> {
 
     private final ArrayList<ExpandableIntegerList> indexedSolutions;
-    private final ExpandableIntegerList[] selectedIndexedSolutions;
 
-    public SampleListIndex(List<? extends BooleanAssignment> sample, final int size, final int t) {
+    public SampleListIndex(List<? extends BooleanAssignment> sample, final int size) {
         indexedSolutions = new ArrayList<>(2 * size);
         for (int i = 2 * size; i >= 0; --i) {
             indexedSolutions.add(new ExpandableIntegerList());
@@ -57,7 +56,6 @@ public class SampleListIndex implements Predicate<int[]> {
             }
             configurationIndex++;
         }
-        selectedIndexedSolutions = new ExpandableIntegerList[t];
     }
 
     @Override
@@ -67,6 +65,8 @@ public class SampleListIndex implements Predicate<int[]> {
                     .get(ModalImplicationGraph.getVertexIndex(literals[0]))
                     .isEmpty();
         }
+        // allocated per call, such that an index can be shared by multiple threads
+        final ExpandableIntegerList[] selectedIndexedSolutions = new ExpandableIntegerList[literals.length];
         for (int i = 0; i < literals.length; i++) {
             final ExpandableIntegerList indexedSolution =
                     indexedSolutions.get(ModalImplicationGraph.getVertexIndex(literals[i]));
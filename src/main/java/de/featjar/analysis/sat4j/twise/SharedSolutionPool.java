@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Bounded pool of complete configurations that can be extended and queried by
+ * multiple threads concurrently without locking. Configurations are stored in
+ * blocks of 64. Each block holds one word per variable, in which bit {@code j}
+ * is set if the variable is selected in the {@code j}-th configuration of the
+ * block, and one word that marks which configurations of the block are
+ * completely written. Thus, checking whether a combination of literals is
+ * contained in any configuration requires only {@code t} bitwise operations per
+ * 64 configurations.
+ *
+ * @author agent
+ */
+public class SharedSolutionPool implements Predicate<int[]> {
+
+    private static final int PUBLISHED = 0;
+
+    private final int variableCount;
+    private final int capacity;
+    private final AtomicReferenceArray<AtomicLongArray> blocks;
+    private final AtomicInteger reservedCount = new AtomicInteger();
+
+    public SharedSolutionPool(int variableCount, int capacity) {
+        this.variableCount = variableCount;
+        this.capacity = capacity;
+        blocks = new AtomicReferenceArray<>((capacity + 63) >>> 6);
+    }
+
+    public int getVariableCount() {
+        return variableCount;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of configurations that were added to this pool. Some of
+     * these configurations may still be in the process of being written.
+     *
+     * @return the number of configurations
+     */
+    public int size() {
+        return Math.min(reservedCount.get(), capacity);
+    }
+
+    public boolean isFull() {
+        return reservedCount.get() >= capacity;
+    }
+
+    /**
+     * Adds a complete configuration. Literals of variables that are not contained
+     * in this pool are ignored.
+     *
+     * @param literals the literals of the configuration
+     * @return {@code true} if the configuration was added, {@code false} if the
+     *         pool is full
+     */
+    public boolean add(int[] literals) {
+        if (isFull()) {
+            return false;
+        }
+        final int index = reservedCount.getAndIncrement();
+        if (index >= capacity) {
+            return false;
+        }
+        final AtomicLongArray block = getBlock(index >>> 6);
+        final long bit = 1L << (index & 63);
+        for (final int literal : literals) {
+            if (literal > 0 && literal <= variableCount) {
+                setBit(block, literal, bit);
+            }
+        }
+        setBit(block, PUBLISHED, bit);
+        return true;
+    }
+
+    /**
+     * Checks whether any completely written configuration contains all given
+     * literals. Literals of variables that are not contained in this pool are
+     * never covered.
+     *
+     * @param literals the literals
+     * @return {@code true} if the literals are covered by this pool
+     */
+    @Override
+    public boolean test(int[] literals) {
+        for (final int literal : literals) {
+            if (literal == 0 || Math.abs(literal) > variableCount) {
+                return false;
+            }
+        }
+        final int blockCount = (size() + 63) >>> 6;
+        for (int b = 0; b < blockCount; b++) {
+            final AtomicLongArray block = blocks.get(b);
+            if (block == null) {
+                continue;
+            }
+            long configurations = block.get(PUBLISHED);
+            for (int i = 0; configurations != 0 && i < literals.length; i++) {
+                final int literal = literals[i];
+                configurations &= literal > 0 ? block.get(literal) : ~block.get(-literal);
+            }
+            if (configurations != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AtomicLongArray getBlock(int blockIndex) {
+        final AtomicLongArray block = blocks.get(blockIndex);
+        if (block != null) {
+            return block;
+        }
+        final AtomicLongArray newBlock = new AtomicLongArray(variableCount + 1);
+        return blocks.compareAndSet(blockIndex, null, newBlock) ? newBlock : blocks.get(blockIndex);
+    }
+
+    private static void setBit(AtomicLongArray block, int index, long bit) {
+        long word;
+        do {
+            word = block.get(index);
+        } while (!block.compareAndSet(index, word, word | bit));
+    }
+}
@@ -105,6 +105,14 @@ public class TWiseCountComputation extends AComputation<Long> {
         final int[] gray = Ints.grayCode(t);
 
         SampleBitIndex coverageChecker = new SampleBitIndex(sample, size);
+        long filterCombinationsCount =
+                filterCombinations.parallelStream().filter(coverageChecker).count();
+
+        PackedSampleList packedSample = PackedSampleList.of(sample, size);
+        if (CoveredInteractionCounter.isApplicable(packedSample, t)) {
+            return Result.of(
+                    CoveredInteractionCounter.countCovered(packedSample, literals, t) - filterCombinationsCount);
+        }
 
         LexicographicIterator.parallelStream(t, literals.length, this::createStatistic)
                 .forEach(combo -> {
@@ -118,8 +126,6 @@ public class TWiseCountComputation extends AComputation<Long> {
                     }
                 });
 
-        long filterCombinationsCount =
-                filterCombinations.parallelStream().filter(coverageChecker).count();
         return Result.ofOptional(statisticList.stream() //
                 .map(Environment::getStatistic) //
                 .reduce((s1, s2) -> s1 + s2)
@@ -20,10 +20,10 @@
  */
 package de.featjar.analysis.sat4j.twise;
 
-import de.featjar.analysis.RuntimeContradictionException;
 import de.featjar.analysis.sat4j.computation.ASAT4JAnalysis;
+import de.featjar.analysis.sat4j.computation.BatchedProgress;
+import de.featjar.analysis.sat4j.computation.CombinationRanking;
 import de.featjar.analysis.sat4j.computation.MIGBuilder;
-import de.featjar.analysis.sat4j.solver.ISelectionStrategy;
 import de.featjar.analysis.sat4j.solver.ModalImplicationGraph;
 import de.featjar.analysis.sat4j.solver.SAT4JSolutionSolver;
 import de.featjar.analysis.sat4j.solver.SAT4JSolver;
@@ -38,9 +38,11 @@ import de.featjar.formula.assignment.BooleanAssignment;
 import de.featjar.formula.assignment.BooleanClauseList;
 import de.featjar.formula.assignment.BooleanSolution;
 import de.featjar.formula.assignment.BooleanSolutionList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Calculates statistics regarding t-wise feature coverage of a set of
@@ -54,13 +56,38 @@ public class TWiseCoverageComputation extends ASAT4JAnalysis<CoverageStatistic>
     public static final Dependency<ModalImplicationGraph> MIG = Dependency.newDependency(ModalImplicationGraph.class);
     public static final Dependency<BooleanAssignment> FILTER = Dependency.newDependency(BooleanAssignment.class);
 
+    /**
+     * Directory of an {@link InteractionValidityCache}. If set, the validity of
+     * each interaction that is not covered by the sample is looked up in and
+     * stored to this cache. By default, the path is empty and no cache is used.
+     */
+    public static final Dependency<Path> VALIDITY_CACHE = Dependency.newDependency(Path.class);
+
+    /**
+     * File to which each uncovered and each invalid interaction is written by an
+     * {@link InteractionExporter}. The format is determined by the file extension
+     * (see {@link InteractionExporter#getFormat(Path)}). By default, the path is
+     * empty and no interactions are written.
+     */
+    public static final Dependency<Path> INTERACTION_OUTPUT = Dependency.newDependency(Path.class);
+
+    /**
+     * Maximum number of configurations in the {@link SharedSolutionPool} that is
+     * shared by all environments.
+     */
+    public static final int SOLUTION_POOL_LIMIT = 10_000;
+
+    /**
+     * Holds the mutable state of one thread. The sample index and the solution
+     * pool are shared by all environments.
+     */
     public class Environment {
         private final CoverageStatistic statistic = new CoverageStatistic();
-        private final SAT4JSolutionSolver solver = initializeSolver(dependencyList);
-        private final ModalImplicationGraph.Visitor visitor =
-                MIG.get(dependencyList).getVisitor();
-        private SampleListIndex sampleIndex = new SampleListIndex(sample, size, t);
-        private SampleListIndex randomIndex = new SampleListIndex(randomSample, size, t);
+        private final InteractionClassifier.Worker worker;
+
+        private Environment(InteractionClassifier classifier) {
+            worker = classifier.newWorker();
+        }
 
         public CoverageStatistic getStatistic() {
             return statistic;
@@ -73,7 +100,9 @@ public class TWiseCoverageComputation extends ASAT4JAnalysis<CoverageStatistic>
                 Computations.of(2), //
                 Computations.of(new BooleanSolutionList(null, 0)), //
                 new MIGBuilder(booleanClauseList), //
-                Computations.of(new BooleanAssignment()));
+                Computations.of(new BooleanAssignment()), //
+                Computations.of(Path.of("")), //
+                Computations.of(Path.of("")));
     }
 
     public TWiseCoverageComputation(TWiseCoverageComputation other) {
@@ -82,94 +111,63 @@ public class TWiseCoverageComputation extends ASAT4JAnalysis<CoverageStatistic>
 
     private ArrayList<Environment> statisticList = new ArrayList<>();
 
-    private List<Object> dependencyList;
-    private List<BooleanSolution> sample, randomSample;
-    private int t, size;
-
     @Override
     public Result<CoverageStatistic> compute(List<Object> dependencyList, Progress progress) {
-        this.dependencyList = dependencyList;
-        sample = SAMPLE.get(dependencyList).getAll();
-        t = T.get(dependencyList);
+        List<BooleanSolution> sample = SAMPLE.get(dependencyList).getAll();
+        int t = T.get(dependencyList);
 
         if (!sample.isEmpty()) {
-            size = sample.get(0).size();
-
-            createRandomSample(dependencyList);
-
+            int size = sample.get(0).size();
             final int[] literals = Ints.filteredList(size, FILTER.get(dependencyList));
             final int[] gray = Ints.grayCode(t);
-
-            LexicographicIterator.parallelStream(t, literals.length, this::createStatistic)
-                    .forEach(combo -> {
-                        int[] select = combo.getSelection(literals);
-                        for (int i = 0; i < gray.length; i++) {
-                            if (combo.environment.sampleIndex.test(select)) {
-                                combo.environment.statistic.incNumberOfCoveredConditions();
-                            } else if (isCombinationInvalidMIG(combo.environment, select)) {
-                                combo.environment.statistic.incNumberOfInvalidConditions();
-                            } else if (combo.environment.randomIndex.test(select)) {
-                                combo.environment.statistic.incNumberOfUncoveredConditions();
-                            } else if (isCombinationInvalidSAT(combo.environment, select)) {
-                                combo.environment.statistic.incNumberOfInvalidConditions();
-                            } else {
-                                combo.environment.statistic.incNumberOfUncoveredConditions();
+            final BatchedProgress batchedProgress = new BatchedProgress(progress);
+            batchedProgress.setTotalSteps(CombinationRanking.saturatedBinomial(literals.length, t));
+
+            try (InteractionClassifier classifier =
+                    new InteractionClassifier(this, dependencyList, sample, MIG.get(dependencyList), t)) {
+                classifier.openValidityCache(VALIDITY_CACHE.get(dependencyList));
+                classifier.openExporter(INTERACTION_OUTPUT.get(dependencyList));
+                LexicographicIterator.parallelStream(t, literals.length, () -> createStatistic(classifier))
+                        .forEach(combo -> {
+                            batchedProgress.incrementCurrentStep();
+                            int[] select = combo.getSelection(literals);
+                            CoverageStatistic statistic = combo.environment.statistic;
+                            InteractionClassifier.Worker worker = combo.environment.worker;
+                            for (int i = 0; i < gray.length; i++) {
+                                if (worker.isCovered(select)) {
+                                    statistic.incNumberOfCoveredConditions();
+                                } else if (worker.isInvalid(select)) {
+                                    statistic.incNumberOfInvalidConditions();
+                                    worker.writeInvalid(select);
+                                } else {
+                                    statistic.incNumberOfUncoveredConditions();
+                                    worker.writeUncovered(select);
+                                }
+                                int g = gray[i];
+                                select[g] = -select[g];
                             }
-                            int g = gray[i];
-                            select[g] = -select[g];
-                        }
-                    });
+                        });
+                batchedProgress.flush();
+                classifier.finish();
+            } catch (IOException e) {
+                return Result.empty(e);
+            } catch (UncheckedIOException e) {
+                return Result.empty(e.getCause());
+            }
         }
         return Result.ofOptional(statisticList.stream() //
                 .map(Environment::getStatistic) //
                 .reduce((s1, s2) -> s1.merge(s2)));
     }
 
-    private void createRandomSample(List<Object> dependencyList) {
-        randomSample = new ArrayList<>();
-        SAT4JSolutionSolver solver = initializeSolver(dependencyList);
-        Random random = new Random(RANDOM_SEED.get(dependencyList));
-        int limit = (int) Math.ceil(30 * Math.log(size));
-        solver.setSelectionStrategy(ISelectionStrategy.random(random));
-        for (int j = 0; j < limit; j++) {
-            if (solver.hasSolution().valueEquals(Boolean.TRUE)) {
-                randomSample.add(new BooleanSolution(solver.getInternalSolution(), false));
-                solver.shuffleOrder(random);
-            } else {
-                break;
-            }
-        }
-    }
-
-    private Environment createStatistic() {
-        Environment env = new Environment();
+    private Environment createStatistic(InteractionClassifier classifier) {
+        Environment env = new Environment(classifier);
         synchronized (statisticList) {
             statisticList.add(env);
         }
         return env;
     }
 
-    private boolean isCombinationInvalidMIG(Environment env, int[] select) {
-        try {
-            env.visitor.propagate(select);
-        } catch (RuntimeContradictionException e) {
-            return true;
-        } finally {
-            env.visitor.reset();
-        }
-        return false;
-    }
-
-    private boolean isCombinationInvalidSAT(Environment env, int[] select) {
-        final int orgAssignmentLength = env.solver.getAssignment().size();
-        try {
-            env.solver.getAssignment().addAll(select);
-            return env.solver.hasSolution().valueEquals(Boolean.FALSE);
-        } finally {
-            env.solver.getAssignment().clear(orgAssignmentLength);
-        }
-    }
-
     @Override
     protected SAT4JSolver newSolver(BooleanClauseList clauseList) {
         return new SAT4JSolutionSolver(clauseList);
@@ -32,16 +32,17 @@ import de.featjar.base.computation.Progress;
 import de.featjar.base.data.Result;
 import de.featjar.formula.assignment.BooleanAssignment;
 import de.featjar.formula.assignment.BooleanClauseList;
-import de.featjar.formula.assignment.BooleanSolution;
 import de.featjar.formula.assignment.BooleanSolutionList;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
-import java.util.stream.LongStream;
 
 /**
  * Calculates statistics regarding t-wise feature coverage of a set of
@@ -66,67 +67,82 @@ public class TWiseStatisticGenerator extends ASAT4JAnalysis<CoverageStatistic> {
         super(other);
     }
 
-    private List<BitSet> sampleConfigs;
-    private List<BitSet> randomConfigs;
-
     public static final int GLOBAL_SOLUTION_LIMIT = 10_000;
-    private Random random;
-    private int randomSolutionCount = 0;
 
-    private boolean isCombinationValidSAT(SAT4JSolutionSolver solver, int[] literals) {
-        final int orgAssignmentLength = solver.getAssignment().size();
-        try {
-            solver.getAssignment().addAll(literals);
-            Result<Boolean> hasSolution = solver.hasSolution();
-            if (hasSolution.valueEquals(Boolean.TRUE)) {
-                if (randomSolutionCount < GLOBAL_SOLUTION_LIMIT) {
-                    synchronized (this) {
-                        if (randomSolutionCount < GLOBAL_SOLUTION_LIMIT) {
-                            randomConfigs.add(convertToBitSet(solver.getInternalSolution()));
-                            randomSolutionCount++;
-                        }
+    /**
+     * Holds the state of a worker thread. Each worker has its own solver and its
+     * own sample index for the levels of the current combination. Configurations
+     * found by the solvers are shared by all workers via a
+     * {@link SharedSolutionPool}.
+     */
+    private class Worker {
+        private final SAT4JSolutionSolver solver;
+        private final Random random;
+        private final int[][] sampleIndex;
+        private final int[] literals;
+        private final int[] c;
+        private boolean addSolutions = true;
+        private long covered, uncovered, invalid;
+
+        private Worker(long seed) {
+            random = new Random(seed);
+            solver = initializeSolver(dependencyList);
+            solver.setSelectionStrategy(ISelectionStrategy.random(random));
+            sampleIndex = new int[t2][];
+            sampleIndex[0] = sampleIndex0;
+            for (int i = 1; i < t2; i++) {
+                sampleIndex[i] = new int[sampleConfigs.size()];
+            }
+            literals = new int[t2];
+            c = new int[t2];
+        }
+
+        private boolean isCombinationValid() {
+            if (solutionPool.test(literals)) {
+                return true;
+            }
+            final int orgAssignmentLength = solver.getAssignment().size();
+            try {
+                solver.getAssignment().addAll(literals);
+                if (!solver.isSatisfiable()) {
+                    return false;
+                }
+                if (addSolutions) {
+                    if (solutionPool.add(solver.getInternalSolution())) {
+                        solver.shuffleOrder(random);
+                    } else {
+                        addSolutions = false;
+                        solver.setSelectionStrategy(ISelectionStrategy.original());
                     }
-                    solver.shuffleOrder(random);
                 }
-            } else {
-                return false;
+            } finally {
+                solver.getAssignment().clear(orgAssignmentLength);
             }
-        } finally {
-            solver.getAssignment().clear(orgAssignmentLength);
+            return true;
         }
-        return true;
     }
 
-    long[] covered, uncovered, invalid;
-
-    private static BitSet convertToBitSet(BooleanSolution configuration) {
-        return convertToBitSet(configuration.get());
-    }
-
-    private static BitSet convertToBitSet(int[] configuration) {
-        final BitSet config = new BitSet(configuration.length);
-        for (int i = 0; i < configuration.length; i++) {
-            config.set(i, configuration[i] > 0);
-        }
-        return config;
-    }
+    private List<Object> dependencyList;
+    private BooleanAssignment deadCoreFeatures;
+    private PackedSampleList sampleConfigs;
+    private SharedSolutionPool solutionPool;
+    private int[] sampleIndex0;
+    private int n, n2, t2;
 
     @Override
     public Result<CoverageStatistic> compute(List<Object> dependencyList, Progress progress) {
-        random = new Random(RANDOM_SEED.get(dependencyList));
+        this.dependencyList = dependencyList;
         BooleanSolutionList sample = SAMPLE.get(dependencyList);
-        BooleanAssignment deadCoreFeatures = CORE.get(dependencyList);
+        deadCoreFeatures = CORE.get(dependencyList);
         int t = T.get(dependencyList);
 
-        sampleConfigs =
-                sample.stream().map(TWiseStatisticGenerator::convertToBitSet).collect(Collectors.toList());
-        randomConfigs = new ArrayList<>();
-
-        if (!sampleConfigs.isEmpty()) {
-            final int n = sample.get(0).get().size();
-            final int t2 = (n < t) ? n : t;
-            final int n2 = n - t2 + 1;
-            final int pow = (int) Math.pow(2, t2);
+        if (sample.size() > 0) {
+            n = sample.get(0).get().size();
+            sampleConfigs = PackedSampleList.of(sample.getAll(), n);
+            solutionPool = new SharedSolutionPool(n, GLOBAL_SOLUTION_LIMIT);
+            t2 = (n < t) ? n : t;
+            n2 = n - t2 + 1;
+            final int pow = 1 << t2;
 
             boolean[][] masks = new boolean[pow][t2];
             for (int i = 0; i < masks.length; i++) {
@@ -136,128 +152,54 @@ public class TWiseStatisticGenerator extends ASAT4JAnalysis<CoverageStatistic> {
                 }
             }
 
-            invalid = new long[pow];
-            covered = new long[pow];
-            uncovered = new long[pow];
-
-            int[] sampleIndex0 = IntStream.range(0, sampleConfigs.size()).toArray();
-            int[] randomIndex0 = IntStream.range(0, GLOBAL_SOLUTION_LIMIT).toArray();
-            IntStream.range(0, pow) //
-                    .parallel() //
-                    .forEach(maskIndex -> {
-                        boolean[] mask = new boolean[t2];
-                        for (int j = 0; j < t2; j++) {
-                            mask[j] = (maskIndex >> j & 1) == 0;
-                        }
-
-                        int[][] sampleIndex = new int[t2][];
-                        sampleIndex[0] = sampleIndex0;
-                        for (int i = 1; i < sampleIndex.length; i++) {
-                            sampleIndex[i] = new int[sampleConfigs.size()];
-                        }
-                        int[][] randomIndex = new int[t2][];
-                        randomIndex[0] = randomIndex0;
-                        for (int i = 1; i < randomIndex.length; i++) {
-                            randomIndex[i] = new int[GLOBAL_SOLUTION_LIMIT];
-                        }
-
-                        int[] literals = new int[t2];
-                        int liSample = 0;
-                        int liRandom = 0;
-
-                        final int[] c = new int[t2];
-                        for (int i = 0; i < t2; i++) {
-                            c[i] = i;
-                        }
-                        int i = 0;
-
-                        SAT4JSolutionSolver solver = initializeSolver(dependencyList);
-                        boolean addSolutions = true;
-
-                        combinationLoop:
-                        while (true) {
-
-                            liRandom = Math.min(liRandom, i);
-                            liSample = Math.min(liSample, i);
-
-                            for (int k = 0; k < t2; k++) {
-                                int literal = mask[k] ? (c[k] + 1) : -(c[k] + 1);
-                                if (deadCoreFeatures.containsAnyVariable(Math.abs(literal))) {
-                                    i = k;
-                                    for (; i >= 0; i--) {
-                                        final int ci = ++c[i];
-                                        if (ci < (n2 + i)) {
-                                            break;
-                                        }
-                                    }
-                                    if (i == -1) {
-                                        break combinationLoop;
-                                    }
-                                    for (int j = i + 1; j < t2; j++) {
-                                        c[j] = c[j - 1] + 1;
-                                    }
-                                    continue combinationLoop;
-                                }
-                                literals[k] = literal;
-                            }
-
-                            final int t3 = t2 - 1;
-
-                            d:
-                            {
-                                int curRandomSolutionCount = randomSolutionCount;
-
-                                extracted(mask, randomIndex, c, t3, randomConfigs, liRandom, curRandomSolutionCount);
-                                liRandom = i;
-
-                                if (!findConfig(
-                                        c[t3], mask[t3], randomIndex[t3], randomConfigs, curRandomSolutionCount)) {
-                                    if (addSolutions && curRandomSolutionCount >= GLOBAL_SOLUTION_LIMIT) {
-                                        addSolutions = false;
-                                        solver.setSelectionStrategy(ISelectionStrategy.original());
-                                    }
-                                    if (!isCombinationValidSAT(solver, literals)) {
-                                        invalid[maskIndex]++;
-                                        break d;
-                                    }
-                                }
-
-                                extracted(mask, sampleIndex, c, t3, sampleConfigs, liSample, sampleConfigs.size());
-                                liSample = i;
-
-                                if (findConfig(c[t3], mask[t3], sampleIndex[t3], sampleConfigs, sampleConfigs.size())) {
-                                    covered[maskIndex]++;
-                                } else {
-                                    uncovered[maskIndex]++;
-                                }
-                            }
-
-                            i = t3;
-                            for (; i >= 0; i--) {
-                                final int ci = ++c[i];
-                                if (ci < (n2 + i)) {
-                                    break;
-                                }
-                            }
+            sampleIndex0 = IntStream.range(0, sampleConfigs.size()).toArray();
+
+            // each task handles all combinations with the same mask and the same first variable
+            final int taskCount = pow * n2;
+            final AtomicInteger nextTask = new AtomicInteger();
+            final int threadCount = Math.max(1, Math.min(taskCount, Runtime.getRuntime().availableProcessors()));
+            final long seed = RANDOM_SEED.get(dependencyList);
+            final List<Worker> workers = new ArrayList<>(threadCount);
+            final List<Callable<Void>> tasks = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                final Worker worker = new Worker(seed + i);
+                workers.add(worker);
+                tasks.add(() -> {
+                    for (int task = nextTask.getAndIncrement();
+                            task < taskCount;
+                            task = nextTask.getAndIncrement()) {
+                        checkCancel();
+                        countCombinations(worker, masks[task % pow], task / pow);
+                        progress.incrementCurrentStep();
+                    }
+                    return null;
+                });
+            }
 
-                            if (i == -1) {
-                                break;
-                            }
-                            for (int j = i + 1; j < t2; j++) {
-                                c[j] = c[j - 1] + 1;
-                            }
+            progress.setTotalSteps(taskCount);
+            try {
+                if (threadCount == 1) {
+                    tasks.get(0).call();
+                } else {
+                    final ExecutorService threadPool = Executors.newFixedThreadPool(threadCount);
+                    try {
+                        for (final Future<Void> future : threadPool.invokeAll(tasks)) {
+                            future.get();
                         }
-                    });
-
-            long invalidSum = LongStream.of(invalid).sum();
-            long coveredSum = LongStream.of(covered).sum();
-            long uncoveredSum = LongStream.of(uncovered).sum();
+                    } finally {
+                        threadPool.shutdownNow();
+                    }
+                }
+            } catch (Exception e) {
+                return Result.empty(e);
+            }
 
             CoverageStatistic statistic = new CoverageStatistic();
-            statistic.setNumberOfCoveredConditions(coveredSum);
-            statistic.setNumberOfInvalidConditions(invalidSum);
-            statistic.setNumberOfUncoveredConditions(uncoveredSum);
-
+            for (Worker w : workers) {
+                statistic.numberOfCoveredConditions += w.covered;
+                statistic.numberOfInvalidConditions += w.invalid;
+                statistic.numberOfUncoveredConditions += w.uncovered;
+            }
             return Result.of(statistic);
         }
 
@@ -268,12 +210,76 @@ public class TWiseStatisticGenerator extends ASAT4JAnalysis<CoverageStatistic> {
         return Result.of(statistic);
     }
 
+    private void countCombinations(Worker w, boolean[] mask, int first) {
+        final int[] c = w.c;
+        final int[] literals = w.literals;
+        final int t3 = t2 - 1;
+        c[0] = first;
+        for (int j = 1; j < t2; j++) {
+            c[j] = c[j - 1] + 1;
+        }
+        int i = 0;
+        int liSample = 0;
+
+        combinationLoop:
+        while (true) {
+            liSample = Math.min(liSample, i);
+
+            for (int k = 0; k < t2; k++) {
+                int literal = mask[k] ? (c[k] + 1) : -(c[k] + 1);
+                if (deadCoreFeatures.containsAnyVariable(Math.abs(literal))) {
+                    i = nextCombination(c, k);
+                    if (i == 0) {
+                        return;
+                    }
+                    continue combinationLoop;
+                }
+                literals[k] = literal;
+            }
+
+            extracted(mask, w.sampleIndex, c, t3, sampleConfigs, liSample, sampleConfigs.size());
+            liSample = i;
+
+            if (findConfig(c[t3], mask[t3], w.sampleIndex[t3], sampleConfigs, sampleConfigs.size())) {
+                w.covered++;
+            } else if (w.isCombinationValid()) {
+                w.uncovered++;
+            } else {
+                w.invalid++;
+            }
+
+            i = nextCombination(c, t3);
+            if (i == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Advances to the next combination with the same first element by
+     * incrementing the element at position k or a previous position.
+     *
+     * @return the position of the incremented element, or {@code 0} if there is
+     *         no next combination with the same first element
+     */
+    private int nextCombination(int[] c, int k) {
+        for (int i = k; i > 0; i--) {
+            if (++c[i] < (n2 + i)) {
+                for (int j = i + 1; j < t2; j++) {
+                    c[j] = c[j - 1] + 1;
+                }
+                return i;
+            }
+        }
+        return 0;
+    }
+
     private void extracted(
             boolean[] mask,
             int[][] sampleIndex,
             final int[] c,
             final int t3,
-            List<BitSet> configurations,
+            PackedSampleList configurations,
             int ci,
             int configLength) {
         for (int k = ci; k < t3; k++) {
@@ -290,8 +296,7 @@ public class TWiseStatisticGenerator extends ASAT4JAnalysis<CoverageStatistic> {
                 if (sindex1 >= configLength) {
                     break;
                 }
-                BitSet bitSet = configurations.get(sindex1);
-                if (bitSet.get(index) == maskValue) {
+                if (configurations.isSelected(sindex1, index + 1) == maskValue) {
                     sampleIndex2[sindex2++] = sindex1;
                 }
             }
@@ -302,13 +307,13 @@ public class TWiseStatisticGenerator extends ASAT4JAnalysis<CoverageStatistic> {
     }
 
     private boolean findConfig(
-            int index, boolean maskValue, int[] sampleIndexK, List<BitSet> configurations, int configLength) {
+            int index, boolean maskValue, int[] sampleIndexK, PackedSampleList configurations, int configLength) {
         for (int l = 0; l < sampleIndexK.length; l++) {
             int sindexK = sampleIndexK[l];
             if (sindexK == -1 || sindexK >= configLength) {
                 break;
             }
-            if (configurations.get(sindexK).get(index) == maskValue) {
+            if (configurations.isSelected(sindexK, index + 1) == maskValue) {
                 return true;
             }
         }
@@ -319,7 +324,6 @@ public class TWiseStatisticGenerator extends ASAT4JAnalysis<CoverageStatistic> {
     protected SAT4JSolver newSolver(BooleanClauseList clauseList) {
         SAT4JSolutionSolver solver = new SAT4JSolutionSolver(clauseList);
         solver.setTimeout(Duration.ofSeconds(100));
-        solver.setSelectionStrategy(ISelectionStrategy.random(random));
         return solver;
     }
 }
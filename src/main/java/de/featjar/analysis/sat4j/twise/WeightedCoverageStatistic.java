@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Holds statistics regarding weighted coverage of a configuration sample (see
+ * {@link WeightedTWiseCoverageComputation}). In addition to the number of
+ * interactions, the sum of the weights of covered, uncovered, and invalid
+ * interactions is stored, as well as the uncovered interactions with the
+ * highest weights.
+ *
+ * @author agent
+ */
+public class WeightedCoverageStatistic extends CoverageStatistic {
+
+    /**
+     * An interaction together with its weight.
+     */
+    public static class WeightedInteraction implements Comparable<WeightedInteraction> {
+        private final int[] literals;
+        private final double weight;
+
+        public WeightedInteraction(int[] literals, double weight) {
+            this.literals = literals;
+            this.weight = weight;
+        }
+
+        public int[] getLiterals() {
+            return literals;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+
+        /**
+         * Orders interactions by ascending weight. Interactions with equal weight are
+         * ordered by descending literals, such that the order is total and
+         * independent of the order in which the interactions were found.
+         */
+        @Override
+        public int compareTo(WeightedInteraction other) {
+            return compare(weight, literals, other.weight, other.literals);
+        }
+
+        static int compare(double weight1, int[] literals1, double weight2, int[] literals2) {
+            final int weightComparison = Double.compare(weight1, weight2);
+            return weightComparison != 0 ? weightComparison : Arrays.compare(literals2, literals1);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(literals) + ": " + weight;
+        }
+    }
+
+    private final int limit;
+    private final PriorityQueue<WeightedInteraction> topUncoveredInteractions;
+
+    double coveredWeight;
+    double uncoveredWeight;
+    double invalidWeight;
+
+    /**
+     * Creates a new statistic.
+     *
+     * @param limit the maximum number of uncovered interactions to keep
+     */
+    public WeightedCoverageStatistic(int limit) {
+        this.limit = limit;
+        topUncoveredInteractions = new PriorityQueue<>(limit + 1);
+    }
+
+    public void addCovered(double weight) {
+        numberOfCoveredConditions++;
+        coveredWeight += weight;
+    }
+
+    public void addInvalid(double weight) {
+        numberOfInvalidConditions++;
+        invalidWeight += weight;
+    }
+
+    /**
+     * Adds an uncovered interaction. The literals are only copied if the
+     * interaction is among the {@code limit} uncovered interactions with the
+     * highest weight so far.
+     *
+     * @param literals the literals of the interaction
+     * @param weight   the weight of the interaction
+     */
+    public void addUncovered(int[] literals, double weight) {
+        numberOfUncoveredConditions++;
+        uncoveredWeight += weight;
+        if (topUncoveredInteractions.size() < limit) {
+            topUncoveredInteractions.add(new WeightedInteraction(Arrays.copyOf(literals, literals.length), weight));
+        } else if (limit > 0) {
+            final WeightedInteraction lowest = topUncoveredInteractions.peek();
+            if (WeightedInteraction.compare(weight, literals, lowest.weight, lowest.literals) > 0) {
+                topUncoveredInteractions.poll();
+                topUncoveredInteractions.add(new WeightedInteraction(Arrays.copyOf(literals, literals.length), weight));
+            }
+        }
+    }
+
+    public double coveredWeight() {
+        return coveredWeight;
+    }
+
+    public double uncoveredWeight() {
+        return uncoveredWeight;
+    }
+
+    public double invalidWeight() {
+        return invalidWeight;
+    }
+
+    public double validWeight() {
+        return coveredWeight + uncoveredWeight;
+    }
+
+    public double weightedCoverage() {
+        return (coveredWeight + uncoveredWeight != 0) ? coveredWeight / (coveredWeight + uncoveredWeight) : 1.0;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the uncovered interactions with the highest weights.
+     *
+     * @return the interactions in descending order of their weights
+     */
+    public List<WeightedInteraction> getTopUncoveredInteractions() {
+        final ArrayList<WeightedInteraction> interactions = new ArrayList<>(topUncoveredInteractions);
+        interactions.sort(Collections.reverseOrder());
+        return interactions;
+    }
+
+    WeightedCoverageStatistic merge(WeightedCoverageStatistic other) {
+        super.merge(other);
+        coveredWeight += other.coveredWeight;
+        uncoveredWeight += other.uncoveredWeight;
+        invalidWeight += other.invalidWeight;
+        for (final WeightedInteraction interaction : other.topUncoveredInteractions) {
+            if (topUncoveredInteractions.size() < limit) {
+                topUncoveredInteractions.add(interaction);
+            } else if (limit > 0 && interaction.compareTo(topUncoveredInteractions.peek()) > 0) {
+                topUncoveredInteractions.poll();
+                topUncoveredInteractions.add(interaction);
+            }
+        }
+        return this;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j.twise;
+
+import de.featjar.analysis.sat4j.computation.ASAT4JAnalysis;
+import de.featjar.analysis.sat4j.computation.BatchedProgress;
+import de.featjar.analysis.sat4j.computation.CombinationRanking;
+import de.featjar.analysis.sat4j.computation.MIGBuilder;
+import de.featjar.analysis.sat4j.solver.ModalImplicationGraph;
+import de.featjar.analysis.sat4j.solver.SAT4JSolutionSolver;
+import de.featjar.analysis.sat4j.solver.SAT4JSolver;
+import de.featjar.base.computation.Computations;
+import de.featjar.base.computation.Dependency;
+import de.featjar.base.computation.IComputation;
+import de.featjar.base.computation.Progress;
+import de.featjar.base.data.Ints;
+import de.featjar.base.data.LexicographicIterator;
+import de.featjar.base.data.Result;
+import de.featjar.formula.assignment.BooleanAssignment;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.BooleanSolution;
+import de.featjar.formula.assignment.BooleanSolutionList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Calculates the weighted t-wise coverage of a sample. Each interaction is
+ * weighted by an {@link IInteractionWeight}, e.g., derived from the change
+ * frequency of features. Interactions are classified in the same way as in
+ * {@link TWiseCoverageComputation}, i.e., by a shared sample index, an optional
+ * validity cache, the MIG, a shared pool of solutions, and the SAT solver.
+ * Uncovered and invalid interactions can be exported in the same way, too.
+ * During the same pass, each
+ * thread keeps the {@link #LIMIT} uncovered interactions with the highest
+ * weight, so uncovered interactions are never materialized as a whole.
+ *
+ * @author agent
+ */
+public class WeightedTWiseCoverageComputation extends ASAT4JAnalysis<WeightedCoverageStatistic> {
+    public static final Dependency<Integer> T = Dependency.newDependency(Integer.class);
+    public static final Dependency<BooleanSolutionList> SAMPLE = Dependency.newDependency(BooleanSolutionList.class);
+    public static final Dependency<ModalImplicationGraph> MIG = Dependency.newDependency(ModalImplicationGraph.class);
+    public static final Dependency<BooleanAssignment> FILTER = Dependency.newDependency(BooleanAssignment.class);
+
+    /**
+     * The weight of each interaction. By default, all interactions have a weight
+     * of {@code 1}.
+     */
+    public static final Dependency<IInteractionWeight> WEIGHT = Dependency.newDependency(IInteractionWeight.class);
+
+    /**
+     * The maximum number of uncovered interactions to report.
+     */
+    public static final Dependency<Integer> LIMIT = Dependency.newDependency(Integer.class);
+
+    /**
+     * Directory of an {@link InteractionValidityCache}. If set, the validity of
+     * each interaction that is not covered by the sample is looked up in and
+     * stored to this cache. By default, the path is empty and no cache is used.
+     *
+     * @see TWiseCoverageComputation#VALIDITY_CACHE
+     */
+    public static final Dependency<Path> VALIDITY_CACHE = Dependency.newDependency(Path.class);
+
+    /**
+     * File to which each uncovered and each invalid interaction is written by an
+     * {@link InteractionExporter}. By default, the path is empty and no
+     * interactions are written.
+     *
+     * @see TWiseCoverageComputation#INTERACTION_OUTPUT
+     */
+    public static final Dependency<Path> INTERACTION_OUTPUT = Dependency.newDependency(Path.class);
+
+    public class Environment {
+        private final WeightedCoverageStatistic statistic = new WeightedCoverageStatistic(limit);
+        private final InteractionClassifier.Worker worker;
+
+        private Environment(InteractionClassifier classifier) {
+            worker = classifier.newWorker();
+        }
+
+        public WeightedCoverageStatistic getStatistic() {
+            return statistic;
+        }
+    }
+
+    public WeightedTWiseCoverageComputation(IComputation<BooleanClauseList> booleanClauseList) {
+        super(
+                booleanClauseList, //
+                Computations.of(2), //
+                Computations.of(new BooleanSolutionList(null, 0)), //
+                new MIGBuilder(booleanClauseList), //
+                Computations.of(new BooleanAssignment()), //
+                Computations.of(IInteractionWeight.uniform()), //
+                Computations.of(10), //
+                Computations.of(Path.of("")), //
+                Computations.of(Path.of("")));
+    }
+
+    public WeightedTWiseCoverageComputation(WeightedTWiseCoverageComputation other) {
+        super(other);
+    }
+
+    private ArrayList<Environment> statisticList = new ArrayList<>();
+
+    private int limit;
+
+    @Override
+    public Result<WeightedCoverageStatistic> compute(List<Object> dependencyList, Progress progress) {
+        List<BooleanSolution> sample = SAMPLE.get(dependencyList).getAll();
+        IInteractionWeight weight = WEIGHT.get(dependencyList);
+        int t = T.get(dependencyList);
+        limit = LIMIT.get(dependencyList);
+        if (limit < 0) {
+            return Result.empty(new IllegalArgumentException(String.valueOf(limit)));
+        }
+
+        if (!sample.isEmpty()) {
+            int size = sample.get(0).size();
+            final int[] literals = Ints.filteredList(size, FILTER.get(dependencyList));
+            final int[] gray = Ints.grayCode(t);
+            final BatchedProgress batchedProgress = new BatchedProgress(progress);
+            batchedProgress.setTotalSteps(CombinationRanking.saturatedBinomial(literals.length, t));
+
+            try (InteractionClassifier classifier =
+                    new InteractionClassifier(this, dependencyList, sample, MIG.get(dependencyList), t)) {
+                classifier.openValidityCache(VALIDITY_CACHE.get(dependencyList));
+                classifier.openExporter(INTERACTION_OUTPUT.get(dependencyList));
+                LexicographicIterator.parallelStream(t, literals.length, () -> createStatistic(classifier))
+                        .forEach(combo -> {
+                            batchedProgress.incrementCurrentStep();
+                            int[] select = combo.getSelection(literals);
+                            WeightedCoverageStatistic statistic = combo.environment.statistic;
+                            InteractionClassifier.Worker worker = combo.environment.worker;
+                            for (int i = 0; i < gray.length; i++) {
+                                double interactionWeight = weight.getWeight(select);
+                                if (worker.isCovered(select)) {
+                                    statistic.addCovered(interactionWeight);
+                                } else if (worker.isInvalid(select)) {
+                                    statistic.addInvalid(interactionWeight);
+                                    worker.writeInvalid(select);
+                                } else {
+                                    statistic.addUncovered(select, interactionWeight);
+                                    worker.writeUncovered(select);
+                                }
+                                int g = gray[i];
+                                select[g] = -select[g];
+                            }
+                        });
+                batchedProgress.flush();
+                classifier.finish();
+            } catch (IOException e) {
+                return Result.empty(e);
+            } catch (UncheckedIOException e) {
+                return Result.empty(e.getCause());
+            }
+        }
+        return Result.ofOptional(statisticList.stream() //
+                .map(Environment::getStatistic) //
+                .reduce((s1, s2) -> s1.merge(s2)));
+    }
+
+    private Environment createStatistic(InteractionClassifier classifier) {
+        Environment env = new Environment(classifier);
+        synchronized (statisticList) {
+            statisticList.add(env);
+        }
+        return env;
+    }
+
+    @Override
+    protected SAT4JSolver newSolver(BooleanClauseList clauseList) {
+        return new SAT4JSolutionSolver(clauseList);
+    }
+}
@@ -24,6 +24,9 @@ import de.featjar.base.FeatJAR;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -185,6 +188,52 @@ public class SAT4JCommandsTest {
         Assertions.assertEquals(0, exitCode);
     }
 
+    @Test
+    void testStreamingSolutionsCommandResumesAfterInterruption() throws IOException {
+        Path directory = Files.createTempDirectory("featJarTest");
+        Path outputFile = directory.resolve("solutions.txt");
+        Path checkpointFile = directory.resolve("checkpoint.txt");
+        Assertions.assertEquals(0, runStreamingSolutionsCommand(outputFile, checkpointFile, 5));
+        List<String> firstLines = Files.readAllLines(outputFile);
+        Assertions.assertEquals(5, firstLines.size());
+
+        // simulates an interruption after the last checkpoint
+        Files.writeString(
+                outputFile,
+                firstLines.get(0) + System.lineSeparator() + firstLines.get(1).substring(0, 3),
+                StandardOpenOption.APPEND);
+        Files.writeString(checkpointFile, "-3 4", StandardOpenOption.APPEND);
+
+        Assertions.assertEquals(0, runStreamingSolutionsCommand(outputFile, checkpointFile, 12));
+        List<String> lines = Files.readAllLines(outputFile);
+        Assertions.assertEquals(12, lines.size());
+        Assertions.assertEquals(firstLines, lines.subList(0, 5));
+        Assertions.assertEquals(12, new HashSet<>(lines).size());
+        Assertions.assertEquals(12, Files.readAllLines(checkpointFile).size());
+
+        Assertions.assertEquals(0, runStreamingSolutionsCommand(outputFile, checkpointFile, 10));
+        Assertions.assertEquals(lines, Files.readAllLines(outputFile));
+    }
+
+    private int runStreamingSolutionsCommand(Path outputFile, Path checkpointFile, int limit) {
+        return FeatJAR.run(
+                "solutions-sat4j",
+                "--input",
+                "../formula/src/testFixtures/resources/GPL/model.xml",
+                "--n",
+                String.valueOf(limit),
+                "--no-duplicates",
+                "true",
+                "--stream",
+                "true",
+                "--checkpoint",
+                checkpointFile.toString(),
+                "--checkpoint-interval",
+                "2",
+                "--output",
+                outputFile.toString());
+    }
+
     @Test
     void testTWiseCommand() throws IOException {
         int exitCode = FeatJAR.run("t-wise-sat4j", "--input", "../formula/src/testFixtures/resources/GPL/model.xml");
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.analysis.sat4j.computation.BatchedProgress;
+import de.featjar.base.computation.Progress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+public class BatchedProgressTest {
+
+    @Test
+    void flushReportsAllConcurrentSteps() throws Exception {
+        int threadCount = 4;
+        int stepsPerThread = 10_000;
+        int batchSize = 64;
+        BatchedProgress batchedProgress = new BatchedProgress(new Progress(), batchSize);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            tasks.add(() -> {
+                for (int j = 0; j < stepsPerThread; j++) {
+                    batchedProgress.incrementCurrentStep();
+                }
+                return null;
+            });
+        }
+        ExecutorService threadPool = Executors.newFixedThreadPool(threadCount);
+        try {
+            for (Future<Void> future : threadPool.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            threadPool.shutdownNow();
+        }
+
+        long reportedSteps = batchedProgress.getCurrentStep();
+        assertTrue(reportedSteps <= threadCount * stepsPerThread);
+        assertEquals(0, reportedSteps % batchSize);
+
+        batchedProgress.flush();
+        assertEquals(threadCount * stepsPerThread, batchedProgress.getCurrentStep());
+        batchedProgress.flush();
+        assertEquals(threadCount * stepsPerThread, batchedProgress.getCurrentStep());
+    }
+}
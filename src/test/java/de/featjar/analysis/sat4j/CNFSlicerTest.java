@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import de.featjar.analysis.sat4j.slice.CNFSlicer;
+import de.featjar.base.computation.AComputation;
+import de.featjar.base.computation.Computations;
+import de.featjar.formula.VariableMap;
+import de.featjar.formula.assignment.BooleanAssignment;
+import de.featjar.formula.assignment.BooleanClause;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.ComputeBooleanClauseList;
+import de.featjar.formula.computation.ComputeCNFFormula;
+import de.featjar.formula.computation.ComputeNNFFormula;
+import de.featjar.formula.structure.Expressions;
+import de.featjar.formula.structure.IFormula;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class CNFSlicerTest {
+
+    private static final int VARIABLE_COUNT = 7;
+    private static final int CLAUSE_COUNT = 12;
+    private static final int FORMULA_COUNT = 30;
+
+    @Test
+    void slicedFormulaIsExistentialProjection() {
+        checkRandomFormulas(null);
+    }
+
+    @Test
+    void slicedFormulaWithGrowthBoundIsExistentialProjection() {
+        checkRandomFormulas(1.0);
+    }
+
+    @Test
+    void slicedFormulaWithZeroGrowthBoundIsExistentialProjection() {
+        checkRandomFormulas(0.0);
+    }
+
+    private void checkRandomFormulas(Double maximumGrowth) {
+        Random random = new Random(42);
+        for (int i = 0; i < FORMULA_COUNT; i++) {
+            BooleanClauseList cnf = Computations.of(randomFormula(random))
+                    .map(ComputeNNFFormula::new)
+                    .map(ComputeCNFFormula::new)
+                    .map(ComputeBooleanClauseList::new)
+                    .compute();
+            VariableMap variableMap = cnf.getVariableMap();
+            int variableCount = variableMap.getVariableCount();
+
+            boolean[] eliminated = new boolean[variableCount + 1];
+            int[] slicedVariables = random.ints(1, variableCount + 1)
+                    .distinct()
+                    .limit(1 + random.nextInt(variableCount))
+                    .toArray();
+            for (int variable : slicedVariables) {
+                eliminated[variable] = true;
+            }
+
+            AComputation<BooleanClauseList> computation = Computations.of(cnf)
+                    .map(CNFSlicer::new)
+                    .set(CNFSlicer.VARIABLES_OF_INTEREST, new BooleanAssignment(slicedVariables));
+            if (maximumGrowth != null) {
+                computation = computation.set(CNFSlicer.MAXIMUM_GROWTH, maximumGrowth);
+            }
+            BooleanClauseList slicedCNF = computation.compute();
+
+            if (maximumGrowth == null) {
+                for (BooleanClause clause : slicedCNF) {
+                    for (int literal : clause.get()) {
+                        assertFalse(eliminated[Math.abs(literal)]);
+                    }
+                }
+            }
+            assertEquals(project(cnf, eliminated), project(slicedCNF, eliminated));
+        }
+    }
+
+    private static IFormula randomFormula(Random random) {
+        IFormula[] clauses = new IFormula[CLAUSE_COUNT];
+        for (int i = 0; i < clauses.length; i++) {
+            IFormula[] literals = new IFormula[1 + random.nextInt(3)];
+            for (int j = 0; j < literals.length; j++) {
+                literals[j] = Expressions.literal(random.nextBoolean(), "x" + random.nextInt(VARIABLE_COUNT));
+            }
+            clauses[i] = Expressions.or(literals);
+        }
+        return Expressions.and(clauses);
+    }
+
+    /**
+     * Computes the solutions of a clause list, restricted to the variables that
+     * are not eliminated.
+     */
+    private static Set<Integer> project(BooleanClauseList cnf, boolean[] eliminated) {
+        int variableCount = eliminated.length - 1;
+        int keptMask = 0;
+        for (int variable = 1; variable <= variableCount; variable++) {
+            if (!eliminated[variable]) {
+                keptMask |= 1 << (variable - 1);
+            }
+        }
+        Set<Integer> projection = new HashSet<>();
+        for (int assignment = 0; assignment < 1 << variableCount; assignment++) {
+            if (isSatisfied(cnf, assignment)) {
+                projection.add(assignment & keptMask);
+            }
+        }
+        return projection;
+    }
+
+    private static boolean isSatisfied(BooleanClauseList cnf, int assignment) {
+        for (BooleanClause clause : cnf) {
+            boolean satisfied = false;
+            for (int literal : clause.get()) {
+                if (((assignment >>> (Math.abs(literal) - 1)) & 1) == (literal > 0 ? 1 : 0)) {
+                    satisfied = true;
+                    break;
+                }
+            }
+            if (!satisfied) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.analysis.sat4j.computation.CombinationRanking;
+import de.featjar.analysis.sat4j.computation.CombinationSpecificationList;
+import de.featjar.analysis.sat4j.computation.ICombinationSpecification;
+import de.featjar.analysis.sat4j.computation.MultiCombinationSpecification;
+import de.featjar.analysis.sat4j.computation.NoneCombinationSpecification;
+import de.featjar.analysis.sat4j.computation.SingleCombinationSpecification;
+import de.featjar.formula.assignment.BooleanAssignment;
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+public class CombinationRankingTest {
+
+    @Test
+    void ranksFollowSuccessors() {
+        for (int n = 0; n <= 8; n++) {
+            for (int t = 0; t <= n; t++) {
+                CombinationRanking ranking = new CombinationRanking(n, t);
+                assertEquals(CombinationRanking.binomial(n, t).longValueExact(), ranking.size());
+                int[] combination = ranking.unrank(0, new int[t]);
+                for (long rank = 0; rank < ranking.size(); rank++) {
+                    assertEquals(rank, ranking.rank(combination));
+                    assertArrayEquals(combination, ranking.unrank(rank, new int[t]));
+                    assertEquals(rank < ranking.size() - 1, ranking.next(combination));
+                }
+            }
+        }
+    }
+
+    @Test
+    void ranksBeyondLongRange() {
+        CombinationRanking ranking = new CombinationRanking(2000, 7);
+        assertFalse(ranking.isLongRange());
+        assertThrows(ArithmeticException.class, ranking::size);
+        Random random = new Random(1);
+        for (int i = 0; i < 100; i++) {
+            BigInteger rank = new BigInteger(80, random).mod(ranking.bigSize());
+            assertEquals(rank, ranking.bigRank(ranking.unrank(rank, new int[7])));
+        }
+    }
+
+    @Test
+    void unranksLongRanksBeyondLongRange() {
+        CombinationRanking ranking = new CombinationRanking(2000, 7);
+        Random random = new Random(2);
+        long[] ranks = {0, 1, Long.MAX_VALUE - 1, Long.MAX_VALUE, random.nextLong() >>> 1, random.nextLong() >>> 1};
+        for (long rank : ranks) {
+            assertArrayEquals(
+                    ranking.unrank(BigInteger.valueOf(rank), new int[7]), ranking.unrank(rank, new int[7]));
+        }
+        List<int[]> combinations = ranking.stream(5, 10).collect(Collectors.toList());
+        for (int i = 0; i < combinations.size(); i++) {
+            assertArrayEquals(ranking.unrank(5 + i, new int[7]), combinations.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> ranking.unrank(-1, new int[7]));
+    }
+
+    @Test
+    void largeTripleSpaceFitsIntoLong() {
+        CombinationRanking ranking = new CombinationRanking(100_000, 3);
+        assertTrue(ranking.isLongRange());
+        assertEquals(CombinationRanking.binomial(100_000, 3).longValueExact(), ranking.size());
+        long rank = ranking.size() - 1;
+        assertEquals(rank, ranking.rank(ranking.unrank(rank, new int[3])));
+    }
+
+    @Test
+    void saturatedBinomialAcceptsAnySize() {
+        assertEquals(0, CombinationRanking.saturatedBinomial(2, 3));
+        assertEquals(0, CombinationRanking.saturatedBinomial(0, 1));
+        assertEquals(1, CombinationRanking.saturatedBinomial(0, 0));
+        assertEquals(
+                CombinationRanking.binomial(100_000, 3).longValueExact(),
+                CombinationRanking.saturatedBinomial(100_000, 3));
+        assertEquals(Long.MAX_VALUE, CombinationRanking.saturatedBinomial(4000, 7));
+    }
+
+    @Test
+    void saturatedAddStopsAtMaximum() {
+        assertEquals(5, CombinationRanking.saturatedAdd(2, 3));
+        assertEquals(Long.MAX_VALUE, CombinationRanking.saturatedAdd(Long.MAX_VALUE, 1));
+        assertEquals(Long.MAX_VALUE, CombinationRanking.saturatedAdd(Long.MAX_VALUE - 1, Long.MAX_VALUE));
+    }
+
+    @Test
+    void totalStepsDoNotOverflow() {
+        int[] literals = IntStream.rangeClosed(1, 4000).toArray();
+        assertEquals(
+                CombinationRanking.binomial(4000, 3).longValueExact(),
+                new SingleCombinationSpecification(new BooleanAssignment(literals), 3).getTotalSteps());
+        assertEquals(
+                Long.MAX_VALUE,
+                new SingleCombinationSpecification(new BooleanAssignment(literals), 7).getTotalSteps());
+        assertEquals(
+                6 * 3,
+                new MultiCombinationSpecification(
+                                List.of(new BooleanAssignment(1, 2, 3, 4), new BooleanAssignment(5, 6, 7)),
+                                new int[] {2, 2})
+                        .getTotalSteps());
+    }
+
+    @Test
+    void specificationsStreamIndexRanges() {
+        SingleCombinationSpecification single =
+                new SingleCombinationSpecification(new BooleanAssignment(1, -2, 3, 4, -5, 6), 2);
+        assertEquals(BigInteger.valueOf(15), single.getCombinationCount());
+        List<int[]> combinations = single.stream(3, 11).collect(Collectors.toList());
+        for (int i = 0; i < combinations.size(); i++) {
+            assertArrayEquals(single.get(3 + i), combinations.get(i));
+        }
+
+        MultiCombinationSpecification multi = new MultiCombinationSpecification(
+                List.of(new BooleanAssignment(1, 2, 3, 4), new BooleanAssignment(5, 6, 7)), new int[] {2, 2});
+        long count = multi.getCombinationCount().longValueExact();
+        assertEquals(18, count);
+        Set<List<Integer>> distinct = new HashSet<>();
+        long half = count / 2;
+        for (int[] combination : multi.stream(0, half).collect(Collectors.toList())) {
+            distinct.add(List.of(combination[0], combination[1], combination[2], combination[3]));
+        }
+        for (int[] combination : multi.stream(half, count).collect(Collectors.toList())) {
+            distinct.add(List.of(combination[0], combination[1], combination[2], combination[3]));
+        }
+        assertEquals(count, distinct.size());
+    }
+
+    @Test
+    void specificationListSkipsEmptyAndHugeSpecifications() {
+        NoneCombinationSpecification none = new NoneCombinationSpecification();
+        assertEquals(0, none.getTotalSteps());
+        assertEquals(BigInteger.ZERO, none.getCombinationCount());
+        assertEquals(0, none.stream().count());
+        assertEquals(0, none.stream(0, 10).count());
+        assertThrows(IndexOutOfBoundsException.class, () -> none.get(0));
+
+        SingleCombinationSpecification single =
+                new SingleCombinationSpecification(new BooleanAssignment(1, -2, 3, 4, -5, 6), 2);
+        int[] literals = IntStream.rangeClosed(1, 4000).toArray();
+        CombinationSpecificationList list = new CombinationSpecificationList();
+        list.addSpecifications(none);
+        list.addSpecifications(single);
+        SingleCombinationSpecification huge =
+                new SingleCombinationSpecification(new BooleanAssignment(literals), 7);
+        list.addSpecifications(huge);
+        assertEquals(Long.MAX_VALUE, list.getTotalSteps());
+        assertEquals(BigInteger.valueOf(15).add(CombinationRanking.binomial(4000, 7)), list.getCombinationCount());
+        List<int[]> combinations = list.stream(0, 15).collect(Collectors.toList());
+        assertEquals(15, combinations.size());
+        for (int i = 0; i < combinations.size(); i++) {
+            assertArrayEquals(single.get(i), combinations.get(i));
+            assertArrayEquals(single.get(i), list.get(i));
+        }
+        assertArrayEquals(huge.get(0), list.get(15));
+        assertArrayEquals(huge.get(Long.MAX_VALUE - 16), list.get(Long.MAX_VALUE - 1));
+        assertEquals(3, list.stream(14, 17).count());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void resumedIndexStreamsVisitSameCombinationsAsStream() {
+        SingleCombinationSpecification single =
+                new SingleCombinationSpecification(new BooleanAssignment(1, -2, 3, 4, -5, 6, 7), 3);
+        MultiCombinationSpecification multi = new MultiCombinationSpecification(
+                List.of(new BooleanAssignment(1, 2, 3, 4), new BooleanAssignment(5, 6, 7)), new int[] {2, 1});
+        for (ICombinationSpecification specification : List.of(single, multi)) {
+            long count = specification.getCombinationCount().longValueExact();
+            Set<List<Integer>> expected = toSet(specification.stream());
+            assertEquals(count, expected.size());
+            for (long checkpoint = 0; checkpoint <= count; checkpoint++) {
+                List<int[]> resumed = Stream.concat(
+                                specification.stream(0, checkpoint), specification.stream(checkpoint, count))
+                        .collect(Collectors.toList());
+                assertEquals(count, resumed.size());
+                assertEquals(expected, toSet(resumed.stream()));
+            }
+        }
+    }
+
+    private static Set<List<Integer>> toSet(Stream<int[]> combinations) {
+        return combinations
+                .map(combination -> IntStream.of(combination).boxed().collect(Collectors.toList()))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import de.featjar.analysis.sat4j.computation.ComputeCoreDeadExplanationsSAT4J;
+import de.featjar.base.computation.Computations;
+import de.featjar.base.data.Result;
+import de.featjar.formula.VariableMap;
+import de.featjar.formula.assignment.BooleanAssignment;
+import de.featjar.formula.assignment.BooleanClause;
+import de.featjar.formula.assignment.ComputeBooleanClauseList;
+import de.featjar.formula.computation.ComputeCNFFormula;
+import de.featjar.formula.computation.ComputeNNFFormula;
+import de.featjar.formula.structure.Expressions;
+import de.featjar.formula.structure.IFormula;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class ComputeCoreDeadExplanationsTest {
+
+    private final IFormula formula = Expressions.and(
+            Expressions.literal("a"),
+            Expressions.or(Expressions.literal(false, "a"), Expressions.literal("b")),
+            Expressions.or(Expressions.literal(false, "b"), Expressions.literal(false, "c")),
+            Expressions.or(Expressions.literal("d"), Expressions.literal("e")));
+
+    private final ComputeBooleanClauseList cnf = Computations.of(formula)
+            .map(ComputeNNFFormula::new)
+            .map(ComputeCNFFormula::new)
+            .map(ComputeBooleanClauseList::new);
+
+    @Test
+    void coreAndDeadFeaturesAreExplained() {
+        assertExplanations(cnf.map(ComputeCoreDeadExplanationsSAT4J::new).compute());
+    }
+
+    @Test
+    void coreAndDeadFeaturesAreExplainedInParallel() {
+        assertExplanations(cnf.map(ComputeCoreDeadExplanationsSAT4J::new)
+                .set(ComputeCoreDeadExplanationsSAT4J.PARALLEL, Boolean.TRUE)
+                .compute());
+    }
+
+    @Test
+    void assumptionsChangeExplainedLiterals() {
+        VariableMap variables = cnf.compute().getVariableMap();
+        int d = variables.get("d").get();
+        int e = variables.get("e").get();
+        Map<Integer, List<BooleanClause>> explanations = cnf.map(ComputeCoreDeadExplanationsSAT4J::new)
+                .set(ComputeCoreDeadExplanationsSAT4J.ASSUMED_ASSIGNMENT, new BooleanAssignment(-d))
+                .compute();
+        assertEquals(4, explanations.size());
+        assertFalse(explanations.containsKey(-d));
+        assertEquals(1, explanations.get(e).size());
+    }
+
+    @Test
+    void unexplainedLiteralsYieldPartialResult() {
+        VariableMap variables = cnf.compute().getVariableMap();
+        int a = variables.get("a").get();
+        int d = variables.get("d").get();
+        Result<Map<Integer, List<BooleanClause>>> result = cnf.map(ComputeCoreDeadExplanationsSAT4J::new)
+                .set(ComputeCoreDeadExplanationsSAT4J.CORE_DEAD, new BooleanAssignment(a, d))
+                .computeResult();
+        assertEquals(1, result.get().size());
+        assertEquals(1, result.get().get(a).size());
+        assertFalse(result.getProblems().isEmpty());
+    }
+
+    private void assertExplanations(Map<Integer, List<BooleanClause>> explanations) {
+        VariableMap variables = cnf.compute().getVariableMap();
+        int a = variables.get("a").get();
+        int b = variables.get("b").get();
+        int c = variables.get("c").get();
+        assertEquals(3, explanations.size());
+        assertEquals(1, explanations.get(a).size());
+        assertEquals(2, explanations.get(b).size());
+        assertEquals(3, explanations.get(-c).size());
+    }
+}
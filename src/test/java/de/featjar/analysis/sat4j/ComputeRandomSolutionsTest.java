@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static de.featjar.formula.structure.Expressions.literal;
+import static de.featjar.formula.structure.Expressions.or;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.Common;
+import de.featjar.analysis.sat4j.computation.ComputeRandomSolutionsSAT4J;
+import de.featjar.base.computation.Computations;
+import de.featjar.formula.assignment.BooleanClause;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.BooleanSolution;
+import de.featjar.formula.assignment.BooleanSolutionList;
+import de.featjar.formula.assignment.ComputeBooleanClauseList;
+import de.featjar.formula.computation.ComputeCNFFormula;
+import de.featjar.formula.computation.ComputeNNFFormula;
+import de.featjar.formula.structure.IFormula;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class ComputeRandomSolutionsTest extends Common {
+
+    @Test
+    void solutionsAreUniqueAndValid() {
+        BooleanClauseList clauses = getClauses(loadFormula("GPL/model.xml"));
+        for (int threadCount : new int[] {1, 4}) {
+            BooleanSolutionList solutions = computeSolutions(clauses, 50, threadCount, 1);
+            assertEquals(50, solutions.size());
+            assertEquals(50, toLists(solutions).stream().distinct().count());
+            for (BooleanSolution solution : solutions) {
+                assertTrue(isValid(clauses, solution));
+            }
+        }
+    }
+
+    @Test
+    void allSolutionsAreFoundIfLimitIsTooLarge() {
+        BooleanClauseList clauses = getClauses(or(literal("a"), literal("b"), literal("c")));
+        for (int threadCount : new int[] {1, 3, 8}) {
+            BooleanSolutionList solutions = computeSolutions(clauses, 100, threadCount, 2);
+            assertEquals(7, solutions.size());
+            assertEquals(7, toLists(solutions).stream().distinct().count());
+        }
+    }
+
+    @Test
+    void solutionsDoNotDependOnScheduling() {
+        BooleanClauseList clauses = getClauses(loadFormula("GPL/model.xml"));
+        List<List<Integer>> expected = toLists(computeSolutions(clauses, 40, 4, 3));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(expected, toLists(computeSolutions(clauses, 40, 4, 3)));
+        }
+    }
+
+    private static BooleanSolutionList computeSolutions(
+            BooleanClauseList clauses, int limit, int threadCount, long seed) {
+        return Computations.of(clauses)
+                .map(ComputeRandomSolutionsSAT4J::new)
+                .set(ComputeRandomSolutionsSAT4J.LIMIT, limit)
+                .set(ComputeRandomSolutionsSAT4J.THREAD_COUNT, threadCount)
+                .set(ComputeRandomSolutionsSAT4J.RANDOM_SEED, seed)
+                .compute();
+    }
+
+    private static boolean isValid(BooleanClauseList clauses, BooleanSolution solution) {
+        int[] literals = solution.get();
+        for (BooleanClause clause : clauses) {
+            boolean satisfied = false;
+            for (int literal : clause.get()) {
+                if (literals[Math.abs(literal) - 1] == literal) {
+                    satisfied = true;
+                    break;
+                }
+            }
+            if (!satisfied) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<List<Integer>> toLists(BooleanSolutionList solutions) {
+        return solutions.getAll().stream()
+                .map(solution -> Arrays.stream(solution.get()).boxed().collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    private static BooleanClauseList getClauses(IFormula formula) {
+        return Computations.of(formula)
+                .map(ComputeNNFFormula::new)
+                .map(ComputeCNFFormula::new)
+                .map(ComputeBooleanClauseList::new)
+                .compute();
+    }
+}
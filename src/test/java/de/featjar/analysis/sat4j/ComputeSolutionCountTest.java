@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.featjar.analysis.sat4j.computation.ComputeSolutionCountSAT4J;
+import de.featjar.analysis.sat4j.computation.ComputeSolutionsSAT4J;
+import de.featjar.base.computation.Computations;
+import de.featjar.formula.assignment.BooleanSolutionList;
+import de.featjar.formula.assignment.ComputeBooleanClauseList;
+import de.featjar.formula.computation.ComputeCNFFormula;
+import de.featjar.formula.computation.ComputeNNFFormula;
+import de.featjar.formula.structure.Expressions;
+import de.featjar.formula.structure.IFormula;
+import java.math.BigInteger;
+import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+
+public class ComputeSolutionCountTest {
+
+    private final IFormula formula = Expressions.and(
+            Expressions.or(Expressions.literal("a"), Expressions.literal("b"), Expressions.literal("c")),
+            Expressions.or(Expressions.literal(false, "a"), Expressions.literal("d")));
+
+    private final ComputeBooleanClauseList cnf = Computations.of(formula)
+            .map(ComputeNNFFormula::new)
+            .map(ComputeCNFFormula::new)
+            .map(ComputeBooleanClauseList::new);
+
+    @Test
+    void cubeBlockingCountsAllSolutions() {
+        assertEquals(
+                BigInteger.valueOf(10),
+                cnf.map(ComputeSolutionCountSAT4J::new).compute());
+    }
+
+    @Test
+    void solutionBlockingCountsAllSolutions() {
+        assertEquals(
+                BigInteger.valueOf(10),
+                cnf.map(ComputeSolutionCountSAT4J::new)
+                        .set(ComputeSolutionCountSAT4J.CUBE_BLOCKING, Boolean.FALSE)
+                        .compute());
+    }
+
+    @Test
+    void compactBlockingEnumeratesAllSolutions() {
+        BooleanSolutionList solutions = cnf.map(ComputeSolutionsSAT4J::new)
+                .set(ComputeSolutionsSAT4J.COMPACT_BLOCKING, Boolean.TRUE)
+                .compute();
+        assertEquals(10, solutions.size());
+        assertEquals(10, new HashSet<>(solutions.getAll()).size());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static de.featjar.formula.structure.Expressions.and;
+import static de.featjar.formula.structure.Expressions.literal;
+import static de.featjar.formula.structure.Expressions.or;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.Common;
+import de.featjar.analysis.sat4j.computation.ComputeUniformSolutionsSAT4J;
+import de.featjar.base.computation.Computations;
+import de.featjar.formula.assignment.BooleanClause;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.BooleanSolution;
+import de.featjar.formula.assignment.BooleanSolutionList;
+import de.featjar.formula.assignment.ComputeBooleanClauseList;
+import de.featjar.formula.computation.ComputeCNFFormula;
+import de.featjar.formula.computation.ComputeNNFFormula;
+import de.featjar.formula.structure.IFormula;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class ComputeUniformSolutionsTest extends Common {
+
+    /**
+     * Critical value of the chi-square distribution with 7 degrees of freedom
+     * for a significance level of 0.001.
+     */
+    private static final double CHI_SQUARE_BOUND = 24.32;
+
+    @Test
+    void solutionsAreValid() {
+        BooleanClauseList clauses = getClauses(loadFormula("GPL/model.xml"));
+        for (int cellSize : new int[] {4, 32}) {
+            BooleanSolutionList solutions = computeSolutions(clauses, 50, cellSize, 1);
+            assertEquals(50, solutions.size());
+            for (BooleanSolution solution : solutions) {
+                assertEquals(clauses.getVariableMap().getVariableCount(), solution.size());
+                assertTrue(isValid(clauses, solution));
+            }
+        }
+    }
+
+    @Test
+    void solutionsAreSampledUniformly() {
+        // exactly one of a and b, c and d are free, which results in 8 solutions
+        BooleanClauseList clauses = getClauses(and(
+                or(literal("a"), literal("b")),
+                or(literal(false, "a"), literal(false, "b")),
+                or(literal("a"), literal("b"), literal("c"), literal("d"))));
+        assertEquals(8, countSolutions(clauses));
+
+        // a cell size of 1 requires XOR constraints, 32 samples the whole solution space directly
+        for (int cellSize : new int[] {1, 32}) {
+            int sampleSize = 800;
+            BooleanSolutionList solutions = computeSolutions(clauses, sampleSize, cellSize, 2);
+            assertEquals(sampleSize, solutions.size());
+
+            Map<List<Integer>, Integer> frequencies = new HashMap<>();
+            for (BooleanSolution solution : solutions) {
+                assertTrue(isValid(clauses, solution));
+                frequencies.merge(
+                        Arrays.stream(solution.get()).boxed().collect(Collectors.toList()), 1, Integer::sum);
+            }
+            assertEquals(8, frequencies.size());
+
+            double expected = sampleSize / 8.0;
+            double chiSquare = 0;
+            for (int frequency : frequencies.values()) {
+                chiSquare += (frequency - expected) * (frequency - expected) / expected;
+            }
+            assertTrue(chiSquare < CHI_SQUARE_BOUND, String.valueOf(chiSquare));
+        }
+    }
+
+    private static BooleanSolutionList computeSolutions(
+            BooleanClauseList clauses, int limit, int cellSize, long seed) {
+        return Computations.of(clauses)
+                .map(ComputeUniformSolutionsSAT4J::new)
+                .set(ComputeUniformSolutionsSAT4J.LIMIT, limit)
+                .set(ComputeUniformSolutionsSAT4J.CELL_SIZE, cellSize)
+                .set(ComputeUniformSolutionsSAT4J.RANDOM_SEED, seed)
+                .compute();
+    }
+
+    private static int countSolutions(BooleanClauseList clauses) {
+        int variableCount = clauses.getVariableMap().getVariableCount();
+        int count = 0;
+        for (int assignment = 0; assignment < 1 << variableCount; assignment++) {
+            int[] literals = new int[variableCount];
+            for (int v = 1; v <= variableCount; v++) {
+                literals[v - 1] = ((assignment >>> (v - 1)) & 1) != 0 ? v : -v;
+            }
+            if (isValid(clauses, literals)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isValid(BooleanClauseList clauses, BooleanSolution solution) {
+        return isValid(clauses, solution.get());
+    }
+
+    private static boolean isValid(BooleanClauseList clauses, int[] literals) {
+        for (BooleanClause clause : clauses) {
+            boolean satisfied = false;
+            for (int literal : clause.get()) {
+                if (literals[Math.abs(literal) - 1] == literal) {
+                    satisfied = true;
+                    break;
+                }
+            }
+            if (!satisfied) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static BooleanClauseList getClauses(IFormula formula) {
+        return Computations.of(formula)
+                .map(ComputeNNFFormula::new)
+                .map(ComputeCNFFormula::new)
+                .map(ComputeBooleanClauseList::new)
+                .compute();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static de.featjar.base.computation.Computations.async;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.featjar.Common;
+import de.featjar.analysis.sat4j.computation.ComputeSolutionsSAT4J;
+import de.featjar.analysis.sat4j.solver.ISelectionStrategy;
+import de.featjar.analysis.sat4j.twise.CoverageStatistic;
+import de.featjar.analysis.sat4j.twise.TWiseCoverageComputation;
+import de.featjar.base.computation.IComputation;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.BooleanSolutionList;
+import de.featjar.formula.assignment.ComputeBooleanClauseList;
+import de.featjar.formula.computation.ComputeCNFFormula;
+import de.featjar.formula.computation.ComputeNNFFormula;
+
+/**
+ * Provides the model, a partial sample of ten random configurations, and its
+ * exact pairwise coverage for the tests of the coverage computations.
+ */
+class CoverageFixture extends Common {
+
+    final IComputation<BooleanClauseList> clauses;
+    final BooleanSolutionList sample;
+    final CoverageStatistic expected;
+
+    CoverageFixture() {
+        clauses = async(loadFormula("GPL/model.xml"))
+                .map(ComputeNNFFormula::new)
+                .map(ComputeCNFFormula::new)
+                .map(ComputeBooleanClauseList::new);
+        sample = clauses.map(ComputeSolutionsSAT4J::new)
+                .set(ComputeSolutionsSAT4J.SELECTION_STRATEGY, ISelectionStrategy.Strategy.FAST_RANDOM)
+                .set(ComputeSolutionsSAT4J.LIMIT, 10)
+                .set(ComputeSolutionsSAT4J.RANDOM_SEED, 1L)
+                .compute();
+        expected = clauses.map(TWiseCoverageComputation::new)
+                .set(TWiseCoverageComputation.SAMPLE, sample)
+                .set(TWiseCoverageComputation.T, 2)
+                .compute();
+    }
+
+    /**
+     * Asserts that the given statistic classifies the interactions of the sample
+     * like {@link #expected}.
+     *
+     * @param statistic the statistic
+     */
+    void assertExpectedCoverage(CoverageStatistic statistic) {
+        assertEquals(expected.covered(), statistic.covered());
+        assertEquals(expected.uncovered(), statistic.uncovered());
+        assertEquals(expected.invalid(), statistic.invalid());
+    }
+}
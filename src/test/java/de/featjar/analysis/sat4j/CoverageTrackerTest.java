@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.featjar.analysis.sat4j.twise.CoverageTracker;
+import de.featjar.analysis.sat4j.twise.CoveredInteractionCounter;
+import de.featjar.analysis.sat4j.twise.PackedSampleList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class CoverageTrackerTest {
+
+    private static final int VARIABLE_COUNT = 8;
+
+    @Test
+    void trackedCoverageMatchesCount() {
+        int[] variables = {1, 2, 3, 5, 6, 8};
+        Random random = new Random(1);
+        for (int t = 1; t <= 3; t++) {
+            CoverageTracker tracker = new CoverageTracker(VARIABLE_COUNT, t, variables);
+            Map<Integer, int[]> sample = new LinkedHashMap<>();
+            for (int step = 0; step < 300; step++) {
+                if (sample.size() < 2 || (sample.size() < 40 && random.nextBoolean())) {
+                    int[] configuration = new int[VARIABLE_COUNT];
+                    for (int v = 1; v <= VARIABLE_COUNT; v++) {
+                        configuration[v - 1] = random.nextInt(8) == 0 ? -v : v;
+                    }
+                    sample.put(tracker.addConfiguration(configuration), configuration);
+                } else {
+                    List<Integer> indices = new ArrayList<>(sample.keySet());
+                    int index = indices.get(random.nextInt(indices.size()));
+                    tracker.removeConfiguration(index);
+                    sample.remove(index);
+                }
+                PackedSampleList packedSample = new PackedSampleList(VARIABLE_COUNT);
+                sample.values().forEach(packedSample::add);
+                assertEquals(
+                        CoveredInteractionCounter.countCovered(packedSample, variables, t),
+                        tracker.getCoveredCount());
+            }
+        }
+    }
+}
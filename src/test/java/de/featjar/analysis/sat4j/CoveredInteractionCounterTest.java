@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.featjar.analysis.sat4j.twise.CoveredInteractionCounter;
+import de.featjar.analysis.sat4j.twise.PackedSampleList;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class CoveredInteractionCounterTest {
+
+    private static final int VARIABLE_COUNT = 9;
+
+    @Test
+    void countsMatchEnumeration() {
+        Random random = new Random(1);
+        for (int sampleSize : new int[] {1, 3, 70}) {
+            PackedSampleList sample = new PackedSampleList(VARIABLE_COUNT);
+            for (int i = 0; i < sampleSize; i++) {
+                int[] configuration = new int[VARIABLE_COUNT];
+                for (int v = 1; v <= VARIABLE_COUNT; v++) {
+                    configuration[v - 1] = random.nextInt(4) == 0 ? -v : v;
+                }
+                sample.add(configuration);
+            }
+            int[] variables = {1, 2, 4, 5, 6, 8, 9};
+            for (int t = 1; t <= 3; t++) {
+                assertEquals(
+                        enumerateCovered(sample, variables, t, 0, new int[t]),
+                        CoveredInteractionCounter.countCovered(sample, variables, t));
+            }
+        }
+    }
+
+    @Test
+    void countsAllInteractions() {
+        assertEquals(2 * 7, CoveredInteractionCounter.countInteractions(7, 1));
+        assertEquals(4 * 21, CoveredInteractionCounter.countInteractions(7, 2));
+        assertEquals(8 * 35, CoveredInteractionCounter.countInteractions(7, 3));
+    }
+
+    private long enumerateCovered(PackedSampleList sample, int[] variables, int t, int start, int[] interaction) {
+        int depth = countSet(interaction);
+        if (depth == t) {
+            long covered = 0;
+            for (int signs = 0; signs < (1 << t); signs++) {
+                int[] literals = new int[t];
+                for (int i = 0; i < t; i++) {
+                    literals[i] = ((signs >> i) & 1) == 0 ? interaction[i] : -interaction[i];
+                }
+                if (sample.covers(literals)) {
+                    covered++;
+                }
+            }
+            return covered;
+        }
+        long covered = 0;
+        for (int i = start; i < variables.length; i++) {
+            interaction[depth] = variables[i];
+            covered += enumerateCovered(sample, variables, t, i + 1, interaction);
+            interaction[depth] = 0;
+        }
+        return covered;
+    }
+
+    private int countSet(int[] interaction) {
+        int count = 0;
+        for (int literal : interaction) {
+            if (literal != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.analysis.sat4j.twise.CoverageEstimate;
+import de.featjar.analysis.sat4j.twise.CoverageStatistic;
+import de.featjar.analysis.sat4j.twise.EstimateTWiseCoverageComputation;
+import org.junit.jupiter.api.Test;
+
+public class EstimateTWiseCoverageComputationTest {
+
+    @Test
+    void gplHasEstimated2WiseCoverage() {
+        CoverageFixture fixture = new CoverageFixture();
+        CoverageStatistic exact = fixture.expected;
+        assertTrue(exact.coverage() < 1.0);
+
+        CoverageEstimate estimate = fixture.clauses
+                .map(EstimateTWiseCoverageComputation::new)
+                .set(EstimateTWiseCoverageComputation.T, 2)
+                .set(EstimateTWiseCoverageComputation.SAMPLE, fixture.sample)
+                .set(EstimateTWiseCoverageComputation.SAMPLE_SIZE, 10_000)
+                .set(EstimateTWiseCoverageComputation.CONFIDENCE, 0.999)
+                .set(EstimateTWiseCoverageComputation.MARGIN, 0.05)
+                .compute();
+        assertTrue(estimate.sampled() < 10_000);
+        assertTrue(estimate.marginOfError() <= 0.05);
+        assertTrue(estimate.lowerBound() <= exact.coverage());
+        assertTrue(exact.coverage() <= estimate.upperBound());
+        assertEquals(exact.valid(), estimate.estimatedValid(), 0.15 * exact.valid());
+
+        CoverageEstimate fixedEstimate = fixture.clauses
+                .map(EstimateTWiseCoverageComputation::new)
+                .set(EstimateTWiseCoverageComputation.T, 2)
+                .set(EstimateTWiseCoverageComputation.SAMPLE, fixture.sample)
+                .set(EstimateTWiseCoverageComputation.SAMPLE_SIZE, 500)
+                .set(EstimateTWiseCoverageComputation.MARGIN, 0.0)
+                .compute();
+        assertEquals(500, fixedEstimate.sampled());
+    }
+}
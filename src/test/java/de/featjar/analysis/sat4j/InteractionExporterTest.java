@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.featjar.analysis.sat4j.twise.CoverageStatistic;
+import de.featjar.analysis.sat4j.twise.InteractionExporter;
+import de.featjar.analysis.sat4j.twise.TWiseCoverageComputation;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class InteractionExporterTest {
+
+    @Test
+    void exportedInteractionsMatchCoverage(@TempDir Path outputDirectory) throws IOException {
+        CoverageFixture fixture = new CoverageFixture();
+        Path binaryFile = outputDirectory.resolve("interactions.bin");
+        Path csvFile = outputDirectory.resolve("interactions.csv");
+        CoverageStatistic statistic = fixture.clauses
+                .map(TWiseCoverageComputation::new)
+                .set(TWiseCoverageComputation.SAMPLE, fixture.sample)
+                .set(TWiseCoverageComputation.T, 2)
+                .set(TWiseCoverageComputation.INTERACTION_OUTPUT, binaryFile)
+                .compute();
+        fixture.assertExpectedCoverage(statistic);
+        assertEquals(
+                InteractionExporter.HEADER_SIZE + (statistic.uncovered() + statistic.invalid()) * (1 + 4 * 2),
+                Files.size(binaryFile));
+
+        fixture.clauses
+                .map(TWiseCoverageComputation::new)
+                .set(TWiseCoverageComputation.SAMPLE, fixture.sample)
+                .set(TWiseCoverageComputation.T, 2)
+                .set(TWiseCoverageComputation.INTERACTION_OUTPUT, csvFile)
+                .compute();
+        List<String> lines = Files.readAllLines(csvFile);
+        assertEquals(1 + statistic.uncovered() + statistic.invalid(), lines.size());
+        assertEquals(
+                statistic.uncovered(),
+                lines.stream().filter(line -> line.startsWith("U,")).count());
+    }
+}
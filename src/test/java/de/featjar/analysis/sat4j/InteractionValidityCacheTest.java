@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.featjar.analysis.sat4j.twise.InteractionValidityCache;
+import de.featjar.analysis.sat4j.twise.TWiseCoverageComputation;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class InteractionValidityCacheTest {
+
+    @Test
+    void oversizedValidityCacheIsRefused(@TempDir Path cacheDirectory) {
+        assertEquals(6, InteractionValidityCache.getDataSize(4, 2));
+        assertEquals(0, InteractionValidityCache.getDataSize(1, 2));
+        assertEquals(Long.MAX_VALUE, InteractionValidityCache.getDataSize(100_000, 10));
+        assertThrows(IOException.class, () -> InteractionValidityCache.open(cacheDirectory, 0, 100_000, 4));
+    }
+
+    @Test
+    void validityCacheKeepsCoverage(@TempDir Path cacheDirectory) throws IOException {
+        CoverageFixture fixture = new CoverageFixture();
+        for (int i = 0; i < 2; i++) {
+            fixture.assertExpectedCoverage(fixture.clauses
+                    .map(TWiseCoverageComputation::new)
+                    .set(TWiseCoverageComputation.SAMPLE, fixture.sample)
+                    .set(TWiseCoverageComputation.T, 2)
+                    .set(TWiseCoverageComputation.VALIDITY_CACHE, cacheDirectory)
+                    .compute());
+        }
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertEquals(1, files.count());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.analysis.sat4j.solver.MUSEnumerator;
+import de.featjar.formula.assignment.BooleanClause;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class MUSEnumeratorTest {
+
+    private static final BooleanClause A = new BooleanClause(1);
+    private static final BooleanClause NOT_A = new BooleanClause(-1);
+    private static final BooleanClause B = new BooleanClause(2);
+    private static final BooleanClause NOT_A_OR_NOT_B = new BooleanClause(-1, -2);
+    private static final BooleanClause C = new BooleanClause(3);
+
+    private final List<BooleanClause> clauses = List.of(A, NOT_A, B, NOT_A_OR_NOT_B, C);
+
+    private final Set<Set<List<Integer>>> expectedMUSes =
+            Set.of(toSet(List.of(A, NOT_A)), toSet(List.of(A, B, NOT_A_OR_NOT_B)));
+
+    @Test
+    void allMUSesAreEnumerated() {
+        MUSEnumerator enumerator = new MUSEnumerator(clauses, new int[0], 3);
+        List<List<BooleanClause>> muses = new ArrayList<>();
+        assertTrue(enumerator.enumerate(Integer.MAX_VALUE, Duration.ZERO, muses::add));
+        assertFalse(enumerator.isTimeoutOccurred());
+        assertEquals(expectedMUSes, toSets(muses));
+    }
+
+    @Test
+    void enumerationContinuesAfterLimit() {
+        MUSEnumerator enumerator = new MUSEnumerator(clauses, new int[0], 3);
+        List<List<BooleanClause>> muses = new ArrayList<>();
+        assertFalse(enumerator.enumerate(1, Duration.ZERO, muses::add));
+        assertEquals(1, muses.size());
+        assertTrue(enumerator.enumerate(Integer.MAX_VALUE, Duration.ZERO, muses::add));
+        assertEquals(expectedMUSes, toSets(muses));
+    }
+
+    @Test
+    void assumptionsRestrictMUSes() {
+        MUSEnumerator enumerator = new MUSEnumerator(clauses, new int[] {-2}, 3);
+        List<List<BooleanClause>> muses = new ArrayList<>();
+        assertTrue(enumerator.enumerate(Integer.MAX_VALUE, Duration.ZERO, muses::add));
+        assertEquals(Set.of(toSet(List.of(A, NOT_A)), toSet(List.of(B))), toSets(muses));
+    }
+
+    @Test
+    void exceededBudgetReturnsPartialResult() {
+        MUSEnumerator enumerator = new MUSEnumerator(clauses, new int[0], 3);
+        List<List<BooleanClause>> muses = new ArrayList<>();
+        assertFalse(enumerator.enumerate(Integer.MAX_VALUE, Duration.ofNanos(1), muses::add));
+        assertTrue(enumerator.isTimeoutOccurred());
+        assertTrue(expectedMUSes.containsAll(toSets(muses)));
+
+        assertTrue(enumerator.enumerate(Integer.MAX_VALUE, Duration.ZERO, muses::add));
+        assertFalse(enumerator.isTimeoutOccurred());
+        assertEquals(expectedMUSes, toSets(muses));
+    }
+
+    private static Set<Set<List<Integer>>> toSets(List<List<BooleanClause>> muses) {
+        return muses.stream().map(MUSEnumeratorTest::toSet).collect(Collectors.toSet());
+    }
+
+    private static Set<List<Integer>> toSet(List<BooleanClause> mus) {
+        Set<List<Integer>> set = new HashSet<>();
+        for (BooleanClause clause : mus) {
+            set.add(Arrays.stream(clause.get()).boxed().collect(Collectors.toList()));
+        }
+        return set;
+    }
+}
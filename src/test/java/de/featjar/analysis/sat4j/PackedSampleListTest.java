@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.analysis.sat4j.twise.PackedSampleList;
+import de.featjar.formula.assignment.BooleanSolution;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class PackedSampleListTest {
+
+    @Test
+    void completeConfigurationsRoundTrip() {
+        for (int variableCount : new int[] {1, 63, 64, 65, 130}) {
+            List<int[]> configurations = randomConfigurations(new Random(variableCount), variableCount, 50, false);
+            PackedSampleList sample = new PackedSampleList(variableCount);
+            configurations.forEach(sample::add);
+
+            assertTrue(sample.isComplete());
+            assertEquals(configurations.size(), sample.size());
+            for (int i = 0; i < configurations.size(); i++) {
+                assertArrayEquals(configurations.get(i), sample.get(i));
+            }
+            int i = 0;
+            for (BooleanSolution solution : sample) {
+                assertArrayEquals(configurations.get(i++), solution.get());
+            }
+        }
+    }
+
+    @Test
+    void partialConfigurationsRoundTrip() {
+        int variableCount = 70;
+        Random random = new Random(1);
+        List<int[]> configurations = randomConfigurations(random, variableCount, 20, false);
+        configurations.addAll(randomConfigurations(random, variableCount, 20, true));
+        configurations.addAll(randomConfigurations(random, variableCount, 20, false));
+        PackedSampleList sample = new PackedSampleList(variableCount);
+        configurations.forEach(sample::add);
+
+        assertFalse(sample.isComplete());
+        for (int i = 0; i < configurations.size(); i++) {
+            assertArrayEquals(configurations.get(i), sample.get(i));
+            for (int v = 1; v <= variableCount; v++) {
+                assertEquals(configurations.get(i)[v - 1], sample.getValue(i, v));
+            }
+        }
+    }
+
+    @Test
+    void literalListsAreStoredInSolutionForm() {
+        PackedSampleList sample = new PackedSampleList(4);
+        sample.add(new int[] {-3, 1});
+        assertArrayEquals(new int[] {1, 0, -3, 0}, sample.get(0));
+        assertTrue(sample.containsAll(0, new int[] {1, -3}));
+        assertFalse(sample.containsAll(0, new int[] {1, 2}));
+        assertFalse(sample.containsAll(0, new int[] {-2}));
+    }
+
+    @Test
+    void setAndUnsetChangeSingleVariables() {
+        PackedSampleList sample = new PackedSampleList(100);
+        sample.add(randomConfigurations(new Random(2), 100, 1, false).get(0));
+        int[] expected = sample.get(0);
+
+        sample.set(0, 64);
+        sample.set(0, -65);
+        sample.set(0, 1);
+        expected[63] = 64;
+        expected[64] = -65;
+        expected[0] = 1;
+        assertArrayEquals(expected, sample.get(0));
+        assertTrue(sample.isComplete());
+
+        sample.unset(0, 65);
+        expected[64] = 0;
+        assertFalse(sample.isComplete());
+        assertArrayEquals(expected, sample.get(0));
+        assertEquals(0, sample.getValue(0, 65));
+        assertFalse(sample.covers(new int[] {-65}));
+
+        sample.set(0, -65);
+        expected[64] = -65;
+        assertArrayEquals(expected, sample.get(0));
+        assertTrue(sample.covers(new int[] {64, -65}));
+    }
+
+    @Test
+    void sampleGrowsBeyondInitialCapacity() {
+        int variableCount = 129;
+        List<int[]> configurations = randomConfigurations(new Random(3), variableCount, 1000, false);
+        PackedSampleList sample = new PackedSampleList(variableCount, 1);
+        for (int i = 0; i < configurations.size(); i++) {
+            sample.add(configurations.get(i));
+            assertEquals(i + 1, sample.size());
+        }
+        for (int i = 0; i < configurations.size(); i++) {
+            assertArrayEquals(configurations.get(i), sample.get(i));
+        }
+
+        sample.unset(0, 1);
+        sample.add(configurations.get(0));
+        assertArrayEquals(configurations.get(0), sample.get(configurations.size()));
+        assertEquals(0, sample.getValue(0, 1));
+    }
+
+    @Test
+    void invalidIndicesAreRejected() {
+        PackedSampleList sample = new PackedSampleList(3);
+        assertThrows(IndexOutOfBoundsException.class, () -> sample.get(0));
+        sample.add(new int[] {1, 2, 3});
+        assertThrows(IndexOutOfBoundsException.class, () -> sample.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> sample.set(-1, 1));
+    }
+
+    private static List<int[]> randomConfigurations(Random random, int variableCount, int count, boolean partial) {
+        List<int[]> configurations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int[] configuration = new int[variableCount];
+            for (int v = 1; v <= variableCount; v++) {
+                if (!partial || random.nextInt(3) > 0) {
+                    configuration[v - 1] = random.nextBoolean() ? v : -v;
+                }
+            }
+            configurations.add(configuration);
+        }
+        return configurations;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.analysis.sat4j.solver.SAT4JAssignment;
+import org.junit.jupiter.api.Test;
+
+public class SAT4JAssignmentTest {
+
+    @Test
+    void valuesAreUpdatedInPlace() {
+        SAT4JAssignment assignment = new SAT4JAssignment();
+        assignment.setValue(3, true);
+        assignment.setValue(1, false);
+        assignment.setValue(3, false);
+        assertArrayEquals(new int[] {-3, -1}, assignment.get());
+        assertFalse(assignment.getValue(3).get());
+        assertTrue(assignment.getValue(2).isEmpty());
+    }
+
+    @Test
+    void removedValueIsReplacedByTopLiteral() {
+        SAT4JAssignment assignment = new SAT4JAssignment();
+        assignment.addAll(new int[] {1, -2, 3, -4});
+        assignment.removeValue(2);
+        assertArrayEquals(new int[] {1, -4, 3}, assignment.get());
+        assertEquals(1, assignment.indexOf(4));
+        assertEquals(-1, assignment.indexOf(2));
+    }
+
+    @Test
+    void clearKeepsLowerLiterals() {
+        SAT4JAssignment assignment = new SAT4JAssignment();
+        assignment.addAll(new int[] {1, 2});
+        assignment.add(-1);
+        assignment.add(3);
+        assignment.clear(2);
+        assertArrayEquals(new int[] {1, 2}, assignment.get());
+        assertTrue(assignment.getValue(1).get());
+        assertTrue(assignment.getValue(3).isEmpty());
+        assignment.remove(0);
+        assertTrue(assignment.getValue(1).isEmpty());
+        assertEquals(0, assignment.indexOf(2));
+    }
+
+    @Test
+    void duplicateLiteralsAreFoundAfterRemoval() {
+        SAT4JAssignment assignment = new SAT4JAssignment();
+        assignment.addAll(new int[] {1, 2, -1});
+        assignment.remove(0);
+        assertArrayEquals(new int[] {-1, 2}, assignment.get());
+        assertFalse(assignment.getValue(1).get());
+        assignment.replaceLast(4);
+        assertEquals(1, assignment.indexOf(4));
+        assertTrue(assignment.getValue(2).isEmpty());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static de.featjar.formula.structure.Expressions.and;
+import static de.featjar.formula.structure.Expressions.literal;
+import static de.featjar.formula.structure.Expressions.or;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.Common;
+import de.featjar.analysis.sat4j.computation.MIGBuilder;
+import de.featjar.analysis.sat4j.solver.ISelectionStrategy;
+import de.featjar.analysis.sat4j.solver.ModalImplicationGraph;
+import de.featjar.analysis.sat4j.solver.SAT4JSolutionIterator;
+import de.featjar.analysis.sat4j.solver.SAT4JSolutionSolver;
+import de.featjar.base.computation.Computations;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.ComputeBooleanClauseList;
+import de.featjar.formula.computation.ComputeCNFFormula;
+import de.featjar.formula.computation.ComputeNNFFormula;
+import de.featjar.formula.structure.IFormula;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class SAT4JSolutionIteratorTest extends Common {
+
+    private static final int INTERRUPTION = 10;
+
+    @Test
+    void resumedEnumerationIsComplete() {
+        assertResumedEnumerationIsComplete(getClauses(loadFormula("GPL/model.xml")), false);
+    }
+
+    @Test
+    void resumedCompactEnumerationIsComplete() {
+        assertResumedEnumerationIsComplete(getClauses(loadFormula("GPL/model.xml")), true);
+    }
+
+    @Test
+    void resumedRandomEnumerationIsComplete() {
+        BooleanClauseList clauses = getClauses(or(literal("a"), literal("b"), literal("c")));
+        for (int interruption = 0; interruption <= 8; interruption++) {
+            List<List<Integer>> solutions =
+                    enumerate(clauses, null, ISelectionStrategy.Strategy.FAST_RANDOM, interruption);
+            assertEquals(7, solutions.size());
+            assertEquals(7, new HashSet<>(solutions).size());
+        }
+    }
+
+    @Test
+    void emptyBlockingClauseEndsResumedEnumeration() {
+        BooleanClauseList clauses = getClauses(and(literal("a"), literal(false, "b")));
+        ModalImplicationGraph mig = getMIG(clauses);
+
+        SAT4JSolutionIterator iterator = new SAT4JSolutionIterator(
+                new SAT4JSolutionSolver(clauses), ISelectionStrategy.Strategy.ORIGINAL, new Random(0), 1, true, mig);
+        assertTrue(iterator.hasNext());
+        iterator.next();
+        BooleanClauseList checkpoint = iterator.getCheckpoint();
+        assertEquals(1, checkpoint.size());
+        assertEquals(0, checkpoint.getAll().get(0).size());
+
+        SAT4JSolutionSolver solver = new SAT4JSolutionSolver(clauses);
+        solver.getClauseList().addAll(checkpoint);
+        SAT4JSolutionIterator resumedIterator = new SAT4JSolutionIterator(
+                solver, ISelectionStrategy.Strategy.ORIGINAL, new Random(0), Integer.MAX_VALUE, true, mig);
+        assertFalse(resumedIterator.hasNext());
+    }
+
+    private void assertResumedEnumerationIsComplete(BooleanClauseList clauses, boolean compact) {
+        ModalImplicationGraph mig = compact ? getMIG(clauses) : null;
+        Set<List<Integer>> allSolutions = new HashSet<>(
+                enumerate(clauses, mig, ISelectionStrategy.Strategy.ORIGINAL, Integer.MAX_VALUE));
+        assertTrue(allSolutions.size() > INTERRUPTION);
+
+        List<List<Integer>> solutions = enumerate(clauses, mig, ISelectionStrategy.Strategy.ORIGINAL, INTERRUPTION);
+        assertEquals(allSolutions.size(), solutions.size());
+        assertEquals(allSolutions, new HashSet<>(solutions));
+    }
+
+    /**
+     * Enumerates all solutions, but interrupts the enumeration after a given
+     * number of solutions and resumes it with a new solver from the checkpoint.
+     */
+    private static List<List<Integer>> enumerate(
+            BooleanClauseList clauses,
+            ModalImplicationGraph mig,
+            ISelectionStrategy.Strategy strategy,
+            int interruption) {
+        List<List<Integer>> solutions = new ArrayList<>();
+        SAT4JSolutionIterator iterator = new SAT4JSolutionIterator(
+                new SAT4JSolutionSolver(clauses), strategy, new Random(1), interruption, true, mig);
+        iterator.forEachRemaining(solution -> solutions.add(toList(solution.get())));
+        if (iterator.isComplete()) {
+            return solutions;
+        }
+
+        SAT4JSolutionSolver solver = new SAT4JSolutionSolver(clauses);
+        solver.getClauseList().addAll(iterator.getCheckpoint());
+        SAT4JSolutionIterator resumedIterator =
+                new SAT4JSolutionIterator(solver, strategy, new Random(2), Integer.MAX_VALUE, true, mig);
+        resumedIterator.forEachRemaining(solution -> solutions.add(toList(solution.get())));
+        assertTrue(resumedIterator.isComplete());
+        return solutions;
+    }
+
+    private static List<Integer> toList(int[] literals) {
+        return Arrays.stream(literals).boxed().collect(Collectors.toList());
+    }
+
+    private static ModalImplicationGraph getMIG(BooleanClauseList clauses) {
+        return Computations.of(clauses).map(MIGBuilder::new).compute();
+    }
+
+    private static BooleanClauseList getClauses(IFormula formula) {
+        return Computations.of(formula)
+                .map(ComputeNNFFormula::new)
+                .map(ComputeCNFFormula::new)
+                .map(ComputeBooleanClauseList::new)
+                .compute();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.analysis.sat4j.twise.SharedSolutionPool;
+import org.junit.jupiter.api.Test;
+
+public class SharedSolutionPoolTest {
+
+    @Test
+    void addedConfigurationCoversItsLiterals() {
+        SharedSolutionPool pool = new SharedSolutionPool(3, 2);
+        assertTrue(pool.add(new int[] {1, -2, 3}));
+        assertTrue(pool.test(new int[] {1, -2}));
+        assertTrue(pool.test(new int[] {-2, 3}));
+        assertFalse(pool.test(new int[] {1, 2}));
+    }
+
+    @Test
+    void unknownVariablesAreNotCovered() {
+        SharedSolutionPool pool = new SharedSolutionPool(3, 2);
+        assertTrue(pool.add(new int[] {1, -2, 3}));
+        assertFalse(pool.test(new int[] {1, 4}));
+        assertFalse(pool.test(new int[] {-4}));
+        assertFalse(pool.test(new int[] {0, 1}));
+    }
+}
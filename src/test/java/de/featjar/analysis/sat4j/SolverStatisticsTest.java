@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.Common;
+import de.featjar.analysis.sat4j.computation.ASAT4JAnalysis;
+import de.featjar.analysis.sat4j.computation.ComputeSatisfiableSAT4J;
+import de.featjar.analysis.sat4j.computation.ComputeSolutionCountSAT4J;
+import de.featjar.analysis.sat4j.solver.SolverStatistics;
+import de.featjar.analysis.sat4j.solver.SolverStatisticsRecorder;
+import de.featjar.analysis.sat4j.twise.CoverageStatistic;
+import de.featjar.analysis.sat4j.twise.TWiseCoverageComputation;
+import de.featjar.base.computation.Computations;
+import de.featjar.base.computation.IComputation;
+import de.featjar.formula.assignment.BooleanClauseList;
+import de.featjar.formula.assignment.ComputeBooleanClauseList;
+import de.featjar.formula.computation.ComputeCNFFormula;
+import de.featjar.formula.computation.ComputeNNFFormula;
+import de.featjar.formula.structure.Expressions;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SolverStatisticsTest extends Common {
+
+    @Test
+    void recorderCountsSolverCalls() {
+        ComputeBooleanClauseList cnf = Computations.of(Expressions.and(
+                        Expressions.or(Expressions.literal("a"), Expressions.literal("b"), Expressions.literal("c")),
+                        Expressions.or(Expressions.literal(false, "a"), Expressions.literal("d"))))
+                .map(ComputeNNFFormula::new)
+                .map(ComputeCNFFormula::new)
+                .map(ComputeBooleanClauseList::new);
+        cnf.compute();
+
+        SolverStatistics statistics;
+        try (SolverStatisticsRecorder recorder = new SolverStatisticsRecorder()) {
+            cnf.map(ComputeSolutionCountSAT4J::new)
+                    .set(ComputeSolutionCountSAT4J.CUBE_BLOCKING, Boolean.FALSE)
+                    .set(ComputeSolutionCountSAT4J.STATISTICS, recorder)
+                    .compute();
+            recorder.close();
+            statistics = recorder.getStatistics();
+            assertEquals(1, recorder.getSolverCount());
+            assertTrue(recorder.toJSON().contains("\"calls\":" + statistics.getCallCount()));
+        }
+        assertTrue(statistics.getSatisfiableCount() >= 10);
+        assertEquals(1, statistics.getUnsatisfiableCount());
+        assertEquals(0, statistics.getTimeoutCount());
+        assertEquals(
+                statistics.getCallCount(), statistics.getSatisfiableCount() + statistics.getUnsatisfiableCount());
+        assertTrue(!statistics.getSAT4JStatistics().isEmpty());
+    }
+
+    @Test
+    void recordersOnlySeeTheirAnalyses() {
+        IComputation<BooleanClauseList> clauses = Computations.of(Expressions.or(
+                        Expressions.literal("a"), Expressions.literal("b"), Expressions.literal("c")))
+                .map(ComputeNNFFormula::new)
+                .map(ComputeCNFFormula::new)
+                .map(ComputeBooleanClauseList::new);
+
+        try (SolverStatisticsRecorder recorder1 = new SolverStatisticsRecorder();
+                SolverStatisticsRecorder recorder2 = new SolverStatisticsRecorder()) {
+            clauses.map(ComputeSatisfiableSAT4J::new)
+                    .set(ASAT4JAnalysis.STATISTICS, recorder1)
+                    .compute();
+            clauses.map(ComputeSatisfiableSAT4J::new)
+                    .set(ASAT4JAnalysis.STATISTICS, recorder2)
+                    .set(ASAT4JAnalysis.RANDOM_SEED, 2L)
+                    .compute();
+            clauses.map(ComputeSatisfiableSAT4J::new)
+                    .set(ASAT4JAnalysis.RANDOM_SEED, 3L)
+                    .compute();
+            recorder1.close();
+            clauses.map(ComputeSatisfiableSAT4J::new)
+                    .set(ASAT4JAnalysis.STATISTICS, recorder1)
+                    .set(ASAT4JAnalysis.RANDOM_SEED, 4L)
+                    .compute();
+
+            assertEquals(1, recorder1.getSolverCount());
+            assertEquals(1, recorder1.getStatistics().getCallCount());
+            assertEquals(1, recorder2.getSolverCount());
+            assertEquals(1, recorder2.getStatistics().getCallCount());
+            assertEquals(0, SolverStatisticsRecorder.disabled().getSolverCount());
+        }
+    }
+
+    @Test
+    void recorderCountsMIGPropagationsAndCacheHits(@TempDir Path cacheDirectory) {
+        CoverageFixture fixture = new CoverageFixture();
+        for (int i = 0; i < 2; i++) {
+            try (SolverStatisticsRecorder recorder = new SolverStatisticsRecorder()) {
+                CoverageStatistic statistic = fixture.clauses
+                        .map(TWiseCoverageComputation::new)
+                        .set(TWiseCoverageComputation.SAMPLE, fixture.sample)
+                        .set(TWiseCoverageComputation.T, 2)
+                        .set(TWiseCoverageComputation.VALIDITY_CACHE, cacheDirectory)
+                        .set(TWiseCoverageComputation.STATISTICS, recorder)
+                        .compute();
+                recorder.close();
+                fixture.assertExpectedCoverage(statistic);
+                long checked = statistic.uncovered() + statistic.invalid();
+                assertTrue(checked > 0);
+                assertEquals(i == 0 ? checked : 0, recorder.getMIGPropagationCount());
+                assertEquals(i == 0 ? 0 : checked, recorder.getValidityCacheHitCount());
+                assertTrue(recorder.getSolverCount() > 0);
+                assertTrue(recorder.toJSON()
+                        .contains("\"validityCacheHits\":" + recorder.getValidityCacheHitCount()));
+            }
+        }
+    }
+}
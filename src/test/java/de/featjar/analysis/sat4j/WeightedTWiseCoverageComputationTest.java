@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2025 FeatJAR-Development-Team
+ *
+ * This file is part of FeatJAR-FeatJAR-formula-analysis-sat4j.
+ *
+ * FeatJAR-formula-analysis-sat4j is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3.0 of the License,
+ * or (at your option) any later version.
+ *
+ * FeatJAR-formula-analysis-sat4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FeatJAR-formula-analysis-sat4j. If not, see <https://www.gnu.org/licenses/>.
+ *
+ * See <https://github.com/FeatureIDE/FeatJAR-formula-analysis-sat4j> for further information.
+ */
+package de.featjar.analysis.sat4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.featjar.analysis.sat4j.twise.IInteractionWeight;
+import de.featjar.analysis.sat4j.twise.WeightedCoverageStatistic;
+import de.featjar.analysis.sat4j.twise.WeightedCoverageStatistic.WeightedInteraction;
+import de.featjar.analysis.sat4j.twise.WeightedTWiseCoverageComputation;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WeightedTWiseCoverageComputationTest {
+
+    @Test
+    void weightedCoverageReportsHeaviestUncoveredInteractions(@TempDir Path outputDirectory) throws IOException {
+        CoverageFixture fixture = new CoverageFixture();
+        int variableCount = fixture.clauses.compute().getVariableMap().getVariableCount();
+        double[] featureWeights = new double[variableCount];
+        Arrays.setAll(featureWeights, i -> i + 1);
+        Path cacheDirectory = Files.createDirectory(outputDirectory.resolve("cache"));
+        Path csvFile = outputDirectory.resolve("interactions.csv");
+        WeightedCoverageStatistic statistic = null;
+        for (int i = 0; i < 2; i++) {
+            statistic = fixture.clauses
+                    .map(WeightedTWiseCoverageComputation::new)
+                    .set(WeightedTWiseCoverageComputation.SAMPLE, fixture.sample)
+                    .set(WeightedTWiseCoverageComputation.T, 2)
+                    .set(WeightedTWiseCoverageComputation.WEIGHT, IInteractionWeight.sumOfFeatures(featureWeights))
+                    .set(WeightedTWiseCoverageComputation.LIMIT, 5)
+                    .set(WeightedTWiseCoverageComputation.VALIDITY_CACHE, cacheDirectory)
+                    .set(WeightedTWiseCoverageComputation.INTERACTION_OUTPUT, csvFile)
+                    .compute();
+            fixture.assertExpectedCoverage(statistic);
+        }
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertEquals(1, files.count());
+        }
+        assertEquals(
+                1 + fixture.expected.uncovered() + fixture.expected.invalid(),
+                Files.readAllLines(csvFile).size());
+
+        List<WeightedInteraction> top = statistic.getTopUncoveredInteractions();
+        assertEquals(Math.min(5, statistic.uncovered()), top.size());
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).getWeight() >= top.get(i).getWeight());
+        }
+    }
+}
@@ -100,6 +100,11 @@ public class YASATest extends Common {
         bothRandom(loadFormula("models_stability_light/busybox_monthlySnapshot/2007-05-20_17-12-43/clean.dimacs"));
     }
 
+    @Test
+    void gplParallelStatisticMatchesCoverage() {
+        bothRandom(loadFormula("GPL/model.xml"));
+    }
+
     @Test
     public void benchmark() {
         benchmarkCompareSample("models_stability_light/busybox_monthlySnapshot/2007-05-20_17-12-43/clean.dimacs", 2);